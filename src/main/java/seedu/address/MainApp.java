@@ -1,9 +1,18 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -18,30 +27,39 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.BudgetBook;
+import seedu.address.model.HistorySpill;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyBudgetBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.email.EmailSummary;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryBudgetBookStorage;
 import seedu.address.storage.BudgetBookStorage;
 import seedu.address.storage.CalendarStorage;
 import seedu.address.storage.EmailDirStorage;
 import seedu.address.storage.EmailStorage;
 import seedu.address.storage.IcsCalendarStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ProfilePictureDirStorage;
 import seedu.address.storage.ProfilePictureStorage;
+import seedu.address.storage.ShardedBudgetBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.XmlAddressBookHistorySpill;
 import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.storage.XmlBudgetBookHistorySpill;
 import seedu.address.storage.XmlBudgetBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -54,6 +72,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 2, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String MIGRATED_FILE_EXTENSION = "bak";
 
     protected Ui ui;
     protected Logic logic;
@@ -62,25 +81,38 @@ public class MainApp extends Application {
     protected Config config;
     protected UserPrefs userPrefs;
 
+    /** Data still being read in the background when the main window is shown. */
+    private CompletableFuture<ReadOnlyBudgetBook> budgetBookLoading;
+    private CompletableFuture<Map<String, EmailSummary>> emailIndexLoading;
+    private long launchTime;
+    /** Writes undo history that no longer fits in memory to the hard disk, off the UI thread. */
+    private ExecutorService historySpillWriter;
+    private HistorySpill<?> addressBookHistorySpill;
+    private HistorySpill<?> budgetBookHistorySpill;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
+        launchTime = System.nanoTime();
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        BudgetBookStorage budgetBookStorage = new XmlBudgetBookStorage(userPrefs.getBudgetBookFilePath());
+        userPrefs = logPhase("user prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(
+            FileUtil.replaceExtension(userPrefs.getAddressBookFilePath(), BinaryAddressBookStorage.FILE_EXTENSION)));
+        BudgetBookStorage budgetBookStorage = new ShardedBudgetBookStorage(
+            FileUtil.removeExtension(userPrefs.getBudgetBookFilePath()));
         EmailStorage emailStorage = new EmailDirStorage(userPrefs.getEmailPath());
-        ProfilePictureStorage profilePictureStorage = new ProfilePictureDirStorage(userPrefs.getProfilePicturePath(),
-            userPrefs.getOutputProfilePicturePath());
+        ProfilePictureStorage profilePictureStorage = new ProfilePictureDirStorage(userPrefs.getProfilePicturePath());
         CalendarStorage calendarStorage = new IcsCalendarStorage(userPrefs.getCalendarPath());
-        storage = new StorageManager(addressBookStorage, budgetBookStorage, userPrefsStorage, calendarStorage,
-            emailStorage, profilePictureStorage);
+        StorageManager storageManager = new StorageManager(addressBookStorage, budgetBookStorage, userPrefsStorage,
+            calendarStorage, emailStorage, profilePictureStorage);
+        storageManager.enableWriteBehind(config.getSaveDelayMillis());
+        storageManager.enableBackgroundImageUploads(Platform::runLater);
+        storage = storageManager;
 
         initLogging(config);
 
@@ -91,22 +123,62 @@ public class MainApp extends Application {
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
+        logger.info("Initialized in " + millisSince(launchTime) + " ms");
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code
      * userPrefs}.
      * <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The budget book and the email index are read in the background while the address book is read. The budget
+     * book is moved into the model once the main window is shown and the email index when emails are first used;
+     * the model waits for them if they are used before they are read.
+     * <br>
+     * Data files named in {@code userPrefs} are migrated to {@code storage}'s files on the way, after which
+     * {@code userPrefs} names {@code storage}'s files.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        Path legacyBudgetBookFilePath = userPrefs.getBudgetBookFilePath();
+        budgetBookLoading = CompletableFuture.supplyAsync(() ->
+            logPhase("budget book", () -> initBudgetBook(storage, legacyBudgetBookFilePath)));
+        emailIndexLoading = CompletableFuture.supplyAsync(() -> logPhase("email index", () ->
+            initEmailIndex(storage)));
+
+        ReadOnlyAddressBook initialAddressData = logPhase("address book", () ->
+            initAddressBook(storage, userPrefs.getAddressBookFilePath()));
+
+        userPrefs.setAddressBookFilePath(storage.getAddressBookFilePath());
+        userPrefs.setBudgetBookFilePath(storage.getBudgetBookFilePath());
+
+        ModelManager modelManager = new ModelManager(initialAddressData, new BudgetBook(), userPrefs,
+            new HashSet<>());
+        modelManager.setPendingBudgetBook(budgetBookLoading);
+        modelManager.setPendingEmailIndex(emailIndexLoading);
+        historySpillWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "undo-history-spill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        XmlAddressBookHistorySpill addressBookSpill = new XmlAddressBookHistorySpill(userPrefs.getUndoHistoryPath());
+        XmlBudgetBookHistorySpill budgetBookSpill = new XmlBudgetBookHistorySpill(userPrefs.getUndoHistoryPath());
+        // undo history of an earlier session holds residents' data that can no longer be undone to
+        addressBookSpill.clear();
+        budgetBookSpill.clear();
+        addressBookHistorySpill = addressBookSpill;
+        budgetBookHistorySpill = budgetBookSpill;
+        modelManager.setHistorySpills(addressBookSpill, budgetBookSpill, historySpillWriter);
+        return modelManager;
+    }
+
+    /**
+     * Returns the address book in {@code storage}, migrating it from {@code legacyFilePath} if needed.
+     * The sample address book is returned instead if there is none, or an empty address book if it cannot be read.
+     */
+    private ReadOnlyAddressBook initAddressBook(Storage storage, Path legacyFilePath) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyBudgetBook> budgetBookOptional;
         ReadOnlyAddressBook initialAddressData;
-        ReadOnlyBudgetBook initialBudgetData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = readAddressBook(storage, legacyFilePath);
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
@@ -118,9 +190,17 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialAddressData = new AddressBook();
         }
+        return initialAddressData;
+    }
 
+    /**
+     * Returns the budget book in {@code storage} in the same way as {@link #initAddressBook(Storage, Path)}.
+     */
+    private ReadOnlyBudgetBook initBudgetBook(Storage storage, Path legacyFilePath) {
+        Optional<ReadOnlyBudgetBook> budgetBookOptional;
+        ReadOnlyBudgetBook initialBudgetData;
         try {
-            budgetBookOptional = storage.readBudgetBook();
+            budgetBookOptional = readBudgetBook(storage, legacyFilePath);
             if (!budgetBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample BudgetBook");
             }
@@ -132,12 +212,98 @@ public class MainApp extends Application {
             logger.warning("Data file not in the correct format. Will be starting with an empty BudgetBook");
             initialBudgetData = new BudgetBook();
         }
+        return initialBudgetData;
+    }
+
+    /**
+     * Returns the email index of {@code storage}'s email directory, or an empty index if it cannot be read.
+     */
+    private Map<String, EmailSummary> initEmailIndex(Storage storage) {
+        try {
+            return storage.readEmailIndex();
+        } catch (IOException e) {
+            logger.warning("Problem while reading the email directory. Will be starting with no emails");
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Runs {@code phase} of the startup and logs how long it took.
+     */
+    private static <T> T logPhase(String name, Supplier<T> phase) {
+        long start = System.nanoTime();
+        T result = phase.get();
+        logger.info("Loaded " + name + " in " + millisSince(start) + " ms");
+        return result;
+    }
+
+    private static long millisSince(long nanoTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoTime);
+    }
+
+    /**
+     * Returns the address book in {@code storage}, first migrating it from the xml file at {@code xmlFilePath} if
+     * that file exists and is not {@code storage}'s own file.
+     * The xml file is then backed up with a {@code .bak} suffix, even if it could not be read, so that it is only
+     * migrated once; if the migrated data cannot be saved, it is left in place to be migrated on the next start.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBook(Storage storage, Path xmlFilePath)
+            throws DataConversionException, IOException {
+        if (xmlFilePath.equals(storage.getAddressBookFilePath()) || !Files.exists(xmlFilePath)) {
+            return storage.readAddressBook();
+        }
 
-        //        storage.readXslFile(userPrefs.getCcaXslFilePath());
+        logger.info("Migrating " + xmlFilePath + " to " + storage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> xmlData;
+        try {
+            xmlData = new XmlAddressBookStorage(xmlFilePath).readAddressBook();
+        } catch (DataConversionException e) {
+            backUpMigratedFile(xmlFilePath);
+            throw e;
+        }
+        if (xmlData.isPresent()) {
+            storage.saveAddressBook(xmlData.get());
+        }
+        backUpMigratedFile(xmlFilePath);
+        return xmlData;
+    }
 
-        Set<String> emailNamesSet = storage.readEmailFiles();
+    /**
+     * Returns the budget book in {@code storage}, first migrating it from the file at {@code legacyFilePath} in
+     * the same way as {@link #readAddressBook(Storage, Path)}.
+     * The file may be a binary snapshot, as kept before the budget book was sharded, or an xml file.
+     */
+    private Optional<ReadOnlyBudgetBook> readBudgetBook(Storage storage, Path legacyFilePath)
+            throws DataConversionException, IOException {
+        if (legacyFilePath.equals(storage.getBudgetBookFilePath()) || !Files.isRegularFile(legacyFilePath)) {
+            return storage.readBudgetBook();
+        }
 
-        return new ModelManager(initialAddressData, initialBudgetData, userPrefs, emailNamesSet);
+        logger.info("Migrating " + legacyFilePath + " to " + storage.getBudgetBookFilePath());
+        boolean isBinary = legacyFilePath.toString().endsWith("." + BinaryBudgetBookStorage.FILE_EXTENSION);
+        BudgetBookStorage legacyStorage = isBinary
+            ? new BinaryBudgetBookStorage(legacyFilePath)
+            : new XmlBudgetBookStorage(legacyFilePath);
+        Optional<ReadOnlyBudgetBook> legacyData;
+        try {
+            legacyData = legacyStorage.readBudgetBook();
+        } catch (DataConversionException e) {
+            backUpMigratedFile(legacyFilePath);
+            throw e;
+        }
+        if (legacyData.isPresent()) {
+            storage.saveBudgetBook(legacyData.get());
+        }
+        backUpMigratedFile(legacyFilePath);
+        return legacyData;
+    }
+
+    /**
+     * Backs up {@code file} by adding a {@code .bak} suffix to its name, replacing any earlier backup.
+     */
+    private void backUpMigratedFile(Path file) throws IOException {
+        Files.move(file, file.resolveSibling(file.getFileName() + "." + MIGRATED_FILE_EXTENSION),
+            StandardCopyOption.REPLACE_EXISTING);
     }
 
     private void initLogging(Config config) {
@@ -220,21 +386,46 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Main window shown " + millisSince(launchTime) + " ms after launch");
+
+        ModelManager modelManager = (ModelManager) model;
+        budgetBookLoading.thenRunAsync(modelManager::awaitPendingBudgetBook, Platform::runLater);
+        CompletableFuture.allOf(budgetBookLoading, emailIndexLoading).thenRun(() ->
+            logger.info("Finished loading " + millisSince(launchTime) + " ms after launch"));
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushPendingSaves();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        clearUndoHistory();
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Deletes the undo history moved to the hard disk, once any write of it in progress is done.
+     */
+    private void clearUndoHistory() {
+        if (historySpillWriter == null) {
+            return;
+        }
+        historySpillWriter.shutdownNow();
+        try {
+            historySpillWriter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        addressBookHistorySpill.clear();
+        budgetBookHistorySpill.clear();
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
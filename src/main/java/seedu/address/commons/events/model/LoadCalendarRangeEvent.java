@@ -0,0 +1,24 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates the calendars of a range of months have been requested to be loaded together
+ */
+public class LoadCalendarRangeEvent extends BaseEvent {
+
+    public final List<String> calendarNames;
+    public final String rangeName;
+
+    public LoadCalendarRangeEvent(List<String> calendarNames, String rangeName) {
+        this.calendarNames = calendarNames;
+        this.rangeName = rangeName;
+    }
+
+    @Override
+    public String toString() {
+        return "request for calendars " + calendarNames + " to be loaded as " + rangeName;
+    }
+}
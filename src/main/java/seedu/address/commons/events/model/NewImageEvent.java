@@ -1,6 +1,8 @@
 package seedu.address.commons.events.model;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.Map;
 
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.person.Room;
@@ -8,20 +10,22 @@ import seedu.address.model.person.Room;
 //@@author javenseow
 
 /**
- * Indicates the Profile Picture file has been read.
+ * Indicates the Profile Picture files of one upload have been chosen, each for the resident of its room.
  */
 public class NewImageEvent extends BaseEvent {
 
-    public final File file;
-    public final Room room;
+    public final Map<Room, File> photos;
 
     public NewImageEvent(File file, Room room) {
-        this.file = file;
-        this.room = room;
+        this(Collections.singletonMap(room, file));
+    }
+
+    public NewImageEvent(Map<Room, File> photos) {
+        this.photos = photos;
     }
 
     @Override
     public String toString() {
-        return file.toString();
+        return photos.values().toString();
     }
 }
@@ -0,0 +1,27 @@
+package seedu.address.commons.events.storage;
+
+import java.util.List;
+
+import net.fortuna.ical4j.model.Calendar;
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates the calendars of a range of months have been loaded
+ */
+public class CalendarRangeLoadedEvent extends BaseEvent {
+
+    public final List<String> calendarNames;
+    public final List<Calendar> calendars;
+    public final String rangeName;
+
+    public CalendarRangeLoadedEvent(List<String> calendarNames, List<Calendar> calendars, String rangeName) {
+        this.calendarNames = calendarNames;
+        this.calendars = calendars;
+        this.rangeName = rangeName;
+    }
+
+    @Override
+    public String toString() {
+        return calendars.size() + " calendars of " + rangeName + " loaded";
+    }
+}
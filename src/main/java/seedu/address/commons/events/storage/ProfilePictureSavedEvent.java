@@ -0,0 +1,29 @@
+package seedu.address.commons.events.storage;
+
+import java.util.Collections;
+import java.util.Map;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.person.ProfilePicture;
+import seedu.address.model.person.Room;
+
+/**
+ * Indicates the profile pictures of one upload have been saved, each for the resident of its room.
+ */
+public class ProfilePictureSavedEvent extends BaseEvent {
+
+    public final Map<Room, ProfilePicture> profilePictures;
+
+    public ProfilePictureSavedEvent(Room room, ProfilePicture profilePicture) {
+        this(Collections.singletonMap(room, profilePicture));
+    }
+
+    public ProfilePictureSavedEvent(Map<Room, ProfilePicture> profilePictures) {
+        this.profilePictures = profilePictures;
+    }
+
+    @Override
+    public String toString() {
+        return profilePictures.toString();
+    }
+}
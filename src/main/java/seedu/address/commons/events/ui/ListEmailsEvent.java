@@ -1,8 +1,12 @@
 package seedu.address.commons.events.ui;
 
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.email.EmailSummary;
 
 //@@author EatOrBeEaten
 
@@ -11,16 +15,30 @@ import seedu.address.commons.events.BaseEvent;
  */
 public class ListEmailsEvent extends BaseEvent {
 
+    private static final DateTimeFormatter SAVED_AT_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy HH:mm")
+            .withZone(ZoneId.systemDefault());
+
     private String emailListString;
 
-    public ListEmailsEvent(Set<String> emailSet) {
+    public ListEmailsEvent(Set<String> emailSet, Map<String, EmailSummary> emailIndex) {
         emailListString = "<u>List of Emails</u><br>";
-        listAsString(emailSet);
+        listAsString(emailSet, emailIndex);
     }
 
-    private void listAsString(Set<String> emailSet) {
+    /**
+     * Lists each email in {@code emailSet}, with its sender and save time if {@code emailIndex} summarises it.
+     */
+    private void listAsString(Set<String> emailSet, Map<String, EmailSummary> emailIndex) {
         for (String email : emailSet) {
             emailListString += "<br>" + email.substring(0, email.length() - 4);
+            EmailSummary summary = emailIndex.get(email);
+            if (summary == null) {
+                continue;
+            }
+            if (!summary.getFrom().isEmpty()) {
+                emailListString += " (from " + summary.getFrom() + ")";
+            }
+            emailListString += " saved " + SAVED_AT_FORMATTER.format(summary.getSavedAt());
         }
     }
 
@@ -65,6 +65,24 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the path of the file beside {@code file} with the same name but the given {@code extension}.
+     * The extension is added if {@code file} has none.
+     */
+    public static Path replaceExtension(Path file, String extension) {
+        return file.resolveSibling(removeExtension(file).getFileName() + "." + extension);
+    }
+
+    /**
+     * Returns the path of the file beside {@code file} with the same name but without its extension.
+     * Returns {@code file} itself if it has none.
+     */
+    public static Path removeExtension(Path file) {
+        String fileName = file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? file.resolveSibling(fileName.substring(0, dot)) : file;
+    }
+
     /**
      * Assumes file exists
      */
@@ -0,0 +1,38 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Holds a value that is only created the first time it is asked for.
+ */
+public class Lazy<T> implements Supplier<T> {
+
+    private Supplier<? extends T> initializer;
+    private T value;
+
+    public Lazy(Supplier<? extends T> initializer) {
+        this.initializer = requireNonNull(initializer);
+    }
+
+    /**
+     * Returns the value, creating it if this is the first time it is asked for.
+     */
+    @Override
+    public synchronized T get() {
+        if (initializer != null) {
+            value = requireNonNull(initializer.get());
+            initializer = null;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value if it has been created, without creating it.
+     */
+    public synchronized Optional<T> getIfCreated() {
+        return initializer == null ? Optional.of(value) : Optional.empty();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A map holding at most a fixed number of entries, which drops the least recently used entry to make room.
+ * Null keys and values are not allowed.
+ */
+public class LruCache<K, V> {
+
+    private final int capacity;
+    private final Map<K, V> entries;
+
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.capacity = capacity;
+        entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, marking it as the most recently used.
+     */
+    public synchronized Optional<V> get(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Caches {@code value} for {@code key} as the most recently used entry, dropping the least recently used entry
+     * if the cache is full.
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        entries.put(key, value);
+    }
+
+    /**
+     * Drops the value cached for {@code key}, if any.
+     */
+    public synchronized void remove(K key) {
+        requireNonNull(key);
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
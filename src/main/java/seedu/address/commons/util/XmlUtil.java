@@ -2,20 +2,55 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.util.JAXBSource;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Source;
+
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Helps with reading from and writing to XML files.
+ * JAXB contexts are expensive to create, so one is built per class and reused for every later call.
  */
 public class XmlUtil {
 
+    private static final String ENCODING = StandardCharsets.UTF_8.name();
+    private static final String ELEMENT_INDENT = "\n    ";
+    private static final String APPENDED_ROOT = "appended";
+    private static final String APPENDED_ROOT_START = "<" + APPENDED_ROOT + ">";
+    private static final String APPENDED_ROOT_END = "</" + APPENDED_ROOT + ">";
+
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final XMLInputFactory inputFactory = createInputFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +72,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +95,237 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns {@code data} as a {@code Source} that marshals it to xml each time it is read, so that it can be
+     * transformed without being written to a file.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static Source getSource(Object data) throws JAXBException {
+        requireNonNull(data);
+        return new JAXBSource(getContext(data.getClass()), data);
+    }
+
+    /**
+     * Reads the elements named {@code elementName} directly under the {@code rootName} root of the file one at a
+     * time, passing each to {@code handler} as soon as it is unmarshalled, so that only one element is held in
+     * memory at any point. Other elements under the root are skipped.
+     *
+     * @param file         Points to a valid xml file whose root element is {@code rootName}. Cannot be null.
+     * @param elementClass The class corresponding to each element. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     * @throws IllegalValueException Thrown by {@code handler} if an element holds invalid data.
+     */
+    public static <T> void readElementsFromFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, ElementHandler<? super T> handler)
+            throws IOException, JAXBException, IllegalValueException {
+
+        requireNonNull(file);
+        requireNonNull(rootName);
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            readElements(in, rootName, elementName, elementClass, handler);
+        }
+    }
+
+    /**
+     * Appends {@code element} to the file as a single {@code elementName} element on its own line, creating the
+     * file if it is missing. The file as a whole is not a well-formed document; it is read back with
+     * {@link #readAppendedElementsFromFile}.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> void appendElementToFile(Path file, String elementName, Class<T> elementClass, T element)
+            throws IOException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(element);
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        m.marshal(new JAXBElement<>(new QName(elementName), elementClass, element), buffer);
+        buffer.write('\n');
+        // a single write, so that a crash leaves at most one partial element at the end of the file
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            buffer.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads the elements appended to the file by {@link #appendElementToFile} in order, passing each to
+     * {@code handler} as soon as it is unmarshalled.
+     * If the file is malformed, every element before the malformed part has been handled when this throws.
+     *
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file does not have the correct format.
+     * @throws IllegalValueException Thrown by {@code handler} if an element holds invalid data.
+     */
+    public static <T> void readAppendedElementsFromFile(Path file, String elementName, Class<T> elementClass,
+            ElementHandler<? super T> handler) throws IOException, JAXBException, IllegalValueException {
+
+        requireNonNull(file);
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                new ByteArrayInputStream(APPENDED_ROOT_START.getBytes(StandardCharsets.UTF_8)),
+                Files.newInputStream(file),
+                new ByteArrayInputStream(APPENDED_ROOT_END.getBytes(StandardCharsets.UTF_8)))))) {
+            readElements(in, APPENDED_ROOT, elementName, elementClass, handler);
+        }
+    }
+
+    /**
+     * Saves {@code elements} in the file in xml format, as {@code elementName} elements under a {@code rootName}
+     * root. Each element is marshalled and written out before the next is requested from {@code elements}, so
+     * passing a lazily converting {@code Iterable} keeps only one converted element in memory at any point.
+     * Each element is written on its own line.
+     *
+     * @param file Points to an existing file. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if there is an error during converting the data
+     *                               into xml and writing to the file.
+     */
+    public static <T> void saveElementsToFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, Iterable<? extends T> elements) throws IOException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(rootName);
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(elements);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        QName elementQName = new QName(elementName);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+            try {
+                writer.writeStartDocument(ENCODING, "1.0");
+                writer.writeCharacters("\n");
+                writer.writeStartElement(rootName);
+                for (T element : elements) {
+                    writer.writeCharacters(ELEMENT_INDENT);
+                    m.marshal(new JAXBElement<>(elementQName, elementClass, element), writer);
+                }
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+                writer.writeEndDocument();
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the {@code elementName} elements under the {@code rootName} root of {@code in}, passing each to
+     * {@code handler} as soon as it is unmarshalled.
+     */
+    private static <T> void readElements(InputStream in, String rootName, String elementName,
+            Class<T> elementClass, ElementHandler<? super T> handler) throws JAXBException, IllegalValueException {
+        Unmarshaller um = getContext(elementClass).createUnmarshaller();
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!rootName.equals(reader.getLocalName())) {
+                    throw new JAXBException("Expected root element <" + rootName + "> but found <"
+                            + reader.getLocalName() + ">");
+                }
+                reader.next();
+                while (reader.getEventType() != XMLStreamConstants.END_ELEMENT) {
+                    if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                        reader.next();
+                    } else if (elementName.equals(reader.getLocalName())) {
+                        // leaves the reader on the event after the element's end tag
+                        handler.handle(um.unmarshal(reader, elementClass).getValue());
+                    } else {
+                        skipElement(reader);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the cached {@code JAXBContext} for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existing = contexts.putIfAbsent(type, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Creates the shared {@code XMLInputFactory}, with external entities disabled.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Skips past the element whose start tag {@code reader} is on, leaving it on the event after the end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
+    /**
+     * Receives the elements read by {@link #readElementsFromFile}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
 }
@@ -4,6 +4,7 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyBudgetBook;
 import seedu.address.model.cca.Cca;
 import seedu.address.model.person.Person;
 
@@ -28,4 +29,7 @@ public interface Logic {
 
     /** Returns an unmodifiable view of the filtered list of CCAs */
     ObservableList<Cca> getFilteredCcaList();
+
+    /** Returns the budget book */
+    ReadOnlyBudgetBook getBudgetBook();
 }
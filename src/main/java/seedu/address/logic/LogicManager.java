@@ -11,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyBudgetBook;
 import seedu.address.model.cca.Cca;
 import seedu.address.model.person.Person;
 
@@ -46,6 +47,11 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredCcaList();
     }
 
+    @Override
+    public ReadOnlyBudgetBook getBudgetBook() {
+        return model.getBudgetBook();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -6,6 +6,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
+import java.util.List;
+
+import net.fortuna.ical4j.model.component.VEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -73,8 +76,10 @@ public class AddAllDayEventCommand extends Command {
             return new CommandResult(String.format(MESSAGE_EXISTING_EVENT, month + "-" + year));
         }
 
+        List<VEvent> clashingEvents = model.getClashingEvents(year, month, date);
         model.createAllDayEvent(year, month, date, title);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, date + "/" + month + "/" + year + " - " + title));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, date + "/" + month + "/" + year + " - " + title)
+                + AddEventCommand.describeClashes(clashingEvents));
     }
 
     @Override
@@ -11,9 +11,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_START_MIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import net.fortuna.ical4j.model.component.VEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.calendar.ClashIndex;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
 
@@ -52,6 +57,7 @@ public class AddEventCommand extends Command {
     public static final String MESSAGE_NOT_VALID_TIME = "This is not a valid time %s";
     public static final String MESSAGE_NOT_VALID_TIMEFRAME = "End Date should not be earlier than Start Date";
     public static final String MESSAGE_EXISTING_EVENT = "This event already exist in the calendar: %s";
+    public static final String MESSAGE_CLASHES = "\nThis event clashes with: %s";
 
     private final Month month;
     private final Year year;
@@ -122,9 +128,24 @@ public class AddEventCommand extends Command {
             return new CommandResult(String.format(MESSAGE_EXISTING_EVENT, month + "-" + year));
         }
 
+        List<VEvent> clashingEvents = model.getClashingEvents(year, month, startDate, startHour, startMin,
+                endDate, endHour, endMin);
         model.createEvent(year, month, startDate, startHour, startMin, endDate, endHour, endMin, title);
         return new CommandResult(String.format(MESSAGE_SUCCESS, startDate + "/" + month + "/" + year
-                + " - " + endDate + "/" + month + "/" + year + " [" + title + "]"));
+                + " - " + endDate + "/" + month + "/" + year + " [" + title + "]")
+                + describeClashes(clashingEvents));
+    }
+
+    /**
+     * Returns the line listing the events the new event clashes with, or an empty string if it clashes with none.
+     */
+    static String describeClashes(List<VEvent> clashingEvents) {
+        if (clashingEvents.isEmpty()) {
+            return "";
+        }
+        return String.format(MESSAGE_CLASHES, clashingEvents.stream()
+                .map(ClashIndex::describe)
+                .collect(Collectors.joining(", ")));
     }
 
     @Override
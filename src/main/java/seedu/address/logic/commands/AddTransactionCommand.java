@@ -8,8 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARKS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CCAS;
 
-import java.util.List;
-
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.TransactionMath;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -75,21 +73,8 @@ public class AddTransactionCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        List<Cca> lastShownList = model.getFilteredCcaList();
-
-        if (!model.hasCca(cca)) {
-            throw new CommandException(MESSAGE_NON_EXISTENT_CCA);
-        }
-
-        int index = 0;
-        for (Cca c : lastShownList) {
-            if (c.getCcaName().equals(cca.getNameOfCca())) {
-                break;
-            }
-            index++;
-        }
-
-        Cca ccaToUpdate = lastShownList.get(index);
+        Cca ccaToUpdate = model.getBudgetBook().getCca(cca)
+            .orElseThrow(() -> new CommandException(MESSAGE_NON_EXISTENT_CCA));
         int entryNum = ccaToUpdate.getEntrySize() + 1;
         Entry newEntry = new Entry (entryNum, this.date, this.amount, this.remarks);
         Cca updatedCca = ccaToUpdate.addNewTransaction(newEntry);
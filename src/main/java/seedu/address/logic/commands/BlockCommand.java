@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists all persons in address book who stay in the specified block, or on the specified floor of a block.
+ * Block matching is case insensitive.
+ */
+public class BlockCommand extends Command {
+    public static final String COMMAND_WORD = "block";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all residents staying in the specified block, "
+            + "or on the specified floor of the block, and displays them as a list with index numbers.\n"
+            + "Parameters: BLOCK[FLOOR]\n"
+            + "Example: " + COMMAND_WORD + " A\n"
+            + "Example: " + COMMAND_WORD + " A3";
+
+    private final String block;
+    private final String floor;
+
+    /**
+     * Creates a BlockCommand to list the residents of the whole {@code block}.
+     */
+    public BlockCommand(String block) {
+        this(block, null);
+    }
+
+    /**
+     * Creates a BlockCommand to list the residents on {@code floor} of {@code block}.
+     * A null {@code floor} lists the whole block.
+     */
+    public BlockCommand(String block, String floor) {
+        requireNonNull(block);
+        this.block = block;
+        this.floor = floor;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        List<Person> residents = floor == null
+                ? addressBook.getPersonsInBlock(block)
+                : addressBook.getPersonsOnFloor(block, floor);
+        Set<Person> toShow = new HashSet<>(residents);
+        model.updateFilteredPersonList(toShow::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BlockCommand // instance of handles null
+                && block.equalsIgnoreCase(((BlockCommand) other).block)
+                && Objects.equals(floor, ((BlockCommand) other).floor));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(block.toUpperCase(), floor);
+    }
+}
@@ -49,8 +49,6 @@ public class BudgetCommand extends Command {
             throw new CommandException(MESSAGE_NON_EXISTENT_CCA);
         }
 
-        model.initialiseBudgetBook();
-        model.readXslFile();
         EventsCenter.getInstance().post(new ShowBudgetViewEvent(ccaName));
         return new CommandResult(SHOWING_BUDGET_MESSAGE);
     }
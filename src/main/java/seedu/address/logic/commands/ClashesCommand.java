@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.calendar.ClashIndex;
+import seedu.address.model.calendar.Month;
+import seedu.address.model.calendar.Year;
+
+/**
+ * Lists the events that clash with each other from a start month to an end month.
+ * The calendars of the range are loaded first, so that every one of their events is checked.
+ */
+public class ClashesCommand extends Command {
+    public static final String COMMAND_WORD = "clashes";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the events that clash from a start month "
+        + "to an end month. "
+        + "Parameters: "
+        + PREFIX_FROM + "MMM-YYYY "
+        + PREFIX_TO + "MMM-YYYY\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_FROM + "AUG-2018 "
+        + PREFIX_TO + "DEC-2018 ";
+
+    public static final String MESSAGE_SUCCESS = "%1$d clashes found in: %2$s";
+    public static final String MESSAGE_NO_CLASHES = "No clashes found in: %s";
+
+    private final Month startMonth;
+    private final Year startYear;
+    private final Month endMonth;
+    private final Year endYear;
+
+    public ClashesCommand(Month startMonth, Year startYear, Month endMonth, Year endYear) {
+        requireNonNull(startMonth);
+        requireNonNull(startYear);
+        requireNonNull(endMonth);
+        requireNonNull(endYear);
+        this.startMonth = startMonth;
+        this.startYear = startYear;
+        this.endMonth = endMonth;
+        this.endYear = endYear;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isValidCalendarRange(startYear, startMonth, endYear, endMonth)) {
+            throw new CommandException(ViewCalendarRangeCommand.MESSAGE_INVALID_RANGE);
+        }
+
+        List<String> calendarNames = model.getExistingCalendarsInRange(startYear, startMonth, endYear, endMonth);
+        if (calendarNames.isEmpty()) {
+            throw new CommandException(ViewCalendarRangeCommand.MESSAGE_NO_EXISTING_CALENDAR);
+        }
+
+        model.loadCalendarRange(startYear, startMonth, endYear, endMonth);
+        List<ClashIndex.Clash> clashes = model.getClashes(startYear, startMonth, endYear, endMonth);
+        String range = String.join(", ", calendarNames);
+        if (clashes.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_CLASHES, range));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, clashes.size(), range));
+        for (int i = 0; i < clashes.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(clashes.get(i));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ClashesCommand // instanceof handles nulls
+            && startMonth.equals(((ClashesCommand) other).startMonth)
+            && startYear.equals(((ClashesCommand) other).startYear)
+            && endMonth.equals(((ClashesCommand) other).endMonth)
+            && endYear.equals(((ClashesCommand) other).endYear));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startMonth, startYear, endMonth, endYear);
+    }
+}
@@ -3,13 +3,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.person.ContactContainsRoomPredicate;
-import seedu.address.model.person.ContactContainsTagPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Room;
 import seedu.address.model.tag.Tag;
@@ -83,16 +83,15 @@ public class ClearCommand extends Command {
      * @return CommandResult
      */
     private CommandResult clearSpecific(Model model) {
-        ContactContainsTagPredicate predicateTag = new ContactContainsTagPredicate(target);
-        ContactContainsRoomPredicate predicateRoom = new ContactContainsRoomPredicate(target);
-        List<Person> toClear = new ArrayList<>();
-        List<Person> fullList = model.getAddressBook().getPersonList();
-        for (Person p : fullList) {
-            if (isClearRoom && predicateRoom.test(p) && !toClear.contains(p)) {
-                toClear.add(p);
+        Set<Person> toClear = new LinkedHashSet<>();
+        if (isClearRoom) {
+            for (String s : target) {
+                toClear.addAll(model.getAddressBook().getPersonsInRoom(s));
             }
-            if (isClearTag && predicateTag.test(p) && !toClear.contains(p)) {
-                toClear.add(p);
+        }
+        if (isClearTag) {
+            for (String s : target) {
+                toClear.addAll(model.getAddressBook().getPersonsWithTag(s));
             }
         }
 
@@ -100,7 +99,7 @@ public class ClearCommand extends Command {
             return new CommandResult(String.format(MESSAGE_CLEAR_NOTHING, target));
         }
 
-        model.clearMultiplePersons(toClear);
+        model.clearMultiplePersons(new ArrayList<>(toClear));
         model.commitAddressBook();
         return new CommandResult(String.format(MESSAGE_CLEAR_SPECIFIC_SUCCESS, target));
     }
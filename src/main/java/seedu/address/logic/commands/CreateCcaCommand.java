@@ -43,7 +43,7 @@ public class CreateCcaCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasCca(toAdd)) {
+        if (model.hasCca(toAdd.getName())) {
             throw new CommandException(MESSAGE_DUPLICATE_CCA);
         }
 
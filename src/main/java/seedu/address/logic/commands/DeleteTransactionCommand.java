@@ -5,8 +5,6 @@ import static seedu.address.logic.commands.UpdateCommand.MESSAGE_NON_EXISTENT_CC
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CCAS;
 
-import java.util.List;
-
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.TransactionMath;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -49,20 +47,8 @@ public class DeleteTransactionCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        List<Cca> lastShownList = model.getFilteredCcaList();
-        if (!model.hasCca(targetCca)) {
-            throw new CommandException(MESSAGE_NON_EXISTENT_CCA);
-        }
-
-        int index = 0;
-        for (Cca c : lastShownList) {
-            if (c.getCcaName().equals(targetCca.getNameOfCca())) {
-                break;
-            }
-            index++;
-        }
-
-        Cca ccaToUpdate = lastShownList.get(index);
+        Cca ccaToUpdate = model.getBudgetBook().getCca(targetCca)
+            .orElseThrow(() -> new CommandException(MESSAGE_NON_EXISTENT_CCA));
         Entry entryToBeDeleted = ccaToUpdate.getEntry(entryIndex);
         Cca updatedCca = ccaToUpdate.removeTransaction(entryToBeDeleted);
         updatedCca = TransactionMath.updateDetails(updatedCca);
@@ -4,12 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.person.ContactContainsTagPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -27,21 +27,16 @@ public class EraseCommand extends Command {
     public static final String MESSAGE_ERASE_SUCCESS = "Erased %1$s from persons in Hallper";
     public static final String MESSAGE_NOTHING_ERASED = "No persons under %1$s";
 
-    private final ContactContainsTagPredicate predicate;
-
     private final List<String> target;
     private ArrayList<Person> toErase;
     private ArrayList<Person> modifiedPersons;
-    private List<Person> fullList;
     private Set<Tag> tags;
     private Person temp;
 
     public EraseCommand(List<String> target) {
         this.target = target;
-        this.predicate = new ContactContainsTagPredicate(target);
         this.toErase = new ArrayList<>();
         this.modifiedPersons = new ArrayList<>();
-        this.fullList = new ArrayList<>();
         this.tags = new HashSet<>();
     }
 
@@ -50,13 +45,11 @@ public class EraseCommand extends Command {
         requireNonNull(model);
         toErase.clear();
         modifiedPersons.clear();
-        fullList = model.getAddressBook().getPersonList();
-
-        for (Person p : fullList) {
-            if (new ContactContainsTagPredicate(target).test(p)) {
-                toErase.add(p);
-            }
+        Set<Person> tagged = new LinkedHashSet<>();
+        for (String tag : target) {
+            tagged.addAll(model.getAddressBook().getPersonsWithTag(tag));
         }
+        toErase.addAll(tagged);
 
         for (Person p : toErase) {
             tags.clear();
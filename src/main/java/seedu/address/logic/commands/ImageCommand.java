@@ -2,34 +2,29 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-
-import javax.imageio.ImageIO;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.model.NewImageEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.FieldsContainsKeywordsPredicate;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.ProfilePicture;
 import seedu.address.model.person.Room;
-import seedu.address.model.person.School;
-import seedu.address.model.tag.Tag;
 
 /**
- * Updates the profile picture of a person to the address book.
+ * Uploads the profile picture of a resident, or of every resident with a photo in a directory, to the address book.
+ * The photos are saved in the background, and each resident gets their profile picture once it is saved.
  */
 //@@author javenseow
 public class ImageCommand extends Command {
@@ -43,74 +38,98 @@ public class ImageCommand extends Command {
     public static final String COMMAND_WORD = "image";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Uploads a profile picture to the resident of "
-            + "the specified room.\n"
-        + "Parameters: r/ROOM f/FILEPATH "
+            + "the specified room, or uploads every ROOM.jpg in a directory to the resident of that room.\n"
+        + "Parameters: r/ROOM f/FILEPATH or f/DIRECTORY "
         + "Example: " + COMMAND_WORD + " r/A123 f/C://Users/Documents/FILENAME.jpg";
 
-    public static final String MESSAGE_SUCCESS = "Profile picture uploaded for %1$s";
+    public static final String MESSAGE_SUCCESS = "Uploading profile picture for %1$s";
+    public static final String MESSAGE_DIRECTORY_SUCCESS = "Uploading profile pictures for %1$d residents: %2$s";
     public static final String INVALID_IMAGE_ERROR = "The image provided is invalid";
     public static final String FILE_PATH_ERROR = "Image should be in .jpg.";
     public static final String MESSAGE_NO_SUCH_PERSON = "There is no resident occupying that room.";
-    public static final String MESSAGE_DUPLICATE_UPLOAD = "This resident already has that profile picture.";
+    public static final String MESSAGE_NO_SUCH_DIRECTORY = "There is no such directory.";
+    public static final String MESSAGE_NO_PICTURES = "There is no ROOM.jpg of a resident in that directory.";
+
+    private static final String JPG = ".jpg";
 
     private final Room number;
     private final File filePath;
 
-    private BufferedImage image;
-    private List<Person> fullList;
-    private List<String> roomNumber;
-
     /**
      * Creates an ImageCommand to add to the specified {@code Person}
      */
     public ImageCommand(Room value, File file) {
+        requireNonNull(value);
         number = value;
         filePath = file;
-        roomNumber = new ArrayList<>();
-        roomNumber.add(value.toString());
-        fullList = new ArrayList<>();
+    }
+
+    /**
+     * Creates an ImageCommand to add each ROOM.jpg in {@code directory} to the resident of that room.
+     */
+    public ImageCommand(File directory) {
+        requireNonNull(directory);
+        number = null;
+        filePath = directory;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        fullList = model.getAddressBook().getPersonList();
-        Person resident = null;
-
-        for (Person p : fullList) {
-            if (new FieldsContainsKeywordsPredicate(roomNumber).test(p)) {
-                resident = p;
-                break;
-            }
+        if (number == null) {
+            return uploadDirectory(model);
         }
 
-        if (resident == null) {
+        List<Person> residents = model.getAddressBook().getPersonsInRoom(number.value);
+
+        if (residents.isEmpty()) {
             throw new CommandException(MESSAGE_NO_SUCH_PERSON);
         }
+        Person resident = residents.get(0);
 
         if (!isValidProfilePicture(filePath.toPath())) {
             throw new CommandException(FILE_PATH_ERROR);
         }
 
-        try {
-            image = ImageIO.read(filePath);
-        } catch (IOException e) {
+        // The photo is only read and checked once it is being saved, so that a large photo does not hold up Hallper
+        if (!filePath.isFile()) {
             throw new CommandException(INVALID_IMAGE_ERROR);
         }
         EventsCenter.getInstance().post(new NewImageEvent(filePath, number));
 
-        EditPersonProfilePicture editPersonProfilePicture = new EditPersonProfilePicture();
-        editPersonProfilePicture.setProfilePicture(new ProfilePicture(Paths.get(number.value + ".jpg")));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, resident));
+    }
 
-        Person editedPerson = createEditedProfilePicturePerson(resident, editPersonProfilePicture);
+    /**
+     * Uploads each ROOM.jpg in the directory to the resident of that room, skipping photos of rooms without one.
+     */
+    private CommandResult uploadDirectory(Model model) throws CommandException {
+        if (!filePath.isDirectory()) {
+            throw new CommandException(MESSAGE_NO_SUCH_DIRECTORY);
+        }
 
-        if (!resident.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
-            throw new CommandException(MESSAGE_DUPLICATE_UPLOAD);
+        Map<Room, File> photos = new TreeMap<>(Comparator.comparing(room -> room.value));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(filePath.toPath())) {
+            for (Path file : files) {
+                String room = file.getFileName().toString();
+                if (!isValidProfilePicture(file) || !Files.isRegularFile(file)) {
+                    continue;
+                }
+                room = room.substring(0, room.length() - JPG.length()).toUpperCase();
+                if (Room.isValidRoom(room) && !model.getAddressBook().getPersonsInRoom(room).isEmpty()) {
+                    photos.put(new Room(room), file.toFile());
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_NO_SUCH_DIRECTORY);
+        }
+        if (photos.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PICTURES);
         }
 
-        model.updatePerson(resident, editedPerson);
-        model.commitAddressBook();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, resident));
+        EventsCenter.getInstance().post(new NewImageEvent(photos));
+        return new CommandResult(String.format(MESSAGE_DIRECTORY_SUCCESS, photos.size(),
+            photos.keySet().stream().map(room -> room.value).collect(Collectors.joining(", "))));
     }
 
     /**
@@ -120,64 +139,11 @@ public class ImageCommand extends Command {
         return test.toString().matches(PROFILE_PICTURE_VALIDATION_REGEX);
     }
 
-    /**
-     * Creates and returns a {@code Person} with the details of {@code personToEdit}
-     * edited with {@code editPersonProfilePicture}.
-     */
-    private static Person createEditedProfilePicturePerson(Person personToEdit,
-                                                           EditPersonProfilePicture editPersonProfilePicture) {
-        assert personToEdit != null;
-
-        Name name = personToEdit.getName();
-        Phone phone = personToEdit.getPhone();
-        Email email = personToEdit.getEmail();
-        Room room = personToEdit.getRoom();
-        School school = personToEdit.getSchool();
-        Set<Tag> tags = personToEdit.getTags();
-
-        return new Person(name, phone, email, room, school, editPersonProfilePicture.getProfilePicture(), tags);
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ImageCommand // instanceof handles nulls
-                && number.equals(((ImageCommand) other).number)); // state check
-    }
-
-    /**
-     * Stores the {@code profilePicture} data path to edit the person with. If the field
-     * value is non-empty, it will replace the {@code profilePicture} field value of the
-     * person.
-     */
-    public static class EditPersonProfilePicture {
-        private ProfilePicture profilePicture;
-
-        public void setProfilePicture(ProfilePicture profilePicture) {
-            this.profilePicture = profilePicture;
-        }
-
-        public ProfilePicture getProfilePicture() {
-            return profilePicture;
-        }
-
-        @Override
-        public boolean equals(Object other) {
-            // short circuit if same object
-            if (other == this) {
-                return true;
-            }
-
-            // instanceof handles nulls
-            if (!(other instanceof EditPersonProfilePicture)) {
-                return false;
-            }
-
-            // state check
-            EditPersonProfilePicture e = (EditPersonProfilePicture) other;
-
-            return getProfilePicture().equals(e.getProfilePicture());
-        }
+                && Objects.equals(number, ((ImageCommand) other).number)
+                && (number != null || filePath.equals(((ImageCommand) other).filePath))); // state check
     }
 }
-
@@ -60,6 +60,22 @@ public class ImportCommand extends Command {
         requireNonNull(model);
         Document doc = parseFile();
 
+        model.startBatch();
+        try {
+            importDocument(doc, model);
+        } catch (CommandException | RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.commitBatch();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, path.getFileName()));
+    }
+
+    /**
+     * Imports the contents of {@code doc} into {@code model}, according to the type of its root element.
+     */
+    private void importDocument(Document doc, Model model) throws CommandException {
         String rootName = doc.getDocumentElement().getNodeName();
         switch (rootName) {
         case IMPORT_ADDRESSBOOK:
@@ -77,8 +93,6 @@ public class ImportCommand extends Command {
         default:
             throw new CommandException(MESSAGE_PARSE_ERR);
         }
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, path.getFileName()));
     }
 
     @Override
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import net.fortuna.ical4j.model.component.VEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.imports.EventFileReader;
+import seedu.address.model.Model;
+import seedu.address.model.calendar.EventFactory;
+import seedu.address.model.calendar.Month;
+import seedu.address.model.calendar.Year;
+
+/**
+ * Adds the events in a CSV or ics file to the monthly calendars they fall in.
+ * Each calendar is loaded and saved once, however many of the events it gets.
+ */
+public class ImportEventsCommand extends Command {
+    public static final String COMMAND_WORD = "import_events";
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String ICS_EXTENSION = ".ics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the events in a CSV or ics file to their "
+        + "monthly calendars.\n"
+        + "Each line of a CSV file is START,END,TITLE, with START and END given as yyyy-MM-dd HH:mm, "
+        + "or as yyyy-MM-dd for an all day event.\n"
+        + "Parameters: "
+        + PREFIX_FILE + "FILE\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_FILE + "C://Users/Documents/semester.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d of %2$d events added to: %3$s";
+    public static final String MESSAGE_NO_EVENTS = "There are no events in %s";
+    public static final String MESSAGE_NOT_EXISTING_CALENDARS = "These calendars don't exist in Hallper: %s";
+    public static final String MESSAGE_NOT_LOADED_CALENDARS = "\nThese calendars could not be loaded: %s";
+
+    private final Path path;
+
+    public ImportEventsCommand(Path path) {
+        requireNonNull(path);
+        this.path = path;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<VEvent> events = new EventFileReader(new EventFactory()).read(path);
+        if (events.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_EVENTS, path.getFileName()));
+        }
+
+        Map<YearMonth, List<VEvent>> eventsByMonth = new TreeMap<>();
+        for (VEvent event : events) {
+            LocalDateTime start = EventFactory.toLocalDateTime(event.getStartDate().getDate());
+            eventsByMonth.computeIfAbsent(YearMonth.from(start), month -> new ArrayList<>()).add(event);
+        }
+
+        // Check every calendar before adding to any of them
+        List<String> notExistingCalendars = new ArrayList<>();
+        for (YearMonth yearMonth : eventsByMonth.keySet()) {
+            if (!model.isExistingCalendar(toYear(yearMonth), toMonth(yearMonth))) {
+                notExistingCalendars.add(toCalendarName(yearMonth));
+            }
+        }
+        if (!notExistingCalendars.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOT_EXISTING_CALENDARS,
+                String.join(", ", notExistingCalendars)));
+        }
+
+        int added = 0;
+        List<String> updatedCalendars = new ArrayList<>();
+        List<String> notLoadedCalendars = new ArrayList<>();
+        for (Map.Entry<YearMonth, List<VEvent>> monthEvents : eventsByMonth.entrySet()) {
+            Year year = toYear(monthEvents.getKey());
+            Month month = toMonth(monthEvents.getKey());
+            if (!model.isLoadedCalendar(year, month)) {
+                model.loadCalendar(year, month);
+            }
+            // The calendar is not loaded if its ics file could not be read
+            if (!model.isLoadedCalendar(year, month)) {
+                notLoadedCalendars.add(toCalendarName(monthEvents.getKey()));
+                continue;
+            }
+            added += model.createEvents(year, month, monthEvents.getValue());
+            updatedCalendars.add(toCalendarName(monthEvents.getKey()));
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, added, events.size(), String.join(", ", updatedCalendars));
+        if (!notLoadedCalendars.isEmpty()) {
+            message += String.format(MESSAGE_NOT_LOADED_CALENDARS, String.join(", ", notLoadedCalendars));
+        }
+        return new CommandResult(message);
+    }
+
+    private static Year toYear(YearMonth yearMonth) {
+        return new Year(String.format("%04d", yearMonth.getYear()));
+    }
+
+    private static Month toMonth(YearMonth yearMonth) {
+        return Month.of(yearMonth.getMonthValue());
+    }
+
+    private static String toCalendarName(YearMonth yearMonth) {
+        return toMonth(yearMonth) + "-" + toYear(yearMonth);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ImportEventsCommand // instanceof handles nulls
+            && path.equals(((ImportEventsCommand) other).path));
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+}
@@ -11,7 +11,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 
 /**
- * Lists all emails on the computer to the user.
+ * Lists all emails on the computer to the user, from the email index rather than the emails themselves.
  */
 public class ListEmailsCommand extends Command {
 
@@ -24,7 +24,7 @@ public class ListEmailsCommand extends Command {
         requireNonNull(model);
         Set<String> existingEmails = model.getExistingEmails();
         EventsCenter.getInstance().post(new ToggleBrowserPlaceholderEvent(ToggleBrowserPlaceholderEvent.BROWSER_PANEL));
-        EventsCenter.getInstance().post(new ListEmailsEvent(existingEmails));
+        EventsCenter.getInstance().post(new ListEmailsEvent(existingEmails, model.getEmailIndex()));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -6,6 +6,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.VersionedAddressBook.NoUndoableStateException;
 
 /**
  * Reverts the {@code model}'s address book to its previous state.
@@ -24,7 +25,12 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoAddressBook();
+        try {
+            model.undoAddressBook();
+        } catch (NoUndoableStateException e) {
+            // the state was moved out of memory and can no longer be read back
+            throw new CommandException(MESSAGE_FAILURE);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
@@ -15,7 +15,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CCAS;
 
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -104,21 +103,8 @@ public class UpdateCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        List<Cca> lastShownList = model.getFilteredCcaList();
-
-        if (!model.hasCca(cca)) {
-            throw new CommandException(MESSAGE_NON_EXISTENT_CCA);
-        }
-
-        int index = 0;
-        for (Cca c : lastShownList) {
-            if (c.getCcaName().equals(cca.getNameOfCca())) {
-                break;
-            }
-            index++;
-        }
-
-        Cca ccaToEdit = lastShownList.get(index);
+        Cca ccaToEdit = model.getBudgetBook().getCca(cca)
+            .orElseThrow(() -> new CommandException(MESSAGE_NON_EXISTENT_CCA));
         Cca editedCca = createEditedCca(ccaToEdit, editCcaDescriptor);
 
         if (!editedCca.getHeadName().equals("-") && !model.hasPerson(editedCca.getHead())) {
@@ -129,7 +115,7 @@ public class UpdateCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_VICE_HEAD_NAME);
         }
 
-        if (!ccaToEdit.isSameCca(editedCca) && model.hasCca(editedCca)) {
+        if (!ccaToEdit.isSameCcaName(editedCca) && model.hasCca(editedCca.getName())) {
             throw new CommandException(MESSAGE_DUPLICATE_CCA);
         }
 
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.calendar.Month;
+import seedu.address.model.calendar.Year;
+
+/**
+ * View the events of every existing Calendar from a start month to an end month together.
+ */
+public class ViewCalendarRangeCommand extends Command {
+    public static final String COMMAND_WORD = "view_calendar_range";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": View the calendars of a range of months together. "
+        + "Parameters: "
+        + PREFIX_FROM + "MMM-YYYY "
+        + PREFIX_TO + "MMM-YYYY\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_FROM + "AUG-2018 "
+        + PREFIX_TO + "DEC-2018 ";
+
+    public static final String MESSAGE_SUCCESS = "Loading %1$d calendars onto UI: %2$s";
+    public static final String MESSAGE_INVALID_RANGE = "The start month must not be after the end month";
+    public static final String MESSAGE_NO_EXISTING_CALENDAR = "There are no calendars in Hallper in this range";
+
+    private final Month startMonth;
+    private final Year startYear;
+    private final Month endMonth;
+    private final Year endYear;
+
+    public ViewCalendarRangeCommand(Month startMonth, Year startYear, Month endMonth, Year endYear) {
+        requireNonNull(startMonth);
+        requireNonNull(startYear);
+        requireNonNull(endMonth);
+        requireNonNull(endYear);
+        this.startMonth = startMonth;
+        this.startYear = startYear;
+        this.endMonth = endMonth;
+        this.endYear = endYear;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.isValidCalendarRange(startYear, startMonth, endYear, endMonth)) {
+            throw new CommandException(MESSAGE_INVALID_RANGE);
+        }
+
+        List<String> calendarNames = model.getExistingCalendarsInRange(startYear, startMonth, endYear, endMonth);
+        if (calendarNames.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_EXISTING_CALENDAR);
+        }
+
+        model.loadCalendarRange(startYear, startMonth, endYear, endMonth);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, calendarNames.size(),
+            String.join(", ", calendarNames)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ViewCalendarRangeCommand // instanceof handles nulls
+            && startMonth.equals(((ViewCalendarRangeCommand) other).startMonth)
+            && startYear.equals(((ViewCalendarRangeCommand) other).startYear)
+            && endMonth.equals(((ViewCalendarRangeCommand) other).endMonth)
+            && endYear.equals(((ViewCalendarRangeCommand) other).endYear));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startMonth, startYear, endMonth, endYear);
+    }
+}
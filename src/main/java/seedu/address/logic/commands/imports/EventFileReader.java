@@ -0,0 +1,175 @@
+package seedu.address.logic.commands.imports;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.fortuna.ical4j.data.CalendarBuilder;
+import net.fortuna.ical4j.data.ParserException;
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.DateTime;
+import net.fortuna.ical4j.model.component.VEvent;
+import net.fortuna.ical4j.model.property.DtEnd;
+import net.fortuna.ical4j.model.property.DtStart;
+import seedu.address.logic.commands.ImportEventsCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.calendar.EventFactory;
+
+/**
+ * Reads the events in a CSV or ics file, as events of Hallper's calendars.
+ * <p>
+ * Each line of a CSV file is {@code START,END,TITLE}, where START and END are either both {@code yyyy-MM-dd HH:mm},
+ * or both {@code yyyy-MM-dd} for an event lasting the whole of those days. Blank lines are skipped.
+ * Every event must start and end in the same month, as each month is kept in its own calendar.
+ */
+public class EventFileReader {
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found.";
+    public static final String MESSAGE_READ_ERR = "Error reading file: %s";
+    public static final String MESSAGE_PARSE_ERR = "Error parsing ics file: %s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d is not START,END,TITLE: %2$s";
+    public static final String MESSAGE_INVALID_EVENT = "Event %s has no title, start or end";
+    public static final String MESSAGE_NOT_VALID_TIMEFRAME = "Event %s ends before it starts";
+    public static final String MESSAGE_NOT_SAME_MONTH = "Event %s must start and end in the same month";
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter ICS_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String CSV_SEPARATOR = ",";
+
+    private final EventFactory eventFactory;
+
+    public EventFileReader(EventFactory eventFactory) {
+        requireNonNull(eventFactory);
+        this.eventFactory = eventFactory;
+    }
+
+    /**
+     * Returns the events in {@code file}, read as an ics file if it is named as one and as a CSV file otherwise.
+     *
+     * @throws CommandException if the file cannot be read, or holds an event Hallper cannot keep.
+     */
+    public List<VEvent> read(Path file) throws CommandException {
+        requireNonNull(file);
+        try {
+            if (file.getFileName().toString().toLowerCase().endsWith(ImportEventsCommand.ICS_EXTENSION)) {
+                return readIcs(file);
+            }
+            return readCsv(file);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(MESSAGE_FILE_NOT_FOUND);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERR, e.getMessage()));
+        } catch (ParserException e) {
+            throw new CommandException(String.format(MESSAGE_PARSE_ERR, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the events in the CSV file {@code file}.
+     */
+    private List<VEvent> readCsv(Path file) throws IOException, CommandException {
+        List<VEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                events.add(parseCsvLine(line, lineNumber));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Returns the event on the line {@code line} of a CSV file.
+     */
+    private VEvent parseCsvLine(String line, int lineNumber) throws CommandException {
+        String[] fields = line.split(CSV_SEPARATOR, 3);
+        if (fields.length < 3 || fields[2].trim().isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, line));
+        }
+        String start = fields[0].trim();
+        String end = fields[1].trim();
+        String title = fields[2].trim();
+        try {
+            // Dates without a time are all day events
+            if (!start.contains(" ") && !end.contains(" ")) {
+                return createAllDayEvent(LocalDate.parse(start), LocalDate.parse(end), title);
+            }
+            return createEvent(LocalDateTime.parse(start, DATE_TIME_FORMAT),
+                LocalDateTime.parse(end, DATE_TIME_FORMAT), title);
+        } catch (DateTimeParseException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, line));
+        }
+    }
+
+    /**
+     * Returns the events in the ics file {@code file}.
+     */
+    private List<VEvent> readIcs(Path file) throws IOException, ParserException, CommandException {
+        Calendar calendar;
+        try (InputStream in = Files.newInputStream(file)) {
+            calendar = new CalendarBuilder().build(in);
+        }
+
+        List<VEvent> events = new ArrayList<>();
+        for (Object component : calendar.getComponents(Component.VEVENT)) {
+            VEvent event = (VEvent) component;
+            DtStart start = event.getStartDate();
+            DtEnd end = event.getEndDate();
+            if (event.getSummary() == null || start == null || end == null) {
+                throw new CommandException(String.format(MESSAGE_INVALID_EVENT, event.getUid()));
+            }
+            String title = event.getSummary().getValue();
+            if (start.getDate() instanceof DateTime) {
+                events.add(createEvent(EventFactory.toLocalDateTime(start.getDate()),
+                    EventFactory.toLocalDateTime(end.getDate()), title));
+            } else {
+                // The end of an all day event is the day after its last day
+                events.add(createAllDayEvent(LocalDate.parse(start.getValue(), ICS_DATE_FORMAT),
+                    LocalDate.parse(end.getValue(), ICS_DATE_FORMAT).minusDays(1), title));
+            }
+        }
+        return events;
+    }
+
+    private VEvent createAllDayEvent(LocalDate start, LocalDate end, String title) throws CommandException {
+        checkTimeFrame(start.atStartOfDay(), end.atTime(EventFactory.END_OF_DAY), title);
+        return eventFactory.createAllDayEvent(start, end, title);
+    }
+
+    private VEvent createEvent(LocalDateTime start, LocalDateTime end, String title) throws CommandException {
+        checkTimeFrame(start, end, title);
+        return eventFactory.createEvent(start, end, title);
+    }
+
+    /**
+     * Checks that an event from {@code start} to {@code end} can be kept in one of Hallper's calendars.
+     */
+    private static void checkTimeFrame(LocalDateTime start, LocalDateTime end, String title)
+            throws CommandException {
+        if (!start.isBefore(end)) {
+            throw new CommandException(String.format(MESSAGE_NOT_VALID_TIMEFRAME, title));
+        }
+        if (!YearMonth.from(start).equals(YearMonth.from(end))) {
+            throw new CommandException(String.format(MESSAGE_NOT_SAME_MONTH, title));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands.imports;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -11,7 +12,6 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import seedu.address.model.Model;
-import seedu.address.model.person.ContactContainsRoomPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -46,7 +46,6 @@ public class ImportCcaList {
         List<Person> editedList = new ArrayList<>();
         NodeList nList = doc.getElementsByTagName(HEADER);
         for (int i = 0; i < nList.getLength(); i++) {
-            List<Person> fullList = model.getAddressBook().getPersonList();
             originalList.clear();
             editedList.clear();
             roomsList.clear();
@@ -59,12 +58,13 @@ public class ImportCcaList {
                     roomsList.add(nodeList.item(j).getTextContent());
                 }
             }
-            ContactContainsRoomPredicate predicate = new ContactContainsRoomPredicate(roomsList);
-            for (Person p : fullList) {
-                if (predicate.test(p)) {
-                    originalList.add(p);
-                    editedList.add(addCcaToPerson(this.cca, p));
-                }
+            Set<Person> residents = new LinkedHashSet<>();
+            for (String room : roomsList) {
+                residents.addAll(model.getAddressBook().getPersonsInRoom(room));
+            }
+            for (Person p : residents) {
+                originalList.add(p);
+                editedList.add(addCcaToPerson(this.cca, p));
             }
             if (!originalList.isEmpty()) {
                 model.updateMultiplePersons(originalList, editedList);
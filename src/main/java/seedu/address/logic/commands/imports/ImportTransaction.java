@@ -2,7 +2,10 @@ package seedu.address.logic.commands.imports;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.w3c.dom.Document;
@@ -51,9 +54,10 @@ public class ImportTransaction {
      * Execute ImportTransaction
      */
     public void execute() {
-        List<Cca> lastShownList = model.getFilteredCcaList();
         ccaList.clear();
         editedList.clear();
+        Map<CcaName, Cca> originalCcas = new LinkedHashMap<>();
+        Map<CcaName, Cca> editedCcas = new LinkedHashMap<>();
         NodeList nList = doc.getElementsByTagName(HEADER);
 
         for (int i = 0; i < nList.getLength(); i++) {
@@ -68,28 +72,24 @@ public class ImportTransaction {
                     .getTextContent()));
                 Remarks remarks = new Remarks(element.getElementsByTagName(REMARKS).item(INDEX).getTextContent());
 
-                if (!model.hasCca(ccaName)) {
+                Optional<Cca> existingCca = model.getBudgetBook().getCca(ccaName);
+                if (!existingCca.isPresent()) {
                     continue;
                 }
 
-                int index = 0;
-                for (Cca c : lastShownList) {
-                    if (c.getCcaName().equals(ccaName.getNameOfCca())) {
-                        break;
-                    }
-                    index++;
-                }
-
-                Cca ccaToUpdate = lastShownList.get(index);
+                // builds on earlier transactions for the same cca in this file
+                Cca ccaToUpdate = editedCcas.getOrDefault(ccaName, existingCca.get());
                 int entryNum = ccaToUpdate.getEntrySize() + 1;
                 Entry newEntry = new Entry(entryNum, date, amount, remarks);
                 Cca updatedCca = ccaToUpdate.addNewTransaction(newEntry);
                 updatedCca = TransactionMath.updateDetails(updatedCca);
 
-                ccaList.add(ccaToUpdate);
-                editedList.add(updatedCca);
+                originalCcas.putIfAbsent(ccaName, existingCca.get());
+                editedCcas.put(ccaName, updatedCca);
             }
         }
+        ccaList.addAll(originalCcas.values());
+        editedList.addAll(editedCcas.values());
         model.updateMultipleCcas(ccaList, editedList);
         model.updateFilteredCcaList(Model.PREDICATE_SHOW_ALL_CCAS);
         model.commitBudgetBook();
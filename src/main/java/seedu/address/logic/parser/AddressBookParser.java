@@ -10,7 +10,9 @@ import seedu.address.logic.commands.AddAllDayEventCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddTransactionCommand;
+import seedu.address.logic.commands.BlockCommand;
 import seedu.address.logic.commands.BudgetCommand;
+import seedu.address.logic.commands.ClashesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ComposeEmailIndexCommand;
@@ -31,6 +33,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ImageCommand;
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportEventsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListEmailsCommand;
 import seedu.address.logic.commands.RedoCommand;
@@ -39,6 +42,7 @@ import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UpdateCommand;
 import seedu.address.logic.commands.ViewCalendarCommand;
+import seedu.address.logic.commands.ViewCalendarRangeCommand;
 import seedu.address.logic.commands.ViewEmailCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -117,6 +121,9 @@ public class AddressBookParser {
         case SearchCommand.COMMAND_WORD:
             return new SearchCommandParser().parse(arguments);
 
+        case BlockCommand.COMMAND_WORD:
+            return new BlockCommandParser().parse(arguments);
+
         case BudgetCommand.COMMAND_WORD:
             return new BudgetCommandParser().parse(arguments);
 
@@ -159,6 +166,15 @@ public class AddressBookParser {
         case ViewCalendarCommand.COMMAND_WORD:
             return new ViewCalendarCommandParser().parse(arguments);
 
+        case ViewCalendarRangeCommand.COMMAND_WORD:
+            return new ViewCalendarRangeCommandParser().parse(arguments);
+
+        case ClashesCommand.COMMAND_WORD:
+            return new ClashesCommandParser().parse(arguments);
+
+        case ImportEventsCommand.COMMAND_WORD:
+            return new ImportEventsCommandParser().parse(arguments);
+
         case DeleteCcaCommand.COMMAND_WORD:
             return new DeleteCcaCommandParser().parse(arguments);
 
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.BlockCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BlockCommand object.
+ */
+public class BlockCommandParser implements Parser<BlockCommand> {
+
+    /*
+     * A block is the leading character of a room number, optionally followed by the floor, which is the first digit
+     * of the room number.
+     *
+     * @see seedu.address.model.person.Room#ROOM_VALIDATION_REGEX
+     */
+    private static final String BLOCK_VALIDATION_REGEX = "\\D\\d?";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BlockCommand
+     * and returns a BlockCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BlockCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.matches(BLOCK_VALIDATION_REGEX)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BlockCommand.MESSAGE_USAGE));
+        }
+
+        String block = trimmedArgs.substring(0, 1);
+        if (trimmedArgs.length() == 1) {
+            return new BlockCommand(block);
+        }
+        return new BlockCommand(block, trimmedArgs.substring(1));
+    }
+}
@@ -26,10 +26,15 @@ public class ImageCommandParser implements Parser<ImageCommand> {
         ArgumentMultimap argMultiMap =
             ArgumentTokenizer.tokenize(args, PREFIX_ROOM, PREFIX_FILE);
 
-        if (!arePrefixesPresent(argMultiMap, PREFIX_ROOM, PREFIX_FILE) || !argMultiMap.getPreamble().isEmpty()) {
+        if (!arePrefixesPresent(argMultiMap, PREFIX_FILE) || !argMultiMap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImageCommand.MESSAGE_USAGE));
         }
 
+        // Without a room, the photos of every room in a directory are uploaded
+        if (!argMultiMap.getValue(PREFIX_ROOM).isPresent()) {
+            return new ImageCommand(ParserUtil.parseImageDirectory(argMultiMap.getValue(PREFIX_FILE).get()));
+        }
+
         Room room = ParserUtil.parseRoom(argMultiMap.getValue(PREFIX_ROOM).get());
         File file = ParserUtil.parseImage(argMultiMap.getValue(PREFIX_FILE).get());
 
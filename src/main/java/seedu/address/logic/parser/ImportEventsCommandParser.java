@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ImportEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportEventsCommand object.
+ */
+public class ImportEventsCommandParser implements Parser<ImportEventsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportEventsCommand
+     * and returns an ImportEventsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportEventsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FILE) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportEventsCommand.MESSAGE_USAGE));
+        }
+
+        Path file = ParserUtil.parseEventFile(argMultimap.getValue(PREFIX_FILE).get());
+
+        return new ImportEventsCommand(file);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
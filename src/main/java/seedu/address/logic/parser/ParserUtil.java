@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,6 +14,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ImageCommand;
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportEventsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
@@ -185,6 +187,27 @@ public class ParserUtil {
         return new Tag(trimmedTag);
     }
 
+    /**
+     * Parses a {@code String file} into the {@code Path} of a CSV or ics file of events.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code file} is not a CSV or ics file.
+     */
+    public static Path parseEventFile(String file) throws ParseException {
+        requireNonNull(file);
+        String trimmedFile = file.trim();
+        String lowerCaseFile = trimmedFile.toLowerCase();
+        if (!lowerCaseFile.endsWith(ImportEventsCommand.CSV_EXTENSION)
+                && !lowerCaseFile.endsWith(ImportEventsCommand.ICS_EXTENSION)) {
+            throw new ParseException(ImportEventsCommand.MESSAGE_USAGE);
+        }
+        // to handle unix home directory
+        if (trimmedFile.startsWith("~")) {
+            return Paths.get(System.getProperty("user.home") + trimmedFile.substring(1));
+        }
+        return Paths.get(trimmedFile);
+    }
+
     //@@author EatOrBeEaten
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
@@ -259,6 +282,21 @@ public class ParserUtil {
         return new File(trimmedFile);
     }
 
+    /**
+     * Parses a {@code String directory} of profile pictures into a {@code File}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code directory} is empty.
+     */
+    public static File parseImageDirectory(String directory) throws ParseException {
+        requireNonNull(directory);
+        String trimmedDirectory = directory.trim();
+        if (trimmedDirectory.isEmpty()) {
+            throw new ParseException(ImageCommand.MESSAGE_USAGE);
+        }
+        return new File(trimmedDirectory);
+    }
+
     //@@author EatOrBeEaten
 
     /**
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ViewCalendarRangeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.calendar.Month;
+import seedu.address.model.calendar.Year;
+
+/**
+ * Parses input arguments and creates a new ViewCalendarRangeCommand object.
+ */
+public class ViewCalendarRangeCommandParser implements Parser<ViewCalendarRangeCommand> {
+
+    private static final String MONTH_YEAR_SEPARATOR = "-";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewCalendarRangeCommand
+     * and returns an ViewCalendarRangeCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ViewCalendarRangeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO)
+            || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCalendarRangeCommand.MESSAGE_USAGE));
+        }
+
+        String[] start = splitMonthYear(argMultimap.getValue(PREFIX_FROM).get());
+        String[] end = splitMonthYear(argMultimap.getValue(PREFIX_TO).get());
+        Month startMonth = ParserUtil.parseMonth(start[0]);
+        Year startYear = ParserUtil.parseYear(start[1]);
+        Month endMonth = ParserUtil.parseMonth(end[0]);
+        Year endYear = ParserUtil.parseYear(end[1]);
+
+        return new ViewCalendarRangeCommand(startMonth, startYear, endMonth, endYear);
+    }
+
+    /**
+     * Splits a month given as MMM-YYYY, as calendars are named, into its month and year.
+     *
+     * @throws ParseException if the month is not given as MMM-YYYY
+     */
+    private static String[] splitMonthYear(String monthYear) throws ParseException {
+        String[] tokens = monthYear.trim().split(MONTH_YEAR_SEPARATOR);
+        if (tokens.length != 2) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCalendarRangeCommand.MESSAGE_USAGE));
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
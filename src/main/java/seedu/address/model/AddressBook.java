@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
 
@@ -135,6 +136,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Person> getPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return persons.getPersonsWithTag(tagName);
+    }
+
+    @Override
+    public List<Person> getPersonsInRoom(String room) {
+        requireNonNull(room);
+        return persons.getPersonsInRoom(room);
+    }
+
+    @Override
+    public List<Person> getPersonsInBlock(String block) {
+        requireNonNull(block);
+        return persons.getPersonsInBlock(block);
+    }
+
+    @Override
+    public List<Person> getPersonsOnFloor(String block, String floor) {
+        requireAllNonNull(block, floor);
+        return persons.getPersonsOnFloor(block, floor);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
@@ -90,7 +91,7 @@ public class BudgetBook implements ReadOnlyBudgetBook {
      */
     public boolean hasCca(CcaName ccaName) {
         requireNonNull(ccaName);
-        return ccas.contains(ccaName.getNameOfCca());
+        return ccas.contains(ccaName);
     }
 
     /**
@@ -146,6 +147,14 @@ public class BudgetBook implements ReadOnlyBudgetBook {
         ccas.remove(cca);
     }
 
+    /**
+     * Replaces the {@code removeCount} Ccas starting at position {@code from} with {@code toInsert}.
+     * Only used by {@code VersionedBudgetBook} to replay changes it has recorded.
+     */
+    void spliceCcas(int from, int removeCount, List<Cca> toInsert) {
+        ccas.splice(from, removeCount, toInsert);
+    }
+
     //// util methods
     @Override
     public String toString() {
@@ -157,6 +166,12 @@ public class BudgetBook implements ReadOnlyBudgetBook {
         return ccas.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Cca> getCca(CcaName ccaName) {
+        requireNonNull(ccaName);
+        return ccas.get(ccaName);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
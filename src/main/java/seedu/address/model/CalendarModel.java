@@ -2,29 +2,29 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.IOException;
-import java.util.GregorianCalendar;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.Component;
-import net.fortuna.ical4j.model.ComponentList;
-import net.fortuna.ical4j.model.Date;
-import net.fortuna.ical4j.model.DateTime;
-import net.fortuna.ical4j.model.component.CalendarComponent;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.property.CalScale;
-import net.fortuna.ical4j.model.property.Categories;
-import net.fortuna.ical4j.model.property.DtEnd;
-import net.fortuna.ical4j.model.property.DtStart;
 import net.fortuna.ical4j.model.property.ProdId;
 import net.fortuna.ical4j.model.property.Version;
-import net.fortuna.ical4j.util.FixedUidGenerator;
-import net.fortuna.ical4j.util.UidGenerator;
+import seedu.address.model.calendar.ClashIndex;
+import seedu.address.model.calendar.EventFactory;
+import seedu.address.model.calendar.EventIndex;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
 
@@ -42,8 +42,12 @@ public class CalendarModel {
     // User can only load at most one calendar at any point of time.
     private Calendar loadedCalendar;
     private String loadedCalendarName;
+    private EventIndex loadedEventIndex;
     private VEvent eventToBeRemoved;
     private Map<Month, Integer> monthToConstantMap;
+    private final EventFactory eventFactory = new EventFactory();
+    // Events of every calendar loaded so far, by time frame
+    private final ClashIndex clashIndex = new ClashIndex();
 
     public CalendarModel(Map<Year, Set<Month>> existingCalendar) {
         this.existingCalendar = existingCalendar;
@@ -145,51 +149,28 @@ public class CalendarModel {
     private void setLoadedCalendar(Calendar calendar, String calendarName) {
         this.loadedCalendar = calendar;
         this.loadedCalendarName = calendarName;
+        this.loadedEventIndex = EventIndex.of(calendar);
+        clashIndex.putCalendar(calendarName, calendar);
     }
 
-    /** Creates the calendar file. */
-    public Calendar createCalendar(Year year, Month month) throws IOException {
-        // Initialize the calendar
+    /** Returns an empty calendar with the properties every calendar in Hallper has. */
+    private static Calendar newCalendar() {
         Calendar calendar = new Calendar();
         calendar.getProperties().add(new ProdId("-//Ben Fortuna//iCal4j 1.0//EN"));
         calendar.getProperties().add(Version.VERSION_2_0);
         calendar.getProperties().add(CalScale.GREGORIAN);
+        return calendar;
+    }
 
-        // ----- Create dummy Christmas event -----
-        // Start Date
-        java.util.Calendar sDate = new GregorianCalendar();
-        sDate.set(java.util.Calendar.YEAR, Integer.parseInt(year.toString()));
-        sDate.set(java.util.Calendar.MONTH, java.util.Calendar.NOVEMBER);
-        sDate.set(java.util.Calendar.DAY_OF_MONTH, 25);
-        sDate.set(java.util.Calendar.HOUR_OF_DAY, 0);
-        sDate.set(java.util.Calendar.MINUTE, 0);
-        sDate.set(java.util.Calendar.SECOND, 0);
-
-        // End Date
-        java.util.Calendar eDate = new GregorianCalendar();
-        eDate.set(java.util.Calendar.YEAR, Integer.parseInt(year.toString()));
-        eDate.set(java.util.Calendar.MONTH, java.util.Calendar.NOVEMBER);
-        eDate.set(java.util.Calendar.DAY_OF_MONTH, 25);
-        eDate.set(java.util.Calendar.HOUR_OF_DAY, 23);
-        eDate.set(java.util.Calendar.MINUTE, 59);
-        eDate.set(java.util.Calendar.SECOND, 59);
-
-        // Create the event
-        DateTime start = new DateTime(sDate.getTime());
-        DateTime end = new DateTime(eDate.getTime());
-        VEvent christmas = new VEvent(start, end, "Christmas Day");
-
-        // Add Category Color to event
-        Categories categories = new Categories();
-        // light blue color in iCalendarAgenda
-        categories.setValue(EVENT_COLOR_IN_CAL);
-        christmas.getProperties().add(categories);
-
-        // Generate a UID for the event
-        UidGenerator ug = new FixedUidGenerator("1");
-        christmas.getProperties().add(ug.generateUid());
+    /** Creates the calendar file. */
+    public Calendar createCalendar(Year year, Month month) {
+        // Initialize the calendar
+        Calendar calendar = newCalendar();
+
+        // Create dummy Christmas event
+        VEvent christmas = eventFactory.createAllDayEvent(year, new Month("DEC"), 25, "Christmas Day");
         calendar.getComponents().add(christmas);
-        // ------------------------------
+        clashIndex.putCalendar(month + "-" + year, calendar);
 
         // Update existing calendar map
         updateExistingCalendar(year, month);
@@ -202,41 +183,121 @@ public class CalendarModel {
         setLoadedCalendar(calendarToBeLoaded, calendarName);
     }
 
+    /** Returns the number of months from the start of year 0 to the given month, so that months can be compared. */
+    private int monthsSinceYearZero(Year year, Month month) {
+        return Integer.parseInt(year.toString()) * 12 + monthToConstantMap.get(month);
+    }
+
+    /** Checks if the start month of a range is not after its end month. */
+    public boolean isValidCalendarRange(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+        requireNonNull(startYear);
+        requireNonNull(startMonth);
+        requireNonNull(endYear);
+        requireNonNull(endMonth);
+        return monthsSinceYearZero(startYear, startMonth) <= monthsSinceYearZero(endYear, endMonth);
+    }
+
+    /**
+     * Returns the names of the existing calendars from the start month to the end month inclusive, earliest first.
+     * Months in the range without a calendar are left out.
+     */
+    public List<String> getExistingCalendarsInRange(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+        requireNonNull(startYear);
+        requireNonNull(startMonth);
+        requireNonNull(endYear);
+        requireNonNull(endMonth);
+        int start = monthsSinceYearZero(startYear, startMonth);
+        int end = monthsSinceYearZero(endYear, endMonth);
+        TreeMap<Integer, String> calendarNames = new TreeMap<>();
+        for (Map.Entry<Year, Set<Month>> yearOfCal : existingCalendar.entrySet()) {
+            if (yearOfCal.getValue() == null) {
+                continue;
+            }
+            for (Month month : yearOfCal.getValue()) {
+                int position = monthsSinceYearZero(yearOfCal.getKey(), month);
+                if (position >= start && position <= end) {
+                    calendarNames.put(position, month + "-" + yearOfCal.getKey());
+                }
+            }
+        }
+        return new ArrayList<>(calendarNames.values());
+    }
+
+    /**
+     * Returns the events of {@code calendars}, one calendar after another.
+     * The events are taken from each calendar only as the stream reaches it, and are not copied.
+     */
+    public static Stream<VEvent> eventsOf(List<Calendar> calendars) {
+        requireNonNull(calendars);
+        return calendars.stream()
+                .flatMap(calendar -> calendar.<VEvent>getComponents(Component.VEVENT).stream());
+    }
+
+    /**
+     * Indexes the events of {@code calendars}, loaded together for a range of months, to find their clashes.
+     * {@code calendarNames} holds the name of each calendar, in the same order.
+     */
+    public void indexCalendars(List<String> calendarNames, List<Calendar> calendars) {
+        requireNonNull(calendarNames);
+        requireNonNull(calendars);
+        for (int i = 0; i < calendars.size(); i++) {
+            clashIndex.putCalendar(calendarNames.get(i), calendars.get(i));
+        }
+    }
+
+    /**
+     * Returns the events, of the calendars loaded so far, that overlap the given time frame in the given month.
+     */
+    public List<VEvent> getClashingEvents(Year year, Month month, int startDate, int startHour, int startMin,
+                                          int endDate, int endHour, int endMin) {
+        return getClashingEvents(EventFactory.toLocalDate(year, month, startDate).atTime(startHour, startMin),
+            EventFactory.toLocalDate(year, month, endDate).atTime(endHour, endMin));
+    }
+
+    /**
+     * Returns the events, of the calendars loaded so far, that overlap the whole of {@code date} in the given month.
+     */
+    public List<VEvent> getClashingEvents(Year year, Month month, int date) {
+        LocalDate day = EventFactory.toLocalDate(year, month, date);
+        return getClashingEvents(day.atStartOfDay(), day.atTime(EventFactory.END_OF_DAY));
+    }
+
+    private List<VEvent> getClashingEvents(LocalDateTime start, LocalDateTime end) {
+        return clashIndex.findOverlapping(toEpochMilli(start), toEpochMilli(end));
+    }
+
+    /**
+     * Returns the clashing events, of the calendars loaded so far, from the start month to the end month inclusive.
+     */
+    public List<ClashIndex.Clash> getClashes(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+        requireNonNull(startYear);
+        requireNonNull(startMonth);
+        requireNonNull(endYear);
+        requireNonNull(endMonth);
+        LocalDate from = EventFactory.toLocalDate(startYear, startMonth, 1);
+        LocalDate to = EventFactory.toLocalDate(endYear, endMonth, 1).plusMonths(1);
+        return clashIndex.findClashes(toEpochMilli(from.atStartOfDay()), toEpochMilli(to.atStartOfDay()));
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns a calendar holding every event of {@code calendars}, to view a range of months at once.
+     * The events are shared with the calendars they come from, so the merged calendar costs no more than a list of
+     * references, and is not kept by the model once it has been viewed.
+     */
+    public Calendar mergeCalendars(List<Calendar> calendars) {
+        requireNonNull(calendars);
+        Calendar merged = newCalendar();
+        eventsOf(calendars).forEach(merged.getComponents()::add);
+        return merged;
+    }
+
     /** Creates a new all day event in the loaded Calendar. */
-    public Calendar createAllDayEvent(Year year, Month month, int date, String title) throws IOException {
-        // Start Date
-        java.util.Calendar sDate = new GregorianCalendar();
-        sDate.set(java.util.Calendar.YEAR, Integer.parseInt(year.toString()));
-        sDate.set(java.util.Calendar.MONTH, monthToConstantMap.get(month));
-        sDate.set(java.util.Calendar.DAY_OF_MONTH, date);
-        sDate.set(java.util.Calendar.HOUR_OF_DAY, 0);
-        sDate.set(java.util.Calendar.MINUTE, 0);
-        sDate.set(java.util.Calendar.SECOND, 0);
-
-        // End Date
-        java.util.Calendar eDate = new GregorianCalendar();
-        eDate.set(java.util.Calendar.YEAR, Integer.parseInt(year.toString()));
-        eDate.set(java.util.Calendar.MONTH, monthToConstantMap.get(month));
-        eDate.set(java.util.Calendar.DAY_OF_MONTH, date);
-        eDate.set(java.util.Calendar.HOUR_OF_DAY, 23);
-        eDate.set(java.util.Calendar.MINUTE, 59);
-        eDate.set(java.util.Calendar.SECOND, 59);
-
-        // Create the event
-        DateTime start = new DateTime(sDate.getTime());
-        DateTime end = new DateTime(eDate.getTime());
-        VEvent newEvent = new VEvent(start, end, title);
-
-        // Add Category Color to event
-        Categories categories = new Categories();
-        // light blue color in iCalendarAgenda
-        categories.setValue(EVENT_COLOR_IN_CAL);
-        newEvent.getProperties().add(categories);
-
-        // Generate a UID for the event
-        UidGenerator ug = new FixedUidGenerator("1");
-        newEvent.getProperties().add(ug.generateUid());
-        loadedCalendar.getComponents().add(newEvent);
+    public Calendar createAllDayEvent(Year year, Month month, int date, String title) {
+        addEvent(eventFactory.createAllDayEvent(year, month, date, title));
 
         // Return the updated calendar
         return loadedCalendar;
@@ -245,92 +306,50 @@ public class CalendarModel {
 
     /** Creates an event in the loaded Calendar with the specified time frame. */
     public Calendar createEvent(Year year, Month month, int startDate, int startHour, int startMin,
-                                int endDate, int endHour, int endMin, String title) throws IOException {
-        // Start Date
-        java.util.Calendar sDate = new GregorianCalendar();
-        sDate.set(java.util.Calendar.YEAR, Integer.parseInt(year.toString()));
-        sDate.set(java.util.Calendar.MONTH, monthToConstantMap.get(month));
-        sDate.set(java.util.Calendar.DAY_OF_MONTH, startDate);
-        sDate.set(java.util.Calendar.HOUR_OF_DAY, startHour);
-        sDate.set(java.util.Calendar.MINUTE, startMin);
-        sDate.set(java.util.Calendar.SECOND, 0);
-
-        // End Date
-        java.util.Calendar eDate = new GregorianCalendar();
-        eDate.set(java.util.Calendar.YEAR, Integer.parseInt(year.toString()));
-        eDate.set(java.util.Calendar.MONTH, monthToConstantMap.get(month));
-        eDate.set(java.util.Calendar.DAY_OF_MONTH, endDate);
-        eDate.set(java.util.Calendar.HOUR_OF_DAY, endHour);
-        eDate.set(java.util.Calendar.MINUTE, endMin);
-        eDate.set(java.util.Calendar.SECOND, 0);
-
-        // Create the event
-        DateTime start = new DateTime(sDate.getTime());
-        DateTime end = new DateTime(eDate.getTime());
-        VEvent newEvent = new VEvent(start, end, title);
-
-        // Add Category Color to event
-        Categories categories = new Categories();
-        // light blue color in iCalendarAgenda
-        categories.setValue(EVENT_COLOR_IN_CAL);
-        newEvent.getProperties().add(categories);
-
-        // Generate a UID for the event
-        UidGenerator ug = new FixedUidGenerator("1");
-        newEvent.getProperties().add(ug.generateUid());
-        loadedCalendar.getComponents().add(newEvent);
+                                int endDate, int endHour, int endMin, String title) {
+        addEvent(eventFactory.createEvent(year, month, startDate, startHour, startMin, endDate, endHour, endMin,
+            title));
 
         // Return the updated calendar
         return loadedCalendar;
     }
 
     /**
-     * Checks if an event exists in the loaded Calendar and returns the event.
-     * Private method that should only be called by deleteEvent.
+     * Adds {@code events} to the loaded Calendar, leaving out those with the same title and start - end date as
+     * an event already in it, and returns the number of events added.
      */
-    private VEvent retrieveEvent(int startDate, int endDate, String title) {
-        ComponentList<CalendarComponent> events = loadedCalendar.getComponents(Component.VEVENT);
-        VEvent eventToReturn = null;
-
-        for (CalendarComponent event : events) {
-            VEvent vevent = (VEvent) event;
-            if (isSameEvent(startDate, endDate, title, vevent)) {
-                eventToReturn = vevent;
-                break;
+    public int createEvents(List<VEvent> events) {
+        requireNonNull(events);
+        int added = 0;
+        for (VEvent event : events) {
+            int startDate = EventIndex.dayOfMonth(event.getStartDate().getDate());
+            int endDate = EventIndex.dayOfMonth(event.getEndDate().getDate());
+            if (!isExistingEvent(retrieveEvent(startDate, endDate, event.getSummary().getValue()))) {
+                addEvent(event);
+                added++;
             }
         }
-        return eventToReturn;
+        return added;
     }
 
-    /**
-     * An event is considered the same in terms of its title and start - end date.
-     */
-    protected boolean isSameEvent(int startDate, int endDate, String title, VEvent event) {
-        requireNonNull(title);
-        requireNonNull(event);
-        boolean result;
-
-        // Parse title from the event to check
-        String titleToCheck = event.getSummary().getValue();
-        // Check if title is the same
-        result = title.compareTo(titleToCheck) == 0;
-
-        // Parse start date information from the event to check
-        DtStart dtStart = event.getStartDate();
-        Date sDate = dtStart.getDate();
-        java.util.Calendar sCal = java.util.Calendar.getInstance();
-        sCal.setTime(sDate);
-        int startDateToCheck = sCal.get(java.util.Calendar.DAY_OF_MONTH);
-        result = result && (startDate == startDateToCheck);
+    /** Adds {@code event} to the loaded Calendar and its index. */
+    private void addEvent(VEvent event) {
+        loadedCalendar.getComponents().add(event);
+        loadedEventIndex.add(event);
+        clashIndex.add(loadedCalendarName, event);
+    }
 
-        // Parse end date information from the event to check
-        DtEnd dtEnd = event.getEndDate();
-        Date eDate = dtEnd.getDate();
-        java.util.Calendar eCal = java.util.Calendar.getInstance();
-        eCal.setTime(eDate);
-        int endDateToCheck = eCal.get(java.util.Calendar.DAY_OF_MONTH);
-        return result && (endDate == endDateToCheck);
+    /** Returns the loaded Calendar, if any. */
+    public Optional<Calendar> getLoadedCalendar() {
+        return Optional.ofNullable(loadedCalendar);
+    }
 
+    /**
+     * Checks if an event exists in the loaded Calendar and returns the event.
+     * Private method that should only be called by deleteEvent.
+     */
+    private VEvent retrieveEvent(int startDate, int endDate, String title) {
+        return loadedEventIndex.find(startDate, endDate, title).orElse(null);
     }
 
     /** Checks if this specific event exists in the loaded Calendar. */
@@ -354,6 +373,8 @@ public class CalendarModel {
     public Calendar deleteEvent() {
         if (isExistingEvent(this.eventToBeRemoved)) {
             loadedCalendar.getComponents().remove(this.eventToBeRemoved);
+            loadedEventIndex.remove(this.eventToBeRemoved);
+            clashIndex.remove(loadedCalendarName, this.eventToBeRemoved);
         }
 
         return loadedCalendar;
@@ -385,6 +406,7 @@ public class CalendarModel {
             Set<Month> yearOfCal = existingCalendar.get(year);
             yearOfCal.remove(month);
         }
+        clashIndex.removeCalendar(month + "-" + year);
     }
 
     /** Returns the updated Map: existingCalendar. */
@@ -2,28 +2,42 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.simplejavamail.email.Email;
 import org.simplejavamail.email.Recipient;
 
+import seedu.address.commons.util.LruCache;
+import seedu.address.model.email.EmailSummary;
+
 //@@author EatOrBeEaten
 /**
  * Wraps Email data.
+ * The previews of the most recently viewed emails are kept, and reused while the same email is viewed again.
  */
 public class EmailModel {
 
+    private static final int CACHED_PREVIEWS = 16;
+
     private final String emlExtension = ".eml";
 
     private Email email;
     private String preview;
     private final Set<String> existingEmails;
+    private final Map<String, EmailSummary> emailIndex;
+    private final LruCache<String, CachedPreview> previews;
 
     public EmailModel() {
         existingEmails = new HashSet<>();
+        emailIndex = new HashMap<>();
+        previews = new LruCache<>(CACHED_PREVIEWS);
     }
 
     public EmailModel(Set<String> emailNamesSet) {
@@ -43,18 +57,25 @@ public class EmailModel {
     }
 
     /**
-     * Creates preview of email in EmailModel.
+     * Creates preview of email in EmailModel, reusing the preview made the last time the same email was saved.
      */
     private void savePreview() {
-        String previewHeader = "<u>Email Preview</u><br><br>";
-        String from = "From: " + email.getFromRecipient().getAddress();
+        Optional<CachedPreview> cached = previews.get(email.getSubject());
+        if (cached.isPresent() && cached.get().email == email) {
+            preview = cached.get().preview;
+            return;
+        }
+
+        StringBuilder builder = new StringBuilder("<u>Email Preview</u><br><br>");
+        builder.append("From: ").append(email.getFromRecipient().getAddress()).append("<br>");
         Iterator<Recipient> itr = email.getRecipients().iterator();
-        String to = "To: " + itr.next().getAddress();
-        String subject = "Subject: " + email.getSubject();
+        builder.append("To: ").append(itr.next().getAddress());
         while (itr.hasNext()) {
-            to = to + ", " + itr.next().getAddress();
+            builder.append(", ").append(itr.next().getAddress());
         }
-        this.preview = previewHeader + from + "<br>" + to + "<br>" + subject + "<br><br>" + email.getHTMLText();
+        builder.append("<br>Subject: ").append(email.getSubject()).append("<br><br>").append(email.getHTMLText());
+        preview = builder.toString();
+        previews.put(email.getSubject(), new CachedPreview(email, preview));
     }
 
     /**
@@ -67,12 +88,20 @@ public class EmailModel {
         assert !hasEmail(email.getSubject());
         saveEmail(email);
         addToExistingEmails(email.getSubject());
+        emailIndex.put(email.getSubject() + emlExtension, EmailSummary.of(email, Instant.now()));
     }
 
     public Set<String> getExistingEmails() {
         return Collections.unmodifiableSet(existingEmails);
     }
 
+    /**
+     * Returns an unmodifiable map of the summary of each existing email that has one, by eml file name.
+     */
+    public Map<String, EmailSummary> getEmailIndex() {
+        return Collections.unmodifiableMap(emailIndex);
+    }
+
     public Email getEmail() {
         return email;
     }
@@ -89,12 +118,34 @@ public class EmailModel {
         return existingEmails.contains(fileName + emlExtension);
     }
 
+    /**
+     * Adds the eml files named in {@code emailNamesSet} to the existing emails.
+     */
+    public void addExistingEmails(Set<String> emailNamesSet) {
+        requireNonNull(emailNamesSet);
+        existingEmails.addAll(emailNamesSet);
+    }
+
+    /**
+     * Adds the eml files summarised in {@code emailIndex}, by file name, to the existing emails.
+     */
+    public void addEmailIndex(Map<String, EmailSummary> emailIndex) {
+        requireNonNull(emailIndex);
+        existingEmails.addAll(emailIndex.keySet());
+        this.emailIndex.putAll(emailIndex);
+    }
+
     private void addToExistingEmails(String fileName) {
         existingEmails.add(fileName + emlExtension);
     }
 
+    /**
+     * Removes the email with the subject {@code fileName} from the existing emails.
+     */
     public void removeFromExistingEmails(String fileName) {
         existingEmails.remove(fileName + emlExtension);
+        emailIndex.remove(fileName + emlExtension);
+        previews.remove(fileName);
     }
 
     @Override
@@ -104,4 +155,16 @@ public class EmailModel {
             && existingEmails.equals(((EmailModel) other).existingEmails));
     }
 
+    /**
+     * The preview of an email, along with the email it was made from.
+     */
+    private static class CachedPreview {
+        private final Email email;
+        private final String preview;
+
+        CachedPreview(Email email, String preview) {
+            this.email = email;
+            this.preview = preview;
+        }
+    }
 }
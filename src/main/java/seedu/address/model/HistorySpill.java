@@ -0,0 +1,36 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Keeps undo history entries that have been moved out of memory, so they can be read back on a deep undo.
+ *
+ * @param <T> the type of history entry
+ */
+public interface HistorySpill<T> {
+
+    /**
+     * Writes {@code entry} to the spill under {@code id}, replacing anything already stored under it.
+     */
+    void write(long id, T entry) throws IOException;
+
+    /**
+     * Reads back the entry stored under {@code id}.
+     *
+     * @throws DataConversionException if the stored entry is not in the expected format.
+     * @throws IOException if the stored entry cannot be read.
+     */
+    T read(long id) throws DataConversionException, IOException;
+
+    /**
+     * Removes the entry stored under {@code id}, if any.
+     */
+    void delete(long id);
+
+    /**
+     * Removes every entry in the spill, including any left behind by an earlier session.
+     */
+    void clear();
+}
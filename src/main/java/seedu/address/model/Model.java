@@ -2,19 +2,25 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import org.simplejavamail.email.Email;
 
 import javafx.collections.ObservableList;
+import net.fortuna.ical4j.model.component.VEvent;
 import seedu.address.commons.events.model.EmailLoadedEvent;
 import seedu.address.commons.events.storage.CalendarLoadedEvent;
+import seedu.address.commons.events.storage.CalendarRangeLoadedEvent;
+import seedu.address.commons.events.storage.ProfilePictureSavedEvent;
 import seedu.address.commons.events.storage.RemoveExistingCalendarInModelEvent;
+import seedu.address.model.calendar.ClashIndex;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
 import seedu.address.model.cca.Cca;
 import seedu.address.model.cca.CcaName;
+import seedu.address.model.email.EmailSummary;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
@@ -57,6 +63,11 @@ public interface Model {
      */
     Set<String> getExistingEmails();
 
+    /**
+     * Returns an unmodifiable map of the summary of each existing email that has one, by eml file name.
+     */
+    Map<String, EmailSummary> getEmailIndex();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,11 +80,6 @@ public interface Model {
      */
     boolean hasPerson(Name person);
 
-    /**
-     * Initialise the budget book.
-     */
-    void initialiseBudgetBook();
-
     /**
      * Returns true if a CCA with the same CCA name as {@code Cca} exists in the budget book.
      */
@@ -139,6 +145,11 @@ public interface Model {
      */
     void updatePerson(Person target, Person editedPerson);
 
+    /**
+     * Gives the resident of each room of {@code event} the profile picture saved for them, as a single change.
+     */
+    void handleProfilePictureSavedEvent(ProfilePictureSavedEvent event);
+
     //@@author ericyjw
 
     /**
@@ -226,6 +237,29 @@ public interface Model {
 
     //@@author
 
+    /**
+     * Starts a batch of changes to the address book and budget book.
+     * Until the batch ends, changes do not raise change events, and saving undo/redo states is deferred.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    void startBatch();
+
+    /**
+     * Ends the current batch, raising one change event and saving one undo/redo state for each of the
+     * address book and budget book that was changed in the batch.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the current batch, discarding every change made to the address book and budget book in the batch.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    void abortBatch();
+
     /**
      * Saves the email to the EmailModel.
      */
@@ -256,6 +290,11 @@ public interface Model {
      */
     void handleCalendarLoadedEvent(CalendarLoadedEvent event);
 
+    /**
+     * Passes the calendars of a range of months loaded from memory into model, to be viewed together.
+     */
+    void handleCalendarRangeLoadedEvent(CalendarRangeLoadedEvent event);
+
     /**
      * Remove the calendar from the model.
      */
@@ -303,6 +342,22 @@ public interface Model {
      */
     void loadCalendar(Year year, Month month);
 
+    /**
+     * Returns true if the start month of the range is not after its end month.
+     */
+    boolean isValidCalendarRange(Year startYear, Month startMonth, Year endYear, Month endMonth);
+
+    /**
+     * Returns the names of the existing calendars from the start month to the end month inclusive, earliest first.
+     */
+    List<String> getExistingCalendarsInRange(Year startYear, Month startMonth, Year endYear, Month endMonth);
+
+    /**
+     * Load the existing calendars from the start month to the end month inclusive from storage, and view their
+     * events together.
+     */
+    void loadCalendarRange(Year startYear, Month startMonth, Year endYear, Month endMonth);
+
     /**
      * Creates a new all day event in the monthly calendar specified.
      */
@@ -314,6 +369,29 @@ public interface Model {
     void createEvent(Year year, Month month, int startDate, int startHour, int startMin,
                      int endDate, int endHour, int endMin, String title);
 
+    /**
+     * Adds the events to the monthly calendar specified, which must already be loaded, and saves it once.
+     * Events with the same title and start - end date as an event already in the calendar are left out.
+     * Returns the number of events added.
+     */
+    int createEvents(Year year, Month month, List<VEvent> events);
+
+    /**
+     * Returns the events, of the calendars loaded so far, that overlap the given time frame in the given month.
+     */
+    List<VEvent> getClashingEvents(Year year, Month month, int startDate, int startHour, int startMin,
+                                   int endDate, int endHour, int endMin);
+
+    /**
+     * Returns the events, of the calendars loaded so far, that overlap the whole of the given date.
+     */
+    List<VEvent> getClashingEvents(Year year, Month month, int date);
+
+    /**
+     * Returns the clashing events, of the calendars loaded so far, from the start month to the end month inclusive.
+     */
+    List<ClashIndex.Clash> getClashes(Year startYear, Month startMonth, Year endYear, Month endMonth);
+
     /**
      * Checks if this specific event exists in the monthly calendar.
      */
@@ -340,6 +418,4 @@ public interface Model {
      * Deletes an existing CCA in the CCA list.
      */
     void deleteCca(Cca ccaToDelete);
-
-    void readXslFile();
 }
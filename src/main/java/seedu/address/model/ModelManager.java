@@ -3,15 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -23,7 +23,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import net.fortuna.ical4j.model.Calendar;
-import seedu.address.MainApp;
+import net.fortuna.ical4j.model.component.VEvent;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
@@ -36,17 +36,25 @@ import seedu.address.commons.events.model.EmailLoadedEvent;
 import seedu.address.commons.events.model.EmailSavedEvent;
 import seedu.address.commons.events.model.ExportAddressBookEvent;
 import seedu.address.commons.events.model.LoadCalendarEvent;
+import seedu.address.commons.events.model.LoadCalendarRangeEvent;
 import seedu.address.commons.events.storage.CalendarLoadedEvent;
+import seedu.address.commons.events.storage.CalendarRangeLoadedEvent;
 import seedu.address.commons.events.storage.EmailDeleteEvent;
+import seedu.address.commons.events.storage.ProfilePictureSavedEvent;
 import seedu.address.commons.events.storage.RemoveExistingCalendarInModelEvent;
 import seedu.address.commons.events.ui.CalendarViewEvent;
 import seedu.address.commons.events.ui.EmailViewEvent;
 import seedu.address.commons.events.ui.ToggleBrowserPlaceholderEvent;
+import seedu.address.commons.util.Lazy;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.calendar.ClashIndex;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
 import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaListDelta;
 import seedu.address.model.cca.CcaName;
+import seedu.address.model.email.EmailSummary;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
@@ -60,9 +68,18 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedBudgetBook versionedBudgetBook;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Cca> filteredCcas;
-    private final EmailModel emailModel;
+    private final Lazy<EmailModel> emailModel;
     private final UserPrefs userPrefs;
-    private final CalendarModel calendarModel;
+
+    /** The budget book still being read from storage, or null once it is in the model. */
+    private Future<? extends ReadOnlyBudgetBook> pendingBudgetBook;
+    /** The email index still being read from storage, or null once it is in the model. */
+    private Future<? extends Map<String, EmailSummary>> pendingEmailIndex;
+
+    private boolean isInBatch;
+    private boolean isAddressBookChangedInBatch;
+    private boolean isBudgetBookChangedInBatch;
+    private final Lazy<CalendarModel> calendarModel;
 
     /**
      * Initializes a ModelManager with the given addressBook, budgetBook, userPrefs, and emailNamesSet.
@@ -78,9 +95,9 @@ public class ModelManager extends ComponentManager implements Model {
         versionedBudgetBook = new VersionedBudgetBook(budgetBook);
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredCcas = new FilteredList<>(versionedBudgetBook.getCcaList());
-        this.emailModel = new EmailModel(emailNamesSet);
+        this.emailModel = new Lazy<>(() -> new EmailModel(emailNamesSet));
         this.userPrefs = userPrefs;
-        this.calendarModel = new CalendarModel(userPrefs.getExistingCalendar());
+        this.calendarModel = new Lazy<>(() -> new CalendarModel(userPrefs.getExistingCalendar()));
 
     }
 
@@ -99,9 +116,9 @@ public class ModelManager extends ComponentManager implements Model {
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         versionedBudgetBook = new VersionedBudgetBook(new BudgetBook());
         filteredCcas = new FilteredList<>(versionedBudgetBook.getCcaList());
-        emailModel = new EmailModel();
+        emailModel = new Lazy<>(EmailModel::new);
         this.userPrefs = userPrefs;
-        this.calendarModel = new CalendarModel(userPrefs.getExistingCalendar());
+        this.calendarModel = new Lazy<>(() -> new CalendarModel(userPrefs.getExistingCalendar()));
     }
 
     /**
@@ -115,9 +132,98 @@ public class ModelManager extends ComponentManager implements Model {
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         versionedBudgetBook = new VersionedBudgetBook(budgetBook);
         filteredCcas = new FilteredList<>(versionedBudgetBook.getCcaList());
-        emailModel = new EmailModel();
+        emailModel = new Lazy<>(EmailModel::new);
         this.userPrefs = userPrefs;
-        this.calendarModel = new CalendarModel(userPrefs.getExistingCalendar());
+        this.calendarModel = new Lazy<>(() -> new CalendarModel(userPrefs.getExistingCalendar()));
+    }
+
+    /**
+     * Bounds the undo history kept in memory by the limits in the user preferences, moving older history of the
+     * address book and budget book to {@code addressBookSpill} and {@code budgetBookSpill} respectively.
+     * The history is written to the spills on {@code spillWriter}, so that a commit does not wait for it.
+     */
+    public void setHistorySpills(HistorySpill<PersistentList<Person>> addressBookSpill,
+                                 HistorySpill<List<CcaListDelta>> budgetBookSpill, Executor spillWriter) {
+        requireAllNonNull(addressBookSpill, budgetBookSpill, spillWriter);
+        versionedAddressBook.setHistorySpill(addressBookSpill, userPrefs.getUndoHistoryStateLimit(),
+            userPrefs.getUndoHistoryByteLimit(), spillWriter);
+        versionedBudgetBook.setHistorySpill(budgetBookSpill, userPrefs.getUndoHistoryStateLimit(),
+            userPrefs.getUndoHistoryByteLimit(), spillWriter);
+    }
+
+    /**
+     * Makes the budget book start out as the one {@code budgetBook} reads from storage, so that the rest of the
+     * model can be used while it is read. The budget book is moved into the model by
+     * {@link #awaitPendingBudgetBook()}, which any use of the budget book calls first.
+     */
+    public void setPendingBudgetBook(Future<? extends ReadOnlyBudgetBook> budgetBook) {
+        requireNonNull(budgetBook);
+        pendingBudgetBook = budgetBook;
+    }
+
+    /**
+     * Adds the eml files summarised in the email index that {@code emailIndex} reads from storage to the existing
+     * emails once it is read, in the same way as {@link #setPendingBudgetBook(Future)}.
+     */
+    public void setPendingEmailIndex(Future<? extends Map<String, EmailSummary>> emailIndex) {
+        requireNonNull(emailIndex);
+        pendingEmailIndex = emailIndex;
+    }
+
+    /**
+     * Moves the pending budget book, if any, into the model, waiting for it to be read if needed.
+     * The budget book is left empty if it could not be read.
+     */
+    public void awaitPendingBudgetBook() {
+        if (pendingBudgetBook == null) {
+            return;
+        }
+        Future<? extends ReadOnlyBudgetBook> budgetBook = pendingBudgetBook;
+        pendingBudgetBook = null;
+        getPendingData(budgetBook, "budget book").ifPresent(versionedBudgetBook::resetInitialState);
+    }
+
+    /**
+     * Moves the pending email index, if any, into the model, waiting for it to be read if needed.
+     */
+    public void awaitPendingEmailIndex() {
+        if (pendingEmailIndex == null) {
+            return;
+        }
+        Future<? extends Map<String, EmailSummary>> emailIndex = pendingEmailIndex;
+        pendingEmailIndex = null;
+        getPendingData(emailIndex, "email index").ifPresent(emailModel.get()::addEmailIndex);
+    }
+
+    /**
+     * Returns the result of {@code pendingData}, or an empty Optional if it could not be read.
+     */
+    private static <T> Optional<T> getPendingData(Future<? extends T> pendingData, String description) {
+        try {
+            return Optional.of(pendingData.get());
+        } catch (ExecutionException e) {
+            logger.warning("Failed to load the " + description + " : " + StringUtil.getDetails(e.getCause()));
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while loading the " + description);
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the budget book, after moving the pending budget book into it.
+     */
+    private VersionedBudgetBook budgetBook() {
+        awaitPendingBudgetBook();
+        return versionedBudgetBook;
+    }
+
+    /**
+     * Returns the email model, after adding the pending email index to it.
+     */
+    private EmailModel emails() {
+        awaitPendingEmailIndex();
+        return emailModel.get();
     }
 
     @Override
@@ -133,23 +239,32 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public ReadOnlyBudgetBook getBudgetBook() {
-        return versionedBudgetBook;
+        return budgetBook();
     }
 
     @Override
     public CalendarModel getCalendarModel() {
-        return calendarModel;
+        return calendarModel.get();
     }
 
     @Override
     public Set<String> getExistingEmails() {
-        return emailModel.getExistingEmails();
+        return emails().getExistingEmails();
+    }
+
+    @Override
+    public Map<String, EmailSummary> getEmailIndex() {
+        return emails().getEmailIndex();
     }
 
     /**
      * Raises an event to indicate the model has changed
      */
     private void indicateAddressBookChanged() {
+        if (isInBatch) {
+            isAddressBookChangedInBatch = true;
+            return;
+        }
         raise(new AddressBookChangedEvent(versionedAddressBook));
     }
 
@@ -158,7 +273,11 @@ public class ModelManager extends ComponentManager implements Model {
      * Raises an event to indicate the model has changed
      */
     private void indicateBudgetBookChanged() {
-        raise(new BudgetBookChangedEvent(versionedBudgetBook));
+        if (isInBatch) {
+            isBudgetBookChangedInBatch = true;
+            return;
+        }
+        raise(new BudgetBookChangedEvent(budgetBook()));
     }
 
     @Override
@@ -173,33 +292,22 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook.hasPerson(person);
     }
 
-    @Override
-    public void initialiseBudgetBook() {
-        Path ccabookXmlFilePath = Paths.get("data", "ccabook.xml");
-        requireNonNull(ccabookXmlFilePath);
-
-        if (!Files.exists(ccabookXmlFilePath)) {
-            raise(new BudgetBookChangedEvent(versionedBudgetBook));
-        }
-    }
-
-
     @Override
     public boolean hasCca(Person person) {
         requireNonNull(person);
-        return versionedBudgetBook.hasCca(person);
+        return budgetBook().hasCca(person);
     }
 
     @Override
     public boolean hasCca(CcaName ccaName) {
         requireNonNull(ccaName);
-        return versionedBudgetBook.hasCca(ccaName);
+        return budgetBook().hasCca(ccaName);
     }
 
     @Override
     public boolean hasCca(Cca cca) {
         requireNonNull(cca);
-        return versionedBudgetBook.hasCca(cca);
+        return budgetBook().hasCca(cca);
     }
 
     @Override
@@ -210,7 +318,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void deleteCca(Cca target) {
-        versionedBudgetBook.removeCca(target);
+        budgetBook().removeCca(target);
         indicateBudgetBookChanged();
     }
 
@@ -250,7 +358,7 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author ericyjw
     @Override
     public void addCca(Cca cca) {
-        versionedBudgetBook.addCca(cca);
+        budgetBook().addCca(cca);
         updateFilteredCcaList(PREDICATE_SHOW_ALL_CCAS);
         indicateBudgetBookChanged();
     }
@@ -258,7 +366,7 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author kengwoon
     @Override
     public void addMultipleCcas(List<Cca> ccaList) {
-        versionedBudgetBook.addMultipleCcas(ccaList);
+        budgetBook().addMultipleCcas(ccaList);
         indicateBudgetBookChanged();
     }
 
@@ -274,15 +382,17 @@ public class ModelManager extends ComponentManager implements Model {
     public void updateCca(Cca target, Cca editedCca) {
         requireAllNonNull(target, editedCca);
 
-        versionedBudgetBook.updateCca(target, editedCca);
+        budgetBook().updateCca(target, editedCca);
         indicateBudgetBookChanged();
     }
 
     //@@author kengwoon
     @Override
     public void updateMultipleCcas(List<Cca> target, List<Cca> editedCca) {
+        requireAllNonNull(target, editedCca);
+
         for (int i = 0; i < target.size(); i++) {
-            updateCca(target.get(i), editedCca.get(i));
+            budgetBook().updateCca(target.get(i), editedCca.get(i));
         }
         indicateBudgetBookChanged();
     }
@@ -290,9 +400,9 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author kengwoon
     @Override
     public void updateMultiplePersons(List<Person> target, List<Person> editedPerson) {
-        for (int i = 0; i < target.size(); i++) {
-            updatePerson(target.get(i), editedPerson.get(i));
-        }
+        requireAllNonNull(target, editedPerson);
+
+        versionedAddressBook.updateMultiplePersons(editedPerson, target);
         indicateAddressBookChanged();
     }
 
@@ -313,8 +423,13 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredPersons);
     }
 
+    /**
+     * Returns an unmodifiable view of the list of {@code Cca} backed by the internal list of
+     * {@code versionedBudgetBook}, after the pending budget book has been loaded into it.
+     */
     @Override
     public ObservableList<Cca> getFilteredCcaList() {
+        awaitPendingBudgetBook();
         return FXCollections.unmodifiableObservableList(filteredCcas);
     }
 
@@ -356,12 +471,91 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void commitAddressBook() {
+        if (isInBatch) {
+            return;
+        }
         versionedAddressBook.commit();
     }
 
     @Override
     public void commitBudgetBook() {
-        versionedBudgetBook.commit();
+        if (isInBatch) {
+            return;
+        }
+        budgetBook().commit();
+    }
+
+    //@@author
+    //=========== Batch changes ==============================================================================
+
+    @Override
+    public void startBatch() {
+        if (isInBatch) {
+            throw new IllegalStateException("A batch of changes is already in progress.");
+        }
+        versionedAddressBook.setSavepoint();
+        budgetBook().setSavepoint();
+        isInBatch = true;
+    }
+
+    @Override
+    public void commitBatch() {
+        endBatch();
+        if (isAddressBookChangedInBatch) {
+            versionedAddressBook.commit();
+            indicateAddressBookChanged();
+        }
+        if (isBudgetBookChangedInBatch) {
+            budgetBook().commit();
+            indicateBudgetBookChanged();
+        }
+        clearBatchChanges();
+    }
+
+    @Override
+    public void abortBatch() {
+        endBatch();
+        versionedAddressBook.rollbackToSavepoint();
+        budgetBook().rollbackToSavepoint();
+        clearBatchChanges();
+    }
+
+    /**
+     * Marks the current batch as ended.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    private void endBatch() {
+        if (!isInBatch) {
+            throw new IllegalStateException("No batch of changes is in progress.");
+        }
+        isInBatch = false;
+    }
+
+    private void clearBatchChanges() {
+        isAddressBookChangedInBatch = false;
+        isBudgetBookChangedInBatch = false;
+    }
+
+    //=========== Profile pictures =========================================================================
+
+    @Override
+    @Subscribe
+    public void handleProfilePictureSavedEvent(ProfilePictureSavedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Profile pictures saved, updating residents."));
+        // The pictures of one upload are a single undo step, so that undoing another command never takes them with it
+        startBatch();
+        event.profilePictures.forEach((room, picture) -> {
+            List<Person> residents = versionedAddressBook.getPersonsInRoom(room.value);
+            // The resident may have moved out while the picture was being saved
+            if (residents.isEmpty() || picture.equals(residents.get(0).getProfilePicture())) {
+                return;
+            }
+            Person resident = residents.get(0);
+            updatePerson(resident, new Person(resident.getName(), resident.getPhone(), resident.getEmail(),
+                resident.getRoom(), resident.getSchool(), picture, resident.getTags()));
+        });
+        commitBatch();
     }
 
     //@@author GilgameshTC
@@ -381,6 +575,13 @@ public class ModelManager extends ComponentManager implements Model {
         raise(new LoadCalendarEvent(calendarName));
     }
 
+    /**
+     * Raises an event to indicate a request for the calendars of a range of months to be loaded
+     */
+    private void indicateLoadCalendarRange(List<String> calendarNames, String rangeName) {
+        raise(new LoadCalendarRangeEvent(calendarNames, rangeName));
+    }
+
     /**
      * Raises an event to indicate that an all day event was created
      */
@@ -418,63 +619,66 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     @Subscribe
     public void handleCalendarLoadedEvent(CalendarLoadedEvent event) {
-        calendarModel.loadCalendar(event.calendar, event.calendarName);
+        calendarModel.get().loadCalendar(event.calendar, event.calendarName);
         indicateViewCalendar(event.calendar, event.calendarName);
     }
 
+    @Override
+    @Subscribe
+    public void handleCalendarRangeLoadedEvent(CalendarRangeLoadedEvent event) {
+        calendarModel.get().indexCalendars(event.calendarNames, event.calendars);
+        indicateViewCalendar(calendarModel.get().mergeCalendars(event.calendars), event.rangeName);
+    }
+
     @Override
     @Subscribe
     public void handleRemoveExistingCalendarInModelEvent(RemoveExistingCalendarInModelEvent event) {
-        calendarModel.removeExistingCalendar(event.year, event.month);
+        calendarModel.get().removeExistingCalendar(event.year, event.month);
         updateExistingCalendar();
     }
 
     @Override
     public boolean isExistingCalendar(Year year, Month month) {
         requireAllNonNull(year, month);
-        return calendarModel.isExistingCalendar(year, month);
+        return calendarModel.get().isExistingCalendar(year, month);
     }
 
     @Override
     public boolean isLoadedCalendar(Year year, Month month) {
         requireAllNonNull(year, month);
-        return calendarModel.isLoadedCalendar(year, month);
+        return calendarModel.get().isLoadedCalendar(year, month);
     }
 
     @Override
     public boolean isValidDate(Year year, Month month, int date) {
         requireAllNonNull(year, month, date);
-        return calendarModel.isValidDate(year, month, date);
+        return calendarModel.get().isValidDate(year, month, date);
     }
 
     @Override
     public boolean isValidTime(int hour, int minute) {
         requireAllNonNull(hour, minute);
-        return calendarModel.isValidTime(hour, minute);
+        return calendarModel.get().isValidTime(hour, minute);
     }
 
     @Override
     public boolean isValidTimeFrame(int startDate, int endDate) {
-        return calendarModel.isValidTimeFrame(startDate, 0, 0, endDate, 1, 0);
+        return calendarModel.get().isValidTimeFrame(startDate, 0, 0, endDate, 1, 0);
     }
 
     @Override
     public boolean isValidTimeFrame(int startDate, int startHour, int startMinute,
                                     int endDate, int endHour, int endMinute) {
         requireAllNonNull(startDate, startHour, startMinute, endDate, endHour, endMinute);
-        return calendarModel.isValidTimeFrame(startDate, startHour, startMinute, endDate, endHour, endMinute);
+        return calendarModel.get().isValidTimeFrame(startDate, startHour, startMinute, endDate, endHour, endMinute);
     }
 
     @Override
     public void createCalendar(Year year, Month month) {
-        try {
-            Calendar calendar = calendarModel.createCalendar(year, month);
-            updateExistingCalendar();
-            String calendarName = month + "-" + year;
-            indicateCalendarModelChanged(calendar, calendarName);
-        } catch (IOException e) {
-            logger.warning("Failed to save calendar(ics) file : " + StringUtil.getDetails(e));
-        }
+        Calendar calendar = calendarModel.get().createCalendar(year, month);
+        updateExistingCalendar();
+        String calendarName = month + "-" + year;
+        indicateCalendarModelChanged(calendar, calendarName);
     }
 
     @Override
@@ -484,43 +688,88 @@ public class ModelManager extends ComponentManager implements Model {
         indicateLoadCalendar(calendarName);
     }
 
+    @Override
+    public boolean isValidCalendarRange(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+        requireAllNonNull(startYear, startMonth, endYear, endMonth);
+        return calendarModel.get().isValidCalendarRange(startYear, startMonth, endYear, endMonth);
+    }
+
+    @Override
+    public List<String> getExistingCalendarsInRange(Year startYear, Month startMonth, Year endYear,
+                                                    Month endMonth) {
+        requireAllNonNull(startYear, startMonth, endYear, endMonth);
+        return calendarModel.get().getExistingCalendarsInRange(startYear, startMonth, endYear, endMonth);
+    }
+
+    @Override
+    public void loadCalendarRange(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+        requireAllNonNull(startYear, startMonth, endYear, endMonth);
+        List<String> calendarNames = getExistingCalendarsInRange(startYear, startMonth, endYear, endMonth);
+        indicateLoadCalendarRange(calendarNames, startMonth + "-" + startYear + " to " + endMonth + "-" + endYear);
+    }
+
     @Override
     public void createAllDayEvent(Year year, Month month, int date, String title) {
-        try {
-            Calendar calendarToBeLoaded = calendarModel.createAllDayEvent(year, month, date, title);
-            String calendarName = month + "-" + year;
-            indicateAllDayEventCreated(year, month, date, title, calendarToBeLoaded);
-            indicateViewCalendar(calendarToBeLoaded, calendarName);
-        } catch (IOException e) {
-            logger.warning("Failed to create all day event : " + StringUtil.getDetails(e));
-        }
+        Calendar calendarToBeLoaded = calendarModel.get().createAllDayEvent(year, month, date, title);
+        String calendarName = month + "-" + year;
+        indicateAllDayEventCreated(year, month, date, title, calendarToBeLoaded);
+        indicateViewCalendar(calendarToBeLoaded, calendarName);
     }
 
     @Override
     public void createEvent(Year year, Month month, int startDate, int startHour, int startMin,
                             int endDate, int endHour, int endMin, String title) {
-        try {
-            Calendar calendarToBeLoaded = calendarModel.createEvent(year, month, startDate,
-                startHour, startMin, endDate, endHour, endMin, title);
-            String calendarName = month + "-" + year;
-            indicateCalendarEventCreated(year, month, startDate, startHour, startMin, endDate, endHour, endMin, title,
-                calendarToBeLoaded);
-            indicateViewCalendar(calendarToBeLoaded, calendarName);
-        } catch (IOException e) {
-            logger.warning("Failed to create event : " + StringUtil.getDetails(e));
+        Calendar calendarToBeLoaded = calendarModel.get().createEvent(year, month, startDate,
+            startHour, startMin, endDate, endHour, endMin, title);
+        String calendarName = month + "-" + year;
+        indicateCalendarEventCreated(year, month, startDate, startHour, startMin, endDate, endHour, endMin, title,
+            calendarToBeLoaded);
+        indicateViewCalendar(calendarToBeLoaded, calendarName);
+    }
+
+    @Override
+    public int createEvents(Year year, Month month, List<VEvent> events) {
+        requireAllNonNull(year, month, events);
+        int added = calendarModel.get().createEvents(events);
+        Calendar calendarToBeLoaded = calendarModel.get().getLoadedCalendar().get();
+        String calendarName = month + "-" + year;
+        if (added > 0) {
+            indicateCalendarModelChanged(calendarToBeLoaded, calendarName);
         }
+        indicateViewCalendar(calendarToBeLoaded, calendarName);
+        return added;
+    }
+
+    @Override
+    public List<VEvent> getClashingEvents(Year year, Month month, int startDate, int startHour, int startMin,
+                                          int endDate, int endHour, int endMin) {
+        requireAllNonNull(year, month);
+        return calendarModel.get().getClashingEvents(year, month, startDate, startHour, startMin,
+            endDate, endHour, endMin);
+    }
+
+    @Override
+    public List<VEvent> getClashingEvents(Year year, Month month, int date) {
+        requireAllNonNull(year, month);
+        return calendarModel.get().getClashingEvents(year, month, date);
+    }
+
+    @Override
+    public List<ClashIndex.Clash> getClashes(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+        requireAllNonNull(startYear, startMonth, endYear, endMonth);
+        return calendarModel.get().getClashes(startYear, startMonth, endYear, endMonth);
     }
 
     @Override
     public boolean isExistingEvent(Year year, Month month, int startDate, int endDate, String title) {
         requireAllNonNull(year, month, startDate, endDate, title);
-        return calendarModel.isExistingEvent(startDate, endDate, title);
+        return calendarModel.get().isExistingEvent(startDate, endDate, title);
 
     }
 
     @Override
     public void deleteEvent(Year year, Month month, int startDate, int endDate, String title) {
-        Calendar updatedCalender = calendarModel.deleteEvent();
+        Calendar updatedCalender = calendarModel.get().deleteEvent();
         String calendarName = month + "-" + year;
         indicateCalendarEventDeleted(year, month, startDate, endDate, title, updatedCalender);
         indicateViewCalendar(updatedCalender, calendarName);
@@ -528,7 +777,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void updateExistingCalendar() {
-        userPrefs.setExistingCalendar(calendarModel.getExistingCalendar());
+        userPrefs.setExistingCalendar(calendarModel.get().getExistingCalendar());
     }
 
     //@@author
@@ -548,17 +797,13 @@ public class ModelManager extends ComponentManager implements Model {
         ModelManager other = (ModelManager) obj;
         if (filteredPersons == null) {
             return versionedAddressBook.equals(other.versionedAddressBook)
-                    && calendarModel.equals(other.calendarModel)
-                    && emailModel.equals(other.emailModel);
-        } else if (calendarModel == null) {
-            return versionedAddressBook.equals(other.versionedAddressBook)
-                    && filteredPersons.equals(other.filteredPersons)
-                    && emailModel.equals(other.emailModel);
+                    && calendarModel.get().equals(other.calendarModel.get())
+                    && emails().equals(other.emails());
         }
         return versionedAddressBook.equals(other.versionedAddressBook)
             && filteredPersons.equals(other.filteredPersons)
-            && calendarModel.equals(other.calendarModel)
-            && emailModel.equals(other.emailModel);
+            && calendarModel.get().equals(other.calendarModel.get())
+            && emails().equals(other.emails());
     }
 
     //@@author EatOrBeEaten
@@ -566,48 +811,48 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void saveEmail(Email email) {
-        emailModel.saveEmail(email);
+        emails().saveEmail(email);
         indicateEmailSaved();
     }
 
     @Override
     public void saveComposedEmail(Email email) {
-        emailModel.saveComposedEmail(email);
+        emails().saveComposedEmail(email);
         indicateEmailSaved();
     }
 
     @Override
     public void saveComposedEmailWithoutDisplay(Email email) {
-        emailModel.saveComposedEmail(email);
+        emails().saveComposedEmail(email);
         indicateEmailSavedWithoutDisplay();
     }
 
     @Override
     public void deleteEmail(String fileName) {
-        emailModel.removeFromExistingEmails(fileName);
+        emails().removeFromExistingEmails(fileName);
         raise(new EmailDeleteEvent(fileName));
     }
 
     @Override
     public boolean hasEmail(String fileName) {
         requireNonNull(fileName);
-        return emailModel.hasEmail(fileName);
+        return emails().hasEmail(fileName);
     }
 
     /**
      * Raises an event to indicate that a new email has been saved to EmailModel.
      */
     private void indicateEmailSavedWithoutDisplay() {
-        raise(new EmailSavedEvent(emailModel));
+        raise(new EmailSavedEvent(emails()));
     }
 
     /**
      * Raises an event to indicate that a new email has been saved to EmailModel, and displays it on the BrowserPanel.
      */
     private void indicateEmailSaved() {
-        raise(new EmailSavedEvent(emailModel));
+        raise(new EmailSavedEvent(emails()));
         raise(new ToggleBrowserPlaceholderEvent(ToggleBrowserPlaceholderEvent.BROWSER_PANEL));
-        raise(new EmailViewEvent(emailModel));
+        raise(new EmailViewEvent(emails()));
     }
 
     @Override
@@ -616,32 +861,6 @@ public class ModelManager extends ComponentManager implements Model {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Email loaded, saving to EmailModel."));
         saveEmail(event.data);
         raise(new ToggleBrowserPlaceholderEvent(ToggleBrowserPlaceholderEvent.BROWSER_PANEL));
-        raise(new EmailViewEvent(emailModel));
+        raise(new EmailViewEvent(emails()));
     }
-
-    //@@author ericyjw
-    @Override
-    public void readXslFile() {
-        Path ccaXslFilePath = Paths.get("data", "ccabook.xsl");
-        requireNonNull(ccaXslFilePath);
-
-        if (!Files.exists(ccaXslFilePath)) {
-
-            try {
-                InputStream is = MainApp.class.getResourceAsStream("/ccabook.xsl");
-
-                File dir = new File("data");
-                dir.mkdirs();
-
-                Files.copy(is, Paths.get("data", "ccabook.xsl"));
-            } catch (IOException e) {
-                logger.warning("An error occurred copying the resource!");
-            }
-            //            } catch (NullPointerException e) {
-            //                logger.warning("Null pointer exception - no such path");
-            //            }
-
-        }
-    }
-
 }
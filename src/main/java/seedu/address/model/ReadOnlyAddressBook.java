@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,24 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the persons tagged with {@code tagName}, which is matched case-insensitively.
+     */
+    List<Person> getPersonsWithTag(String tagName);
+
+    /**
+     * Returns the persons staying in {@code room}, which is matched case-insensitively.
+     */
+    List<Person> getPersonsInRoom(String room);
+
+    /**
+     * Returns the persons staying in {@code block}, which is matched case-insensitively.
+     */
+    List<Person> getPersonsInBlock(String block);
+
+    /**
+     * Returns the persons staying on {@code floor} of {@code block}, which is matched case-insensitively.
+     */
+    List<Person> getPersonsOnFloor(String block, String floor);
+
 }
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
 
 /**
  * Unmodifiable view of a budget book
@@ -12,4 +15,9 @@ public interface ReadOnlyBudgetBook {
      * This list will not contain any duplicate cca.
      */
     ObservableList<Cca> getCcaList();
+
+    /**
+     * Returns the cca with the given name, if it exists.
+     */
+    Optional<Cca> getCca(CcaName ccaName);
 }
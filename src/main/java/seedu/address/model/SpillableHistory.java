@@ -0,0 +1,325 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * A list of undo history entries whose heap use is bounded.
+ * Once a {@code HistorySpill} is attached, entries beyond the configured count or estimated size are written to the
+ * spill, starting with the ones farthest from the entry last used, and read back in when they are needed again.
+ * Entries are written to the spill in the background, and each stays in memory until its write is done.
+ * An entry that cannot be written is counted as held in memory again, and is written again once the limits call for
+ * it.
+ * Without a spill, every entry stays in memory.
+ *
+ * @param <T> the type of history entry
+ */
+public class SpillableHistory<T> {
+
+    private static final Logger logger = LogsCenter.getLogger(SpillableHistory.class);
+
+    private final List<HistoryEntry<T>> entries = new ArrayList<>();
+    /** Positions of the entries that are counted as held in memory. */
+    private final TreeSet<Integer> inMemoryPositions = new TreeSet<>();
+    private long inMemoryBytes;
+    private long nextId;
+    /** Entries whose write to the spill failed, to be counted as held in memory again on the history's own thread. */
+    private final Queue<HistoryEntry<T>> failedWrites = new ConcurrentLinkedQueue<>();
+
+    private HistorySpill<T> spill;
+    private Executor spillWriter;
+    private int maxInMemoryEntries = Integer.MAX_VALUE;
+    private long maxInMemoryBytes = Long.MAX_VALUE;
+
+    /**
+     * Bounds the entries kept in memory to {@code maxInMemoryEntries} entries and {@code maxInMemoryBytes}
+     * estimated bytes, moving the rest to {@code spill}. Entries are written to and deleted from the spill on
+     * {@code spillWriter}, which must run its tasks in the order they are given.
+     */
+    public void setSpill(HistorySpill<T> spill, int maxInMemoryEntries, long maxInMemoryBytes,
+                         Executor spillWriter) {
+        requireNonNull(spill);
+        requireNonNull(spillWriter);
+        if (maxInMemoryEntries < 1 || maxInMemoryBytes < 0) {
+            throw new IllegalArgumentException("History must be allowed to keep at least one entry in memory.");
+        }
+        this.spill = spill;
+        this.spillWriter = spillWriter;
+        this.maxInMemoryEntries = maxInMemoryEntries;
+        this.maxInMemoryBytes = maxInMemoryBytes;
+        recountFailedWrites();
+        enforceLimits(entries.size() - 1);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Appends {@code value}, which is estimated to take up {@code estimatedBytes} of memory.
+     */
+    public void add(T value, long estimatedBytes) {
+        requireNonNull(value);
+        recountFailedWrites();
+        entries.add(new HistoryEntry<>(nextId++, value, estimatedBytes));
+        count(entries.size() - 1);
+        enforceLimits(entries.size() - 1);
+    }
+
+    /**
+     * Returns the entry at {@code position}, reading it back from the spill if it has been moved out of memory.
+     * Returns an empty {@code Optional} if the spilled entry can no longer be read.
+     */
+    public Optional<T> get(int position) {
+        recountFailedWrites();
+        HistoryEntry<T> entry = entries.get(position);
+        T value = entry.keepInMemory();
+        if (value == null) {
+            Optional<T> spilledValue = readFromSpill(entry);
+            if (!spilledValue.isPresent()) {
+                return spilledValue;
+            }
+            value = spilledValue.get();
+            entry.setValue(value);
+        }
+        if (!entry.isCounted) {
+            count(position);
+        }
+        enforceLimits(position);
+        return Optional.of(value);
+    }
+
+    /**
+     * Removes the entries from {@code fromPosition} onwards.
+     */
+    public void removeFrom(int fromPosition) {
+        List<HistoryEntry<T>> removed = entries.subList(fromPosition, entries.size());
+        removed.forEach(this::release);
+        removed.clear();
+        inMemoryPositions.tailSet(fromPosition).clear();
+    }
+
+    /**
+     * Removes the entries before {@code toPosition}, shifting the remaining entries to the front.
+     */
+    public void removeBefore(int toPosition) {
+        List<HistoryEntry<T>> removed = entries.subList(0, toPosition);
+        removed.forEach(this::release);
+        removed.clear();
+        inMemoryPositions.clear();
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).isCounted) {
+                inMemoryPositions.add(i);
+            }
+        }
+    }
+
+    /**
+     * Counts the entry at {@code position} as held in memory.
+     */
+    private void count(int position) {
+        HistoryEntry<T> entry = entries.get(position);
+        entry.isCounted = true;
+        inMemoryPositions.add(position);
+        inMemoryBytes += entry.estimatedBytes;
+    }
+
+    /**
+     * Counts the entries whose write to the spill failed as held in memory again, unless they have been removed or
+     * counted again since. Only those entries that were once written to the spill are still deleted from it.
+     */
+    private void recountFailedWrites() {
+        HistoryEntry<T> entry;
+        while ((entry = failedWrites.poll()) != null) {
+            entry.isSentToSpill = entry.isWritten();
+            int position = entries.indexOf(entry);
+            if (position >= 0 && !entry.isCounted) {
+                count(position);
+            }
+        }
+    }
+
+    /**
+     * Frees the memory or spill space held by {@code entry}.
+     */
+    private void release(HistoryEntry<T> entry) {
+        if (entry.isCounted) {
+            inMemoryBytes -= entry.estimatedBytes;
+        }
+        if (entry.isSentToSpill) {
+            spillWriter.execute(() -> spill.delete(entry.id));
+        }
+    }
+
+    /**
+     * Moves entries to the spill until the in-memory limits are met.
+     * Entries farthest from {@code focus} are moved first, and the entry at {@code focus} is always kept.
+     */
+    private void enforceLimits(int focus) {
+        if (spill == null) {
+            return;
+        }
+        while (inMemoryPositions.size() > maxInMemoryEntries || inMemoryBytes > maxInMemoryBytes) {
+            int first = inMemoryPositions.first();
+            int last = inMemoryPositions.last();
+            int farthest = focus - first >= last - focus ? first : last;
+            if (farthest == focus) {
+                return;
+            }
+            moveToSpill(farthest);
+        }
+    }
+
+    /**
+     * Stops counting the entry at {@code position} as held in memory, and writes it to the spill in the background.
+     * The entry is dropped from memory once it has been written, unless it has been used again in the meantime.
+     * If it cannot be written, it stays in memory, and is counted again by {@link #recountFailedWrites()}.
+     */
+    private void moveToSpill(int position) {
+        HistoryEntry<T> entry = entries.get(position);
+        T value = entry.leaveMemory();
+        entry.isCounted = false;
+        entry.isSentToSpill = true;
+        inMemoryPositions.remove(position);
+        inMemoryBytes -= entry.estimatedBytes;
+        spillWriter.execute(() -> {
+            try {
+                spill.write(entry.id, value);
+            } catch (IOException e) {
+                logger.warning("Unable to move undo history out of memory: " + e.getMessage());
+                entry.keepInMemory();
+                failedWrites.add(entry);
+                return;
+            }
+            entry.markWritten();
+            entry.dropIfLeavingMemory();
+        });
+    }
+
+    /**
+     * Reads {@code entry} back from the spill.
+     */
+    private Optional<T> readFromSpill(HistoryEntry<T> entry) {
+        try {
+            return Optional.of(spill.read(entry.id));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to read back undo history: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the entry at {@code position} without moving it back into memory.
+     */
+    private Optional<T> peek(int position) {
+        HistoryEntry<T> entry = entries.get(position);
+        T value = entry.getValue();
+        return value != null ? Optional.of(value) : readFromSpill(entry);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SpillableHistory)) {
+            return false;
+        }
+
+        SpillableHistory<?> otherHistory = (SpillableHistory<?>) other;
+        if (size() != otherHistory.size()) {
+            return false;
+        }
+        for (int i = 0; i < size(); i++) {
+            if (!peek(i).equals(otherHistory.peek(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return entries.size();
+    }
+
+    /**
+     * A history entry, holding its value only while it is in memory.
+     * The value is guarded by the entry's lock, as it is dropped on the spill writer's thread.
+     */
+    private static class HistoryEntry<T> {
+        private final long id;
+        private final long estimatedBytes;
+        private T value;
+        private boolean isLeavingMemory;
+        private boolean isWritten;
+        /** Whether the entry counts towards the bytes held in memory; only used on the history's own thread. */
+        private boolean isCounted;
+        /** Whether the entry may have been written to the spill; only used on the history's own thread. */
+        private boolean isSentToSpill;
+
+        HistoryEntry(long id, T value, long estimatedBytes) {
+            this.id = id;
+            this.value = value;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        synchronized T getValue() {
+            return value;
+        }
+
+        synchronized void setValue(T value) {
+            this.value = value;
+        }
+
+        /**
+         * Marks the value to be dropped once it has been written to the spill, and returns it.
+         */
+        synchronized T leaveMemory() {
+            isLeavingMemory = true;
+            return value;
+        }
+
+        /**
+         * Keeps the value in memory even after it has been written to the spill, and returns it.
+         * Returns null if the value has already been dropped.
+         */
+        synchronized T keepInMemory() {
+            isLeavingMemory = false;
+            return value;
+        }
+
+        /**
+         * Records that the value has been written to the spill at least once.
+         */
+        synchronized void markWritten() {
+            isWritten = true;
+        }
+
+        synchronized boolean isWritten() {
+            return isWritten;
+        }
+
+        /**
+         * Drops the value, now that it has been written to the spill, unless it is to be kept in memory.
+         */
+        synchronized void dropIfLeavingMemory() {
+            if (isLeavingMemory) {
+                value = null;
+                isLeavingMemory = false;
+            }
+        }
+    }
+}
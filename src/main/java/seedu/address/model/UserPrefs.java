@@ -19,12 +19,13 @@ public class UserPrefs {
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
     private Path budgetBookFilePath = Paths.get("data", "ccabook.xml");
-    private Path ccaXslFilePath = Paths.get("data", "ccabook.xsl");
     private Path emailPath = Paths.get("email");
     private Path calendarPath = Paths.get("calendars");
     private Path profilePicturePath = Paths.get("src", "main", "resources", "profile_picture");
-    private Path outputProfilePicturePath = Paths.get("out", "production", "resources", "profile_picture");
     private Map<Year, Set<Month>> existingCalendar;
+    private Path undoHistoryPath = Paths.get("data", "history");
+    private int undoHistoryStateLimit = 1000;
+    private long undoHistoryByteLimit = 16L * 1024 * 1024;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -51,10 +52,6 @@ public class UserPrefs {
         return budgetBookFilePath;
     }
 
-    public Path getCcaXslFilePath() {
-        return ccaXslFilePath;
-    }
-
 
     public void setBudgetBookFilePath(Path budgetBookFilePath) {
         this.budgetBookFilePath = budgetBookFilePath;
@@ -95,11 +92,41 @@ public class UserPrefs {
         return profilePicturePath;
     }
 
-    public Path getOutputProfilePicturePath() {
-        return outputProfilePicturePath;
+    //@@author
+
+    /**
+     * Returns the directory that undo history is moved to once it no longer fits in memory.
+     */
+    public Path getUndoHistoryPath() {
+        return undoHistoryPath;
     }
 
-    //@@author
+    public void setUndoHistoryPath(Path undoHistoryPath) {
+        this.undoHistoryPath = undoHistoryPath;
+    }
+
+    /**
+     * Returns the number of undo states that each of the address book and budget book may keep in memory.
+     */
+    public int getUndoHistoryStateLimit() {
+        return undoHistoryStateLimit;
+    }
+
+    public void setUndoHistoryStateLimit(int undoHistoryStateLimit) {
+        this.undoHistoryStateLimit = undoHistoryStateLimit;
+    }
+
+    /**
+     * Returns the estimated number of bytes of undo history that each of the address book and budget book
+     * may keep in memory.
+     */
+    public long getUndoHistoryByteLimit() {
+        return undoHistoryByteLimit;
+    }
+
+    public void setUndoHistoryByteLimit(long undoHistoryByteLimit) {
+        this.undoHistoryByteLimit = undoHistoryByteLimit;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -117,7 +144,9 @@ public class UserPrefs {
                 && Objects.equals(emailPath, o.emailPath)
             && Objects.equals(calendarPath, o.calendarPath)
             && Objects.equals(profilePicturePath, o.profilePicturePath)
-            && Objects.equals(outputProfilePicturePath, o.outputProfilePicturePath);
+            && Objects.equals(undoHistoryPath, o.undoHistoryPath)
+            && undoHistoryStateLimit == o.undoHistoryStateLimit
+            && undoHistoryByteLimit == o.undoHistoryByteLimit;
 
     }
 
@@ -134,7 +163,8 @@ public class UserPrefs {
         sb.append("\nEmail directory location : " + emailPath);
         sb.append("\nCalendar directory location : " + calendarPath);
         sb.append("\nProfile picture directory location : " + profilePicturePath);
-        sb.append("\nOutput profile picture directory location: " + outputProfilePicturePath);
+        sb.append("\nUndo history directory location : " + undoHistoryPath);
+        sb.append("\nUndo history limits : " + undoHistoryStateLimit + " states, " + undoHistoryByteLimit + " bytes");
         return sb.toString();
     }
 }
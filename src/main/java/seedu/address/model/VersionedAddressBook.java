@@ -1,36 +1,98 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Each saved state is a {@code PersistentList} that shares structure with the states around it, so a commit is
+ * O(1) and only the persons touched since the previous commit cost extra memory.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    /** Rough heap cost of a person that is only referenced by the history, used to bound its memory. */
+    private static final long ESTIMATED_PERSON_BYTES = 1024;
+
+    private final SpillableHistory<PersistentList<Person>> addressBookStateList;
     private int currentStatePointer;
 
+    /** Mirrors the live person list; updated in O(log n) per change as the list is edited. */
+    private PersistentList<Person> workingState;
+    private boolean isRestoringState;
+    /** Number of persons added or removed from {@code workingState} since the last commit. */
+    private int uncommittedChangeCount;
+    private PersistentList<Person> savepoint;
+
+    /** Kept as a field so the change listener stays registered for the lifetime of this address book. */
+    private final ObservableList<Person> trackedPersons;
+
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
         super(initialState);
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        workingState = PersistentList.of(getPersonList());
+        trackedPersons = getPersonList();
+        trackedPersons.addListener(this::trackChanges);
+
+        addressBookStateList = new SpillableHistory<>();
+        addressBookStateList.add(workingState, workingState.size() * ESTIMATED_PERSON_BYTES);
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Bounds the history kept in memory to {@code maxInMemoryStates} states and {@code maxInMemoryBytes}
+     * estimated bytes. Older states are moved to {@code spill} on {@code spillWriter} and read back in on a deep undo.
+     */
+    public void setHistorySpill(HistorySpill<PersistentList<Person>> spill, int maxInMemoryStates,
+                                long maxInMemoryBytes, Executor spillWriter) {
+        addressBookStateList.setSpill(spill, maxInMemoryStates, maxInMemoryBytes, spillWriter);
+    }
+
+    /**
+     * Applies {@code change} to {@code workingState}, touching only the positions that changed.
+     * Whole-list replacements (e.g. {@code resetData}) rebuild the working state in O(n) instead.
+     */
+    private void trackChanges(ListChangeListener.Change<? extends Person> change) {
+        if (isRestoringState) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()
+                    || change.getFrom() == 0 && change.getRemovedSize() == workingState.size()) {
+                workingState = PersistentList.of(change.getList());
+                uncommittedChangeCount += change.getRemovedSize() + workingState.size();
+                return;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                workingState = workingState.minus(change.getFrom());
+            }
+            List<? extends Person> added = change.getAddedSubList();
+            uncommittedChangeCount += change.getRemovedSize() + added.size();
+            for (int i = 0; i < added.size(); i++) {
+                workingState = workingState.plus(change.getFrom() + i, added.get(i));
+            }
+        }
+    }
+
+    /**
+     * Saves the current {@code AddressBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        addressBookStateList.add(workingState, uncommittedChangeCount * ESTIMATED_PERSON_BYTES);
+        uncommittedChangeCount = 0;
+        savepoint = null;
         currentStatePointer++;
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        addressBookStateList.removeFrom(currentStatePointer + 1);
     }
 
     /**
@@ -40,8 +102,15 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        Optional<PersistentList<Person>> state = addressBookStateList.get(currentStatePointer - 1);
+        if (!state.isPresent()) {
+            // the state can no longer be restored, so neither can anything before it
+            addressBookStateList.removeBefore(currentStatePointer);
+            currentStatePointer = 0;
+            throw new NoUndoableStateException();
+        }
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restoreState(state.get());
     }
 
     /**
@@ -51,8 +120,50 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        Optional<PersistentList<Person>> state = addressBookStateList.get(currentStatePointer + 1);
+        if (!state.isPresent()) {
+            addressBookStateList.removeFrom(currentStatePointer + 1);
+            throw new NoRedoableStateException();
+        }
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restoreState(state.get());
+    }
+
+    /**
+     * Replaces the person list with {@code state}, which becomes the new working state as is.
+     */
+    private void restoreState(PersistentList<Person> state) {
+        isRestoringState = true;
+        try {
+            setPersons(state);
+        } finally {
+            isRestoringState = false;
+        }
+        workingState = state;
+        uncommittedChangeCount = 0;
+        savepoint = null;
+    }
+
+    /**
+     * Remembers the current state of the address book so that later changes can be rolled back.
+     */
+    public void setSavepoint() {
+        savepoint = workingState;
+    }
+
+    /**
+     * Discards the changes made since {@code setSavepoint()} was last called.
+     * Committing, undoing or redoing clears the savepoint.
+     */
+    public void rollbackToSavepoint() {
+        if (savepoint == null) {
+            throw new IllegalStateException("No savepoint has been set.");
+        }
+        if (savepoint != workingState) {
+            int changeCount = uncommittedChangeCount;
+            restoreState(savepoint);
+            uncommittedChangeCount = changeCount;
+        }
     }
 
     /**
@@ -2,35 +2,104 @@ package seedu.address.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaListDelta;
 
 /**
  * {@code BudgetBook} that keeps track of its own history.
+ * Instead of saving a copy of the whole budget book on every commit, each change to the Cca list is recorded as a
+ * {@code CcaListDelta}, and the deltas between two commits are kept together as one entry of the history.
+ * Undo and redo replay those deltas, so they take time proportional to the size of the change.
  */
 public class VersionedBudgetBook extends BudgetBook {
 
-    private final List<ReadOnlyBudgetBook> budgetBookStateList;
+    /** Rough heap cost of a recorded Cca, used to bound the memory held by the history. */
+    private static final long ESTIMATED_CCA_BYTES = 512;
+    private static final long ESTIMATED_ENTRY_BYTES = 256;
+
+    private final SpillableHistory<List<CcaListDelta>> budgetBookDeltaList;
     private int currentStatePointer;
 
+    /** Changes made since the last commit, in the order they were made. */
+    private final List<CcaListDelta> uncommittedDeltas;
+    private boolean isReplayingDeltas;
+    /** Number of uncommitted deltas when the savepoint was set, or -1 if there is no savepoint. */
+    private int savepoint = -1;
+
+    /** Kept as a field so the change listener stays registered for the lifetime of this budget book. */
+    private final ObservableList<Cca> trackedCcas;
+
     public VersionedBudgetBook(ReadOnlyBudgetBook initialState) {
         super(initialState);
 
-        budgetBookStateList = new ArrayList<>();
-        budgetBookStateList.add(new BudgetBook(initialState));
+        budgetBookDeltaList = new SpillableHistory<>();
+        uncommittedDeltas = new ArrayList<>();
         currentStatePointer = 0;
+
+        trackedCcas = getCcaList();
+        trackedCcas.addListener(this::recordChanges);
+    }
+
+    /**
+     * Bounds the history kept in memory to {@code maxInMemoryStates} commits and {@code maxInMemoryBytes}
+     * estimated bytes. Older commits are moved to {@code spill} on {@code spillWriter} and read back in on a deep
+     * undo.
+     */
+    public void setHistorySpill(HistorySpill<List<CcaListDelta>> spill, int maxInMemoryStates,
+                                long maxInMemoryBytes, Executor spillWriter) {
+        budgetBookDeltaList.setSpill(spill, maxInMemoryStates, maxInMemoryBytes, spillWriter);
+    }
+
+    /**
+     * Replaces the data of this budget book with {@code initialState} as if it had been created with it, so that
+     * the replacement cannot be undone.
+     *
+     * @throws IllegalStateException if changes have already been made to this budget book.
+     */
+    public void resetInitialState(ReadOnlyBudgetBook initialState) {
+        if (currentStatePointer != 0 || budgetBookDeltaList.size() != 0 || !uncommittedDeltas.isEmpty()) {
+            throw new IllegalStateException("The budget book has already been changed.");
+        }
+        isReplayingDeltas = true;
+        try {
+            resetData(initialState);
+        } finally {
+            isReplayingDeltas = false;
+        }
+    }
+
+    /**
+     * Records every change in {@code change} as a {@code CcaListDelta}.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Cca> change) {
+        if (isReplayingDeltas) {
+            return;
+        }
+        while (change.next()) {
+            uncommittedDeltas.add(new CcaListDelta(change.getFrom(), change.getRemoved(),
+                    change.getAddedSubList()));
+        }
     }
 
     /**
-     * Saves a copy of the current {@code BudgetBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit at the end of the history.
+     * Undone changes are removed from the history.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        budgetBookStateList.add(new BudgetBook(this));
+        budgetBookDeltaList.add(new ArrayList<>(uncommittedDeltas), estimateBytes(uncommittedDeltas));
+        uncommittedDeltas.clear();
+        savepoint = -1;
         currentStatePointer++;
     }
 
     private void removeStatesAfterCurrentPointer() {
-        budgetBookStateList.subList(currentStatePointer + 1, budgetBookStateList.size()).clear();
+        budgetBookDeltaList.removeFrom(currentStatePointer);
     }
 
     /**
@@ -40,8 +109,16 @@ public class VersionedBudgetBook extends BudgetBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        Optional<List<CcaListDelta>> deltas = budgetBookDeltaList.get(currentStatePointer - 1);
+        if (!deltas.isPresent()) {
+            // the changes can no longer be undone, so neither can anything before them
+            budgetBookDeltaList.removeBefore(currentStatePointer);
+            currentStatePointer = 0;
+            throw new NoUndoableStateException();
+        }
+        revertUncommittedDeltas();
         currentStatePointer--;
-        resetData(budgetBookStateList.get(currentStatePointer));
+        revert(deltas.get());
     }
 
     /**
@@ -51,8 +128,90 @@ public class VersionedBudgetBook extends BudgetBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        Optional<List<CcaListDelta>> deltas = budgetBookDeltaList.get(currentStatePointer);
+        if (!deltas.isPresent()) {
+            budgetBookDeltaList.removeFrom(currentStatePointer);
+            throw new NoRedoableStateException();
+        }
+        revertUncommittedDeltas();
+        replay(deltas.get());
         currentStatePointer++;
-        resetData(budgetBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Discards changes made since the last commit, returning the budget book to its last saved state.
+     */
+    private void revertUncommittedDeltas() {
+        revert(uncommittedDeltas);
+        uncommittedDeltas.clear();
+        savepoint = -1;
+    }
+
+    /**
+     * Remembers the current state of the budget book so that later changes can be rolled back.
+     */
+    public void setSavepoint() {
+        savepoint = uncommittedDeltas.size();
+    }
+
+    /**
+     * Discards the changes made since {@code setSavepoint()} was last called.
+     * Committing, undoing or redoing clears the savepoint.
+     */
+    public void rollbackToSavepoint() {
+        if (savepoint < 0) {
+            throw new IllegalStateException("No savepoint has been set.");
+        }
+        List<CcaListDelta> changesSinceSavepoint = uncommittedDeltas.subList(savepoint, uncommittedDeltas.size());
+        revert(changesSinceSavepoint);
+        changesSinceSavepoint.clear();
+        savepoint = -1;
+    }
+
+    /**
+     * Applies {@code deltas} in the order they were recorded.
+     */
+    private void replay(List<CcaListDelta> deltas) {
+        isReplayingDeltas = true;
+        try {
+            deltas.forEach(this::apply);
+        } finally {
+            isReplayingDeltas = false;
+        }
+    }
+
+    /**
+     * Applies the inverse of {@code deltas} in the reverse of the order they were recorded.
+     */
+    private void revert(List<CcaListDelta> deltas) {
+        isReplayingDeltas = true;
+        try {
+            for (int i = deltas.size() - 1; i >= 0; i--) {
+                apply(deltas.get(i).inverse());
+            }
+        } finally {
+            isReplayingDeltas = false;
+        }
+    }
+
+    private void apply(CcaListDelta delta) {
+        spliceCcas(delta.getFrom(), delta.getRemoved().size(), delta.getAdded());
+    }
+
+    /**
+     * Returns a rough estimate of the heap taken up by {@code deltas}.
+     */
+    private static long estimateBytes(List<CcaListDelta> deltas) {
+        long bytes = 0;
+        for (CcaListDelta delta : deltas) {
+            for (Cca cca : delta.getRemoved()) {
+                bytes += ESTIMATED_CCA_BYTES + cca.getEntrySize() * ESTIMATED_ENTRY_BYTES;
+            }
+            for (Cca cca : delta.getAdded()) {
+                bytes += ESTIMATED_CCA_BYTES + cca.getEntrySize() * ESTIMATED_ENTRY_BYTES;
+            }
+        }
+        return bytes;
     }
 
     /**
@@ -66,7 +225,7 @@ public class VersionedBudgetBook extends BudgetBook {
      * Returns true if {@code redo()} has budget book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < budgetBookStateList.size() - 1;
+        return currentStatePointer < budgetBookDeltaList.size();
     }
 
     @Override
@@ -85,7 +244,8 @@ public class VersionedBudgetBook extends BudgetBook {
 
         // state check
         return super.equals(otherVersionedBudgetBook)
-            && budgetBookStateList.equals(otherVersionedBudgetBook.budgetBookStateList)
+            && budgetBookDeltaList.equals(otherVersionedBudgetBook.budgetBookDeltaList)
+            && uncommittedDeltas.equals(otherVersionedBudgetBook.uncommittedDeltas)
             && currentStatePointer == otherVersionedBudgetBook.currentStatePointer;
     }
 
@@ -107,4 +267,3 @@ public class VersionedBudgetBook extends BudgetBook {
         }
     }
 }
-
@@ -0,0 +1,389 @@
+package seedu.address.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.model.component.VEvent;
+
+/**
+ * Indexes the events of every calendar that has been loaded by the time frame they take up, so that the events
+ * overlapping a time frame can be found without going through every calendar.
+ * <p>
+ * The events are kept in an interval tree: a balanced binary search tree ordered by start time, where every node
+ * also holds the latest end time in its subtree. Adding or removing an event takes logarithmic time, and finding
+ * the events overlapping a time frame takes logarithmic time plus the time to list them.
+ * Time frames include their start but not their end, so an event ending as another starts does not clash with it.
+ * <p>
+ * Events with the same title and time frame are indexed as one event, so that an event found in several calendars,
+ * such as the placeholder every calendar is created with, neither clashes with itself nor is listed more than once.
+ */
+public class ClashIndex {
+
+    private static final DateTimeFormatter EVENT_TIME_FORMAT = DateTimeFormatter.ofPattern("d MMM yyyy HH:mm");
+
+    private Node root;
+    private long nextSequence;
+    private final Map<VEvent, Node> nodes = new IdentityHashMap<>();
+    /** The node of each title and time frame indexed, shared by every event with them. */
+    private final Map<List<Object>, Node> nodesByKey = new HashMap<>();
+    /** The calendar each calendar name was last indexed from, and the events indexed from it. */
+    private final Map<String, Calendar> indexedCalendars = new HashMap<>();
+    private final Map<String, List<VEvent>> eventsByCalendar = new HashMap<>();
+
+    /**
+     * Indexes the events of {@code calendar} as those of the calendar named {@code calendarName}, in place of any
+     * events indexed under that name before.
+     * Nothing is done if {@code calendar} itself is already indexed, as the index is told of its every change.
+     */
+    public void putCalendar(String calendarName, Calendar calendar) {
+        requireNonNull(calendarName);
+        requireNonNull(calendar);
+        if (indexedCalendars.get(calendarName) == calendar) {
+            return;
+        }
+        removeCalendar(calendarName);
+        indexedCalendars.put(calendarName, calendar);
+        for (CalendarComponent component : calendar.getComponents(Component.VEVENT)) {
+            add(calendarName, (VEvent) component);
+        }
+    }
+
+    /**
+     * Removes the events of the calendar named {@code calendarName} from the index.
+     */
+    public void removeCalendar(String calendarName) {
+        requireNonNull(calendarName);
+        indexedCalendars.remove(calendarName);
+        List<VEvent> events = eventsByCalendar.remove(calendarName);
+        if (events != null) {
+            events.forEach(this::removeNode);
+        }
+    }
+
+    /**
+     * Returns true if the events of the calendar named {@code calendarName} are in the index.
+     */
+    public boolean isIndexed(String calendarName) {
+        return indexedCalendars.containsKey(calendarName);
+    }
+
+    /**
+     * Adds {@code event} of the calendar named {@code calendarName} to the index.
+     * Events without a start or end take up no time and are left out, and an event with the same title and time
+     * frame as one already indexed is only found as that event.
+     */
+    public void add(String calendarName, VEvent event) {
+        requireNonNull(calendarName);
+        requireNonNull(event);
+        if (event.getStartDate() == null || event.getEndDate() == null || nodes.containsKey(event)) {
+            return;
+        }
+        long start = event.getStartDate().getDate().getTime();
+        long end = Math.max(start, event.getEndDate().getDate().getTime());
+        String title = event.getSummary() == null ? "" : event.getSummary().getValue();
+        List<Object> key = Arrays.asList(title, start, end);
+        Node node = nodesByKey.get(key);
+        if (node == null) {
+            node = new Node(start, end, nextSequence++, key);
+            root = insert(root, node);
+            nodesByKey.put(key, node);
+        }
+        node.copies.add(event);
+        nodes.put(event, node);
+        eventsByCalendar.computeIfAbsent(calendarName, name -> new ArrayList<>()).add(event);
+    }
+
+    /**
+     * Removes {@code event} of the calendar named {@code calendarName} from the index.
+     */
+    public void remove(String calendarName, VEvent event) {
+        requireNonNull(calendarName);
+        requireNonNull(event);
+        List<VEvent> events = eventsByCalendar.get(calendarName);
+        if (events != null) {
+            events.removeIf(indexedEvent -> indexedEvent == event);
+        }
+        removeNode(event);
+    }
+
+    /**
+     * Returns the events overlapping the time frame from {@code from} to {@code to}, in milliseconds since the
+     * epoch, in the order they start.
+     */
+    public List<VEvent> findOverlapping(long from, long to) {
+        List<Node> overlapping = new ArrayList<>();
+        collectOverlapping(root, from, to, overlapping);
+        List<VEvent> events = new ArrayList<>();
+        overlapping.forEach(node -> events.add(node.event()));
+        return events;
+    }
+
+    /**
+     * Returns every pair of overlapping events where at least one of them overlaps the time frame from
+     * {@code from} to {@code to}, ordered by the start of the earlier event of each pair.
+     */
+    public List<Clash> findClashes(long from, long to) {
+        List<Node> inRange = new ArrayList<>();
+        collectOverlapping(root, from, to, inRange);
+        Set<Node> isInRange = Collections.newSetFromMap(new IdentityHashMap<>());
+        isInRange.addAll(inRange);
+
+        List<Clash> clashes = new ArrayList<>();
+        for (Node node : inRange) {
+            List<Node> overlapping = new ArrayList<>();
+            collectOverlapping(root, node.start, node.end, overlapping);
+            for (Node other : overlapping) {
+                // Each pair is reported once, by the later event of the pair, unless only the later is out of range
+                boolean isReportedByOther = isInRange.contains(other) && compare(other, node) > 0;
+                if (other != node && !isReportedByOther) {
+                    clashes.add(compare(other, node) < 0 ? new Clash(other.event(), node.event())
+                            : new Clash(node.event(), other.event()));
+                }
+            }
+        }
+        clashes.sort((first, second) -> compare(nodes.get(first.getFirst()), nodes.get(second.getFirst())));
+        return clashes;
+    }
+
+    /**
+     * Returns the title and time frame of {@code event}, in the default time zone.
+     */
+    public static String describe(VEvent event) {
+        requireNonNull(event);
+        String title = event.getSummary() == null ? "" : event.getSummary().getValue();
+        if (event.getStartDate() == null || event.getEndDate() == null) {
+            return title;
+        }
+        return title + " (" + EventFactory.toLocalDateTime(event.getStartDate().getDate()).format(EVENT_TIME_FORMAT)
+                + " - " + EventFactory.toLocalDateTime(event.getEndDate().getDate()).format(EVENT_TIME_FORMAT) + ")";
+    }
+
+    /**
+     * Removes {@code event} from its node, and the node from the interval tree once no event is left in it.
+     */
+    private void removeNode(VEvent event) {
+        Node node = nodes.remove(event);
+        if (node == null) {
+            return;
+        }
+        node.copies.removeIf(copy -> copy == event);
+        if (node.copies.isEmpty()) {
+            root = delete(root, node);
+            nodesByKey.remove(node.key);
+        }
+    }
+
+    //=========== Interval tree ============================================================================
+
+    /**
+     * Adds the nodes under {@code node} that overlap the time frame from {@code from} to {@code to} to
+     * {@code overlapping}, in order. Subtrees that end before the time frame, or start after it, are skipped.
+     */
+    private static void collectOverlapping(Node node, long from, long to, List<Node> overlapping) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, overlapping);
+        if (node.start >= to) {
+            return;
+        }
+        if (node.end > from) {
+            overlapping.add(node);
+        }
+        collectOverlapping(node.right, from, to, overlapping);
+    }
+
+    /**
+     * Orders nodes by start time, and nodes starting at the same time by the order they were added in.
+     */
+    private static int compare(Node first, Node second) {
+        if (first.start != second.start) {
+            return Long.compare(first.start, second.start);
+        }
+        return Long.compare(first.sequence, second.sequence);
+    }
+
+    /**
+     * Inserts {@code toInsert} under {@code node}, and returns the node now at the place of {@code node}.
+     */
+    private static Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (compare(toInsert, node) < 0) {
+            node.left = insert(node.left, toInsert);
+        } else {
+            node.right = insert(node.right, toInsert);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Deletes {@code toDelete} from under {@code node}, and returns the node now at the place of {@code node}.
+     * A node with two children is replaced by the first node after it.
+     */
+    private static Node delete(Node node, Node toDelete) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(toDelete, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, toDelete);
+            return rebalance(node);
+        }
+        if (comparison > 0) {
+            node.right = delete(node.right, toDelete);
+            return rebalance(node);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = deleteFirst(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    /**
+     * Deletes the first node under {@code node}, and returns the node now at the place of {@code node}.
+     */
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * Restores the height and latest end of {@code node} from its children, and rotates it if one side has grown
+     * more than one level taller than the other. Returns the node now at its place in the tree.
+     */
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Moves the right child of {@code node} up into its place, and returns it.
+     */
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Moves the left child of {@code node} up into its place, and returns it.
+     */
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static long maxEnd(Node node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    /**
+     * An event in the interval tree, with the time frame it takes up in milliseconds since the epoch.
+     * The node is shared by every indexed event with the same title and time frame, the first still indexed being
+     * the one found.
+     */
+    private static class Node {
+        private final long start;
+        private final long end;
+        private final long sequence;
+        private final List<Object> key;
+        private final List<VEvent> copies = new ArrayList<>();
+        private Node left;
+        private Node right;
+        private int height = 1;
+        private long maxEnd;
+
+        Node(long start, long end, long sequence, List<Object> key) {
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.key = key;
+            this.maxEnd = end;
+        }
+
+        VEvent event() {
+            return copies.get(0);
+        }
+    }
+
+    /**
+     * Two events whose time frames overlap, the one starting first being first.
+     */
+    public static class Clash {
+        private final VEvent first;
+        private final VEvent second;
+
+        Clash(VEvent first, VEvent second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public VEvent getFirst() {
+            return first;
+        }
+
+        public VEvent getSecond() {
+            return second;
+        }
+
+        @Override
+        public String toString() {
+            return describe(first) + " and " + describe(second);
+        }
+    }
+}
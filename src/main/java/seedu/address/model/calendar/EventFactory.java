@@ -0,0 +1,95 @@
+package seedu.address.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import net.fortuna.ical4j.model.DateTime;
+import net.fortuna.ical4j.model.component.VEvent;
+import net.fortuna.ical4j.model.property.Categories;
+import net.fortuna.ical4j.util.RandomUidGenerator;
+import net.fortuna.ical4j.util.UidGenerator;
+import seedu.address.model.CalendarModel;
+
+/**
+ * Creates the events of Hallper's calendars, each with the calendar colour of Hallper and a unique UID.
+ * Every factory shares one UID generator, which is set up once and does not look up the local host or wait for
+ * the clock to move on between events.
+ */
+public class EventFactory {
+
+    /** The time an all day event ends at on its last day. */
+    public static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
+    private static final UidGenerator UID_GENERATOR = new RandomUidGenerator();
+
+    /**
+     * Returns an event titled {@code title} that lasts the whole of {@code date} in the given month.
+     */
+    public VEvent createAllDayEvent(Year year, Month month, int date, String title) {
+        LocalDate day = toLocalDate(year, month, date);
+        return createEvent(day.atStartOfDay(), day.atTime(END_OF_DAY), title);
+    }
+
+    /**
+     * Returns an event titled {@code title} that lasts the whole of the days from {@code startDate} to
+     * {@code endDate}.
+     */
+    public VEvent createAllDayEvent(LocalDate startDate, LocalDate endDate, String title) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        return createEvent(startDate.atStartOfDay(), endDate.atTime(END_OF_DAY), title);
+    }
+
+    /**
+     * Returns an event titled {@code title} with the given time frame in the given month.
+     */
+    public VEvent createEvent(Year year, Month month, int startDate, int startHour, int startMin,
+                              int endDate, int endHour, int endMin, String title) {
+        return createEvent(toLocalDate(year, month, startDate).atTime(startHour, startMin),
+            toLocalDate(year, month, endDate).atTime(endHour, endMin), title);
+    }
+
+    /**
+     * Returns an event titled {@code title} from {@code start} to {@code end}, in the default time zone.
+     */
+    public VEvent createEvent(LocalDateTime start, LocalDateTime end, String title) {
+        requireNonNull(start);
+        requireNonNull(end);
+        requireNonNull(title);
+        VEvent event = new VEvent(toDateTime(start), toDateTime(end), title);
+
+        // Add Category Color to event
+        Categories categories = new Categories();
+        // light blue color in iCalendarAgenda
+        categories.setValue(CalendarModel.EVENT_COLOR_IN_CAL);
+        event.getProperties().add(categories);
+
+        event.getProperties().add(UID_GENERATOR.generateUid());
+        return event;
+    }
+
+    /**
+     * Returns the local date and time of {@code date}, in the default time zone.
+     */
+    public static LocalDateTime toLocalDateTime(java.util.Date date) {
+        requireNonNull(date);
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Returns the local date of {@code date} in the given month.
+     */
+    public static LocalDate toLocalDate(Year year, Month month, int date) {
+        requireNonNull(year);
+        requireNonNull(month);
+        return LocalDate.of(Integer.parseInt(year.toString()), month.getMonthOfYear(), date);
+    }
+
+    private static DateTime toDateTime(LocalDateTime dateTime) {
+        return new DateTime(java.util.Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+}
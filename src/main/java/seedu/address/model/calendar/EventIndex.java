@@ -0,0 +1,119 @@
+package seedu.address.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.Date;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.model.component.VEvent;
+
+/**
+ * Indexes the events of a month's calendar by the day of the month they start on, and then by title, so that an
+ * event can be found without going through the whole calendar.
+ * The index has to be told of every event added to or removed from the calendar.
+ */
+public class EventIndex {
+
+    /** The events of each start day by title, in the order they were added. */
+    private final Map<Integer, Map<String, List<IndexedEvent>>> eventsByStartDay = new HashMap<>();
+
+    /**
+     * Returns an index of the events in {@code calendar}.
+     */
+    public static EventIndex of(Calendar calendar) {
+        requireNonNull(calendar);
+        EventIndex index = new EventIndex();
+        for (CalendarComponent component : calendar.getComponents(Component.VEVENT)) {
+            index.add((VEvent) component);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the day of the month of {@code date}, in the default time zone.
+     */
+    public static int dayOfMonth(Date date) {
+        java.util.Calendar cal = java.util.Calendar.getInstance();
+        cal.setTime(date);
+        return cal.get(java.util.Calendar.DAY_OF_MONTH);
+    }
+
+    /**
+     * Adds {@code event} to the index. Events without a title, start or end cannot be found and are left out.
+     */
+    public void add(VEvent event) {
+        requireNonNull(event);
+        if (event.getSummary() == null || event.getStartDate() == null || event.getEndDate() == null) {
+            return;
+        }
+        int startDate = dayOfMonth(event.getStartDate().getDate());
+        int endDate = dayOfMonth(event.getEndDate().getDate());
+        eventsByStartDay.computeIfAbsent(startDate, day -> new HashMap<>())
+                .computeIfAbsent(event.getSummary().getValue(), title -> new ArrayList<>())
+                .add(new IndexedEvent(event, endDate));
+    }
+
+    /**
+     * Removes {@code event} from the index.
+     */
+    public void remove(VEvent event) {
+        requireNonNull(event);
+        if (event.getSummary() == null || event.getStartDate() == null) {
+            return;
+        }
+        int startDate = dayOfMonth(event.getStartDate().getDate());
+        Map<String, List<IndexedEvent>> eventsByTitle = eventsByStartDay.get(startDate);
+        if (eventsByTitle == null) {
+            return;
+        }
+        String title = event.getSummary().getValue();
+        List<IndexedEvent> events = eventsByTitle.get(title);
+        if (events == null) {
+            return;
+        }
+        events.removeIf(indexedEvent -> indexedEvent.event == event);
+        if (events.isEmpty()) {
+            eventsByTitle.remove(title);
+        }
+        if (eventsByTitle.isEmpty()) {
+            eventsByStartDay.remove(startDate);
+        }
+    }
+
+    /**
+     * Returns the first event added with the title {@code title} that starts on {@code startDate} and ends on
+     * {@code endDate}, if any.
+     */
+    public Optional<VEvent> find(int startDate, int endDate, String title) {
+        requireNonNull(title);
+        List<IndexedEvent> events = eventsByStartDay.getOrDefault(startDate, Collections.emptyMap()).get(title);
+        if (events == null) {
+            return Optional.empty();
+        }
+        return events.stream()
+                .filter(indexedEvent -> indexedEvent.endDate == endDate)
+                .map(indexedEvent -> indexedEvent.event)
+                .findFirst();
+    }
+
+    /**
+     * An event along with the day of the month it ends on.
+     */
+    private static class IndexedEvent {
+        private final VEvent event;
+        private final int endDate;
+
+        IndexedEvent(VEvent event, int endDate) {
+            this.event = event;
+            this.endDate = endDate;
+        }
+    }
+}
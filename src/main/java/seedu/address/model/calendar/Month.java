@@ -3,6 +3,8 @@ package seedu.address.model.calendar;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
 //@@author GilgameshTC
 /**
  * Represents a month in the calendar.
@@ -87,6 +89,21 @@ public class Month {
         return sb.toString();
     }
 
+    /**
+     * Returns the month with the given number in the year, from 1 for January to 12 for December.
+     */
+    public static Month of(int monthOfYear) {
+        checkArgument(monthOfYear >= 1 && monthOfYear <= VALID_MONTHS.length, MESSAGE_MONTH_CONSTRAINTS);
+        return new Month(VALID_MONTHS[monthOfYear - 1]);
+    }
+
+    /**
+     * Returns the number of this month in the year, from 1 for January to 12 for December.
+     */
+    public int getMonthOfYear() {
+        return Arrays.asList(VALID_MONTHS).indexOf(month) + 1;
+    }
+
     @Override
     public String toString() {
         return month;
@@ -217,14 +217,14 @@ public class Cca {
     }
 
     /**
-     * Returns true if both Ccas have the same name.
+     * Returns true if both Ccas have the same name, ignoring case.
      * This defines a weaker notion of equality between two CCAs.
      *
      * @param toCheck name of the CCA to be checked
      */
     public boolean isSameCcaName(Cca toCheck) {
         return toCheck != null
-            && toCheck.getCcaName().equals(getCcaName());
+            && toCheck.getCcaName().equalsIgnoreCase(getCcaName());
 //            && toCheck.getHead().equals(getHead())
 //            && toCheck.getViceHead().equals(getViceHead())
 //            && toCheck.getBudget().equals(getBudget())
@@ -0,0 +1,64 @@
+package seedu.address.model.cca;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a single change to a list of Ccas: the Ccas in {@code removed}, starting at position {@code from},
+ * were replaced by the Ccas in {@code added}.
+ * Covers Ccas being added, removed or replaced (e.g. when a transaction is recorded).
+ * Guarantees: immutable.
+ */
+public class CcaListDelta {
+
+    private final int from;
+    private final List<Cca> removed;
+    private final List<Cca> added;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CcaListDelta(int from, List<? extends Cca> removed, List<? extends Cca> added) {
+        requireAllNonNull(removed, added);
+        this.from = from;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<Cca> getRemoved() {
+        return removed;
+    }
+
+    public List<Cca> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the delta that undoes this delta.
+     */
+    public CcaListDelta inverse() {
+        return new CcaListDelta(from, added, removed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof CcaListDelta // instanceof handles nulls
+            && from == ((CcaListDelta) other).from
+            && removed.equals(((CcaListDelta) other).removed)
+            && added.equals(((CcaListDelta) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.cca;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,11 +17,15 @@ import seedu.address.model.cca.exceptions.DuplicateCcaException;
 //@@author ericyjw
 /**
  * A list of unique Ccas.
+ * No two Ccas in the list share the same {@code CcaName}, ignoring case, so the Ccas are also indexed by their
+ * lower-cased {@code CcaName}. The index is kept in sync with the list by every mutating operation.
  *
  * @author ericyjw
  */
 public class UniqueCcaList implements Iterable<Cca> {
     private final ObservableList<Cca> internalCcaList = FXCollections.observableArrayList();
+    /** The Ccas by their lower-cased name, so that names differing only in case are the same name. */
+    private final Map<String, Cca> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Cca as the given argument.
@@ -27,44 +34,68 @@ public class UniqueCcaList implements Iterable<Cca> {
      */
     public boolean contains(Cca toCheck) {
         requireNonNull(toCheck);
-        return internalCcaList.stream().anyMatch(toCheck::isSameCca);
+        Cca existing = nameIndex.get(toKey(toCheck.getName()));
+        return existing != null && toCheck.isSameCca(existing);
     }
 
     /**
      * Returns true if the list contains an equivalent Cca name as the given argument.
+     * A name that is not a valid {@code CcaName} is never contained in the list.
      *
      * @param ccaName the name of the Cca to check
      */
     public boolean contains(String ccaName) {
         requireNonNull(ccaName);
-        Cca toCheck = new Cca(ccaName);
-        return internalCcaList.stream().anyMatch(toCheck::isSameCcaName);
+        return CcaName.isValidCcaName(ccaName) && nameIndex.containsKey(toKey(new CcaName(ccaName)));
+    }
+
+    /**
+     * Returns true if the list contains a Cca with the given name.
+     *
+     * @param ccaName the name of the Cca to check
+     */
+    public boolean contains(CcaName ccaName) {
+        requireNonNull(ccaName);
+        return nameIndex.containsKey(toKey(ccaName));
+    }
+
+    /**
+     * Returns the Cca with the given name, if it is in the list.
+     *
+     * @param ccaName the name of the Cca to look up
+     */
+    public Optional<Cca> get(CcaName ccaName) {
+        requireNonNull(ccaName);
+        return Optional.ofNullable(nameIndex.get(toKey(ccaName)));
     }
 
 
     /**
      * Adds a Cca to the unique Cca list.
-     * The Cca must not already exist in the list.
+     * A Cca with the same name must not already exist in the list.
      *
      * @param toAdd the cca to add
      */
     public void add(Cca toAdd) {
-        if (contains(toAdd)) {
+        requireNonNull(toAdd);
+        if (contains(toAdd.getName())) {
             throw new DuplicateCcaException();
         }
         internalCcaList.add(toAdd);
+        nameIndex.put(toKey(toAdd.getName()), toAdd);
     }
 
     //@@author kengwoon
 
     /**
-     * Adds a cca to the list.
+     * Adds ccas to the list.
+     * Ccas whose names already exist in the list will be ignored.
      */
     public void addMultipleCcas(List<Cca> toAdd) {
         requireNonNull(toAdd);
         for (Cca p : toAdd) {
-            if (!contains(p)) {
-                internalCcaList.add(p);
+            if (!contains(p.getName())) {
+                add(p);
             }
         }
     }
@@ -80,16 +111,19 @@ public class UniqueCcaList implements Iterable<Cca> {
     public void setCca(Cca target, Cca editedCca) {
         requireAllNonNull(target, editedCca);
 
-        int index = internalCcaList.indexOf(target);
-        if (index == -1) {
+        String targetKey = toKey(target.getName());
+        if (!target.equals(nameIndex.get(targetKey))) {
             throw new CcaNotFoundException();
         }
 
-        if (!target.isSameCcaName(editedCca) && contains(editedCca)) {
+        String editedKey = toKey(editedCca.getName());
+        if (!targetKey.equals(editedKey) && nameIndex.containsKey(editedKey)) {
             throw new DuplicateCcaException();
         }
 
-        internalCcaList.set(index, editedCca);
+        internalCcaList.set(internalCcaList.indexOf(target), editedCca);
+        nameIndex.remove(targetKey);
+        nameIndex.put(editedKey, editedCca);
     }
 
     /**
@@ -100,6 +134,8 @@ public class UniqueCcaList implements Iterable<Cca> {
     public void setCca(UniqueCcaList replacement) {
         requireNonNull(replacement);
         internalCcaList.setAll(replacement.internalCcaList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
     }
 
     /**
@@ -110,11 +146,14 @@ public class UniqueCcaList implements Iterable<Cca> {
      */
     public void setCcas(List<Cca> ccas) {
         requireAllNonNull(ccas);
-        if (!ccasAreUnique(ccas)) {
+        Map<String, Cca> replacementIndex = new HashMap<>();
+        if (!ccasAreUnique(ccas, replacementIndex)) {
             throw new DuplicateCcaException();
         }
 
         internalCcaList.setAll(ccas);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
     }
 
     /**
@@ -128,22 +167,50 @@ public class UniqueCcaList implements Iterable<Cca> {
         if (!internalCcaList.remove(toRemove)) {
             throw new CcaNotFoundException();
         }
+        nameIndex.remove(toKey(toRemove.getName()));
+    }
+
+    /**
+     * Replaces the {@code removeCount} Ccas starting at position {@code from} with {@code toInsert}.
+     * Used to replay recorded changes to the list, so the result is trusted to contain only unique Ccas.
+     *
+     * @param from the position of the first Cca to replace
+     * @param removeCount the number of Ccas to remove
+     * @param toInsert the Ccas to insert at {@code from}
+     */
+    public void splice(int from, int removeCount, List<Cca> toInsert) {
+        requireAllNonNull(toInsert);
+        List<Cca> toRemove = internalCcaList.subList(from, from + removeCount);
+        toRemove.forEach(cca -> nameIndex.remove(toKey(cca.getName())));
+        if (removeCount == 1 && toInsert.size() == 1) {
+            internalCcaList.set(from, toInsert.get(0));
+        } else {
+            toRemove.clear();
+            internalCcaList.addAll(from, toInsert);
+        }
+        toInsert.forEach(cca -> nameIndex.put(toKey(cca.getName()), cca));
     }
 
     /**
      * Returns true if the list of {@code Ccas} contains only unique Ccas.
+     * The Ccas are indexed by name into {@code index} along the way.
      */
-    private boolean ccasAreUnique(List<Cca> ccas) {
-        for (int i = 0; i < ccas.size() - 1; i++) {
-            for (int j = i + 1; j < ccas.size(); j++) {
-                if (ccas.get(i).isSameCcaName(ccas.get(j))) {
-                    return false;
-                }
+    private boolean ccasAreUnique(List<Cca> ccas, Map<String, Cca> index) {
+        for (Cca cca : ccas) {
+            if (index.putIfAbsent(toKey(cca.getName()), cca) != null) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the key of {@code ccaName} in the name index.
+     */
+    private static String toKey(CcaName ccaName) {
+        return ccaName.getNameOfCca().toLowerCase();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -0,0 +1,94 @@
+package seedu.address.model.email;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.simplejavamail.email.Email;
+import org.simplejavamail.email.Recipient;
+
+/**
+ * Represents the headers of a saved email that are needed to list it, without its content.
+ * Guarantees: immutable; details are present and not null
+ */
+public class EmailSummary {
+
+    private final String subject;
+    private final String from;
+    private final List<String> recipients;
+    private final Instant savedAt;
+
+    /**
+     * Every field must be present and not null. {@code from} is empty if the sender is not known.
+     */
+    public EmailSummary(String subject, String from, List<String> recipients, Instant savedAt) {
+        requireAllNonNull(subject, from, recipients, savedAt);
+        this.subject = subject;
+        this.from = from;
+        this.recipients = Collections.unmodifiableList(new ArrayList<>(recipients));
+        this.savedAt = savedAt;
+    }
+
+    /**
+     * Returns the summary of {@code email}, saved at {@code savedAt}.
+     */
+    public static EmailSummary of(Email email, Instant savedAt) {
+        Recipient fromRecipient = email.getFromRecipient();
+        List<String> recipients = new ArrayList<>();
+        for (Recipient recipient : email.getRecipients()) {
+            recipients.add(recipient.getAddress());
+        }
+        return new EmailSummary(email.getSubject(), fromRecipient == null ? "" : fromRecipient.getAddress(),
+                recipients, savedAt);
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns an immutable list of the addresses the email is sent to.
+     */
+    public List<String> getRecipients() {
+        return recipients;
+    }
+
+    public Instant getSavedAt() {
+        return savedAt;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof EmailSummary)) {
+            return false;
+        }
+
+        EmailSummary otherSummary = (EmailSummary) other;
+        return otherSummary.subject.equals(subject)
+                && otherSummary.from.equals(from)
+                && otherSummary.recipients.equals(recipients)
+                && otherSummary.savedAt.equals(savedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subject, from, recipients, savedAt);
+    }
+
+    @Override
+    public String toString() {
+        return subject + " From: " + from + " To: " + String.join(", ", recipients);
+    }
+}
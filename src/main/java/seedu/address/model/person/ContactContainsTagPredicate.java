@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.model.tag.Tag;
 
@@ -12,19 +13,18 @@ import seedu.address.model.tag.Tag;
  */
 public class ContactContainsTagPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<String> lowerCaseKeywords;
 
     public ContactContainsTagPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toSet());
     }
 
     @Override
     public boolean test(Person person) {
-        Set<Tag> tags = person.getTags();
-        for (String s : keywords) {
-            for (Tag t : tags) {
-                if (s.equalsIgnoreCase(t.toStringOnly().toLowerCase())) {
-                    return true;
-                }
+        for (Tag t : person.getTags()) {
+            if (lowerCaseKeywords.contains(t.toStringOnly().toLowerCase())) {
+                return true;
             }
         }
         return false;
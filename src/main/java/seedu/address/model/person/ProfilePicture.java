@@ -5,9 +5,12 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Represents a Person's profile picture file path in the address book.
+ * Pictures are named after a hash of their content, so the same photo is kept once however often it is uploaded.
  */
 //@@author javenseow
 public class ProfilePicture {
@@ -17,6 +20,13 @@ public class ProfilePicture {
     public static final String MESSAGE_PROFILE_PICTURE_CONSTRAINTS =
         "Profile picture should only be a .jpg file, and not empty";
 
+    /** The length of the longer side of the thumbnail shown in the profile view, in pixels. */
+    public static final int THUMBNAIL_SIZE = 200;
+
+    private static final String JPG = ".jpg";
+    private static final String THUMBNAIL_DIRECTORY = "thumbnails";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
     public final Path filePath;
 
     /**
@@ -30,10 +40,41 @@ public class ProfilePicture {
         filePath = Paths.get(path.toString());
     }
 
+    /**
+     * Returns the profile picture of the photo {@code content}, named after the SHA-256 hash of its bytes.
+     */
+    public static ProfilePicture ofContent(byte[] content) {
+        requireNonNull(content);
+        try {
+            StringBuilder name = new StringBuilder();
+            for (byte b : MessageDigest.getInstance(HASH_ALGORITHM).digest(content)) {
+                name.append(String.format("%02x", b));
+            }
+            return new ProfilePicture(Paths.get(name + JPG));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform has SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
     public Path getPicture() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the photo as uploaded, in the profile picture directory {@code pictureDirectory}.
+     */
+    public Path getOriginalPath(Path pictureDirectory) {
+        return pictureDirectory.resolve(filePath);
+    }
+
+    /**
+     * Returns the path of the thumbnail of the photo, in the profile picture directory {@code pictureDirectory}.
+     */
+    public Path getThumbnailPath(Path pictureDirectory) {
+        return pictureDirectory.resolve(THUMBNAIL_DIRECTORY).resolve(filePath);
+    }
+
     /**
      * Returns true if a given string ends with .jpg.
      */
@@ -32,6 +32,20 @@ public class Room {
         return test.matches(ROOM_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the block of this room, which is its leading letter in upper case.
+     */
+    public String getBlock() {
+        return value.substring(0, 1).toUpperCase();
+    }
+
+    /**
+     * Returns the floor of this room within its block, which is the first digit of the room number.
+     */
+    public String getFloor() {
+        return value.substring(1, 2);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -3,13 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +25,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Name}, by {@code Tag}, by {@code Room} (grouped into blocks and floors)
+ * and by their position in the list, so that identity checks, tag and room queries and lookups of a target person do
+ * not need to scan the whole list. All indexes are kept in sync with the backing list by every mutating operation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -25,13 +36,19 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<Name, List<Person>> nameIndex = new HashMap<>();
+    private final Map<String, Set<Person>> tagIndex = new HashMap<>();
+    private final Map<String, Set<Person>> roomIndex = new HashMap<>();
+    private final Map<String, Map<String, Set<Person>>> blockIndex = new HashMap<>();
+    private final Map<Person, Integer> positionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
+     * Since two equivalent persons must share the same {@code Name}, only persons with that name are compared.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return containsOther(toCheck, null);
     }
 
     /**
@@ -39,8 +56,51 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Name toCheck) {
         requireNonNull(toCheck);
-        Person toCheckPerson = new Person(toCheck);
-        return internalList.stream().anyMatch(toCheckPerson::isSamePersonName);
+        return nameIndex.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the persons tagged with {@code tagName}, which is matched case-insensitively.
+     */
+    public List<Person> getPersonsWithTag(String tagName) {
+        requireNonNull(tagName);
+        Set<Person> tagged = tagIndex.get(toTagKey(tagName));
+        return tagged == null ? Collections.emptyList() : new ArrayList<>(tagged);
+    }
+
+    /**
+     * Returns the persons staying in {@code room}, which is matched case-insensitively.
+     */
+    public List<Person> getPersonsInRoom(String room) {
+        requireNonNull(room);
+        Set<Person> residents = roomIndex.get(room.toUpperCase());
+        return residents == null ? Collections.emptyList() : new ArrayList<>(residents);
+    }
+
+    /**
+     * Returns the persons staying in {@code block}, which is matched case-insensitively.
+     *
+     * @see Room#getBlock()
+     */
+    public List<Person> getPersonsInBlock(String block) {
+        requireNonNull(block);
+        Map<String, Set<Person>> floors = blockIndex.get(block.toUpperCase());
+        List<Person> residents = new ArrayList<>();
+        if (floors != null) {
+            floors.values().forEach(residents::addAll);
+        }
+        return residents;
+    }
+
+    /**
+     * Returns the persons staying on {@code floor} of {@code block}, which is matched case-insensitively.
+     *
+     * @see Room#getFloor()
+     */
+    public List<Person> getPersonsOnFloor(String block, String floor) {
+        requireAllNonNull(block, floor);
+        Set<Person> residents = blockIndex.getOrDefault(block.toUpperCase(), Collections.emptyMap()).get(floor);
+        return residents == null ? Collections.emptyList() : new ArrayList<>(residents);
     }
 
     /**
@@ -52,7 +112,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        append(toAdd);
     }
 
     //@@author kengwoon
@@ -65,7 +125,7 @@ public class UniquePersonList implements Iterable<Person> {
         requireNonNull(toAdd);
         for (Person p : toAdd) {
             if (!contains(p)) {
-                internalList.add(p);
+                append(p);
             }
         }
     }
@@ -77,9 +137,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void removeMultiplePersons(List<Person> toRemove) {
         requireNonNull(toRemove);
         for (Person p : toRemove) {
-            if (!internalList.remove(p)) {
-                throw new PersonNotFoundException();
-            }
+            removeAt(indexOf(p));
         }
     }
 
@@ -95,16 +153,7 @@ public class UniquePersonList implements Iterable<Person> {
             Person editedPerson = editedPersons.get(i);
             Person target = targets.get(i);
 
-            int index = internalList.indexOf(target);
-            if (index == -1) {
-                throw new PersonNotFoundException();
-            }
-
-            if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-                throw new DuplicatePersonException();
-            }
-
-            internalList.set(index, editedPerson);
+            replace(target, editedPerson);
         }
     }
 
@@ -116,16 +165,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
-        }
-
-        internalList.set(index, editedPerson);
+        replace(target, editedPerson);
     }
 
     /**
@@ -134,14 +174,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        removeAt(indexOf(toRemove));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        replacement.nameIndex.forEach((name, persons) -> nameIndex.put(name, new ArrayList<>(persons)));
+        tagIndex.clear();
+        roomIndex.clear();
+        blockIndex.clear();
+        replacement.internalList.forEach(this::addToAttributeIndexes);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
     }
 
     /**
@@ -150,11 +196,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, List<Person>> replacementIndex = new HashMap<>();
+        if (!personsAreUnique(persons, replacementIndex)) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        tagIndex.clear();
+        roomIndex.clear();
+        blockIndex.clear();
+        persons.forEach(this::addToAttributeIndexes);
+        reindexPositionsFrom(0);
     }
 
     /**
@@ -183,15 +237,144 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * The persons are grouped by name into {@code index} along the way, so that each person is only compared
+     * against the persons sharing its name.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private boolean personsAreUnique(List<Person> persons, Map<Name, List<Person>> index) {
+        for (Person person : persons) {
+            List<Person> sameName = index.computeIfAbsent(person.getName(), unused -> new ArrayList<>());
+            if (sameName.stream().anyMatch(person::isSamePerson)) {
+                return false;
             }
+            sameName.add(person);
         }
         return true;
     }
+
+    /**
+     * Returns true if the list contains a person equivalent to {@code toCheck}, other than {@code excluded}.
+     */
+    private boolean containsOther(Person toCheck, Person excluded) {
+        List<Person> sameName = nameIndex.get(toCheck.getName());
+        return sameName != null && sameName.stream()
+                .anyMatch(p -> !p.equals(excluded) && toCheck.isSamePerson(p));
+    }
+
+    /**
+     * Returns the position of {@code person} in the list.
+     *
+     * @throws PersonNotFoundException if {@code person} is not in the list.
+     */
+    private int indexOf(Person person) {
+        Integer index = positionIndex.get(person);
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        return index;
+    }
+
+    private void append(Person toAdd) {
+        positionIndex.put(toAdd, internalList.size());
+        internalList.add(toAdd);
+        addToIndexes(toAdd);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} at the same position.
+     * {@code editedPerson} must not have the same identity as any person in the list other than {@code target}.
+     */
+    private void replace(Person target, Person editedPerson) {
+        int index = indexOf(target);
+        if (containsOther(editedPerson, target)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.set(index, editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
+        positionIndex.remove(target);
+        positionIndex.put(editedPerson, index);
+    }
+
+    /**
+     * Removes the person at {@code index} and shifts the recorded positions of the persons after it.
+     */
+    private void removeAt(int index) {
+        Person removed = internalList.remove(index);
+        removeFromIndexes(removed);
+        positionIndex.remove(removed);
+        reindexPositionsFrom(index);
+    }
+
+    /**
+     * Refreshes the recorded positions of all persons from {@code start} onwards.
+     */
+    private void reindexPositionsFrom(int start) {
+        if (start == 0) {
+            positionIndex.clear();
+        }
+        for (int i = start; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i), i);
+        }
+    }
+
+    private void addToIndexes(Person person) {
+        nameIndex.computeIfAbsent(person.getName(), unused -> new ArrayList<>()).add(person);
+        addToAttributeIndexes(person);
+    }
+
+    /**
+     * Adds {@code person} to the tag, room and block indexes.
+     */
+    private void addToAttributeIndexes(Person person) {
+        for (Tag tag : person.getTags()) {
+            addToGroup(tagIndex, toTagKey(tag.tagName), person);
+        }
+
+        Room room = person.getRoom();
+        addToGroup(roomIndex, room.value.toUpperCase(), person);
+        addToGroup(blockIndex.computeIfAbsent(room.getBlock(), unused -> new HashMap<>()), room.getFloor(), person);
+    }
+
+    /**
+     * Removes {@code person} from all indexes other than the position index, dropping any group that becomes empty.
+     */
+    private void removeFromIndexes(Person person) {
+        List<Person> sameName = nameIndex.get(person.getName());
+        sameName.remove(person);
+        if (sameName.isEmpty()) {
+            nameIndex.remove(person.getName());
+        }
+
+        for (Tag tag : person.getTags()) {
+            removeFromGroup(tagIndex, toTagKey(tag.tagName), person);
+        }
+
+        Room room = person.getRoom();
+        removeFromGroup(roomIndex, room.value.toUpperCase(), person);
+        Map<String, Set<Person>> floors = blockIndex.get(room.getBlock());
+        removeFromGroup(floors, room.getFloor(), person);
+        if (floors.isEmpty()) {
+            blockIndex.remove(room.getBlock());
+        }
+    }
+
+    private static void addToGroup(Map<String, Set<Person>> index, String key, Person person) {
+        index.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the group under {@code key}, dropping the group once it is empty.
+     */
+    private static void removeFromGroup(Map<String, Set<Person>> index, String key, Person person) {
+        Set<Person> group = index.get(key);
+        group.remove(person);
+        if (group.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static String toTagKey(String tagName) {
+        return tagName.toLowerCase();
+    }
 }
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ * Each person is a record of its name, phone, email, room, school and tags, which are validated in the same way as
+ * when read from xml. Exports are still written as xml, so that they can be read by other copies of the app.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = "bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try (BinarySnapshotReader reader =
+                     new BinarySnapshotReader(filePath, BinarySnapshotWriter.KIND_ADDRESS_BOOK)) {
+            while (reader.nextRecord()) {
+                Person person = readPerson(reader).toModelType();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BinarySnapshotWriter.KIND_ADDRESS_BOOK);
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(writer, person);
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        writer.writeTo(filePath);
+    }
+
+    /**
+     * Exports {@code addressBook} as an XML file to {@code filePath}.
+     */
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        new XmlAddressBookStorage(filePath).exportAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes {@code person} as the next record, with the same values as its xml form.
+     */
+    private static void writePerson(BinarySnapshotWriter writer, Person person) {
+        writer.writeString(person.getName().fullName);
+        writer.writeString(person.getPhone().value);
+        writer.writeString(person.getEmail().value);
+        writer.writeString(person.getRoom().value);
+        writer.writeString(person.getSchool().value);
+        writer.writeCount(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writer.writeString(tag.tagName);
+        }
+        writer.endRecord();
+    }
+
+    /**
+     * Reads the person in the current record, to be validated by {@link XmlAdaptedPerson#toModelType()}.
+     */
+    private static XmlAdaptedPerson readPerson(BinarySnapshotReader reader) throws DataConversionException {
+        String name = reader.readString();
+        String phone = reader.readString();
+        String email = reader.readString();
+        String room = reader.readString();
+        String school = reader.readString();
+        int tagCount = reader.readCount();
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new XmlAdaptedTag(reader.readString()));
+        }
+        return new XmlAdaptedPerson(name, phone, email, room, school, tags);
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.ReadOnlyBudgetBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.transaction.Entry;
+
+/**
+ * A class to access BudgetBook data stored as a binary snapshot file on the hard disk.
+ * Each CCA is a record of its name, head, vice-head, amounts and transaction entries, which are validated in the
+ * same way as when read from xml.
+ */
+public class BinaryBudgetBookStorage implements BudgetBookStorage {
+
+    public static final String FILE_EXTENSION = "bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryBudgetBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryBudgetBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getBudgetBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBudgetBook> readBudgetBook() throws DataConversionException, IOException {
+        return readBudgetBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readBudgetBook()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyBudgetBook> readBudgetBook(Path filePath) throws DataConversionException,
+        IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("BudgetBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        BudgetBook budgetBook = new BudgetBook();
+        try (BinarySnapshotReader reader = new BinarySnapshotReader(filePath, BinarySnapshotWriter.KIND_BUDGET_BOOK)) {
+            while (reader.nextRecord()) {
+                Cca cca = readCca(reader).toModelType();
+                if (budgetBook.hasCca(cca)) {
+                    throw new IllegalValueException(XmlSerializableBudgetBook.MESSAGE_DUPLICATE_CCA);
+                }
+                budgetBook.addCca(cca);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(budgetBook);
+    }
+
+    @Override
+    public void saveBudgetBook(ReadOnlyBudgetBook budgetBook) throws IOException {
+        saveBudgetBook(budgetBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveBudgetBook(ReadOnlyBudgetBook)}
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveBudgetBook(ReadOnlyBudgetBook budgetBook, Path filePath) throws IOException {
+        requireNonNull(budgetBook);
+        requireNonNull(filePath);
+
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BinarySnapshotWriter.KIND_BUDGET_BOOK);
+        for (Cca cca : budgetBook.getCcaList()) {
+            writeCca(writer, cca);
+            writer.endRecord();
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        writer.writeTo(filePath);
+    }
+
+    /**
+     * Writes {@code cca} to the current record, with the same values as its xml form.
+     */
+    static void writeCca(BinarySnapshotWriter writer, Cca cca) {
+        writer.writeString(cca.getCcaName());
+        writer.writeString(cca.getHeadName());
+        writer.writeString(cca.getViceHeadName());
+        writer.writeString(String.valueOf(cca.getBudgetAmount()));
+        writer.writeString(String.valueOf(cca.getSpentAmount()));
+        writer.writeString(String.valueOf(cca.getOutstandingAmount()));
+        writer.writeCount(cca.getEntries().size());
+        for (Entry entry : cca.getEntries()) {
+            writer.writeString(String.valueOf(entry.getEntryNum()));
+            writer.writeString(entry.getDateValue());
+            writer.writeString(String.valueOf(entry.getAmountValue()));
+            writer.writeString(entry.getRemarkValue());
+        }
+    }
+
+    /**
+     * Reads the next CCA in the current record, to be validated by {@link XmlAdaptedCca#toModelType()}.
+     */
+    static XmlAdaptedCca readCca(BinarySnapshotReader reader) throws DataConversionException {
+        String name = reader.readString();
+        String head = reader.readString();
+        String viceHead = reader.readString();
+        String budget = reader.readString();
+        String spent = reader.readString();
+        String outstanding = reader.readString();
+        int entryCount = reader.readCount();
+        List<XmlAdaptedEntry> entries = new ArrayList<>();
+        for (int i = 0; i < entryCount; i++) {
+            entries.add(new XmlAdaptedEntry(reader.readString(), reader.readString(), reader.readString(),
+                reader.readString()));
+        }
+        return new XmlAdaptedCca(name, head, viceHead, budget, spent, outstanding, entries);
+    }
+}
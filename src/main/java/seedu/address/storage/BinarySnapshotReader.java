@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads a binary snapshot file written by {@link BinarySnapshotWriter}, one record at a time.
+ * Fields are read from each record in the order they were written. Fields a record has beyond the ones read are
+ * skipped, so that later versions of the format can append fields to a record.
+ */
+class BinarySnapshotReader implements AutoCloseable {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a Hallper binary snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported.";
+    public static final String MESSAGE_WRONG_KIND = "Binary snapshot holds different data.";
+    public static final String MESSAGE_CORRUPT = "Binary snapshot is corrupt.";
+
+    private final DataInputStream in;
+    private final long fileSize;
+    private String[] strings;
+    private int recordsLeft;
+    private byte[] record = new byte[0];
+    private int recordPosition;
+
+    /**
+     * Opens {@code file} and reads its header and dictionary.
+     *
+     * @throws DataConversionException if {@code file} is not a snapshot of the given {@code kind}.
+     */
+    BinarySnapshotReader(Path file, byte kind) throws DataConversionException, IOException {
+        fileSize = Files.size(file);
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        boolean isOpened = false;
+        try {
+            readHeader(kind);
+            isOpened = true;
+        } finally {
+            if (!isOpened) {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code file} starts like a binary snapshot.
+     */
+    static boolean isSnapshot(Path file) throws IOException {
+        try (DataInputStream header = new DataInputStream(Files.newInputStream(file))) {
+            return header.readInt() == BinarySnapshotWriter.MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Moves to the next record and returns true, or returns false if there are no more records.
+     */
+    boolean nextRecord() throws DataConversionException, IOException {
+        if (recordsLeft == 0) {
+            return false;
+        }
+        try {
+            record = new byte[readLength()];
+            in.readFully(record);
+        } catch (EOFException e) {
+            throw corrupt();
+        }
+        recordPosition = 0;
+        recordsLeft--;
+        return true;
+    }
+
+    /**
+     * Reads the next string of the current record.
+     */
+    String readString() throws DataConversionException {
+        int position = readCount();
+        if (position >= strings.length) {
+            throw corrupt();
+        }
+        return strings[position];
+    }
+
+    /**
+     * Reads the next count of the current record.
+     */
+    int readCount() throws DataConversionException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            if (recordPosition >= record.length) {
+                throw corrupt();
+            }
+            byte next = record[recordPosition++];
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw corrupt();
+    }
+
+    /**
+     * Reads the next long of the current record.
+     */
+    long readLong() throws DataConversionException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (recordPosition >= record.length) {
+                throw corrupt();
+            }
+            byte next = record[recordPosition++];
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw corrupt();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the header and dictionary of the file, checking that it is a supported snapshot of the given
+     * {@code kind}.
+     */
+    private void readHeader(byte kind) throws DataConversionException, IOException {
+        try {
+            checkHeader(kind);
+            strings = new String[readLength()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readLength()];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            recordsLeft = readLength();
+        } catch (EOFException e) {
+            throw corrupt();
+        }
+    }
+
+    /**
+     * Checks that the file starts with the header of a supported snapshot of the given {@code kind}.
+     */
+    private void checkHeader(byte kind) throws DataConversionException, IOException {
+        if (in.readInt() != BinarySnapshotWriter.MAGIC) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT));
+        }
+        int version = in.readUnsignedByte();
+        if (version != BinarySnapshotWriter.VERSION) {
+            throw new DataConversionException(
+                    new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+        }
+        if (in.readByte() != kind) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_WRONG_KIND));
+        }
+    }
+
+    /**
+     * Reads a length or count from the file, which cannot be more than the size of the file.
+     */
+    private int readLength() throws DataConversionException, IOException {
+        int length = readVarInt();
+        if (length < 0 || length > fileSize) {
+            throw corrupt();
+        }
+        return length;
+    }
+
+    /**
+     * Reads a variable-length integer written by {@link BinarySnapshotWriter} from the file.
+     */
+    private int readVarInt() throws DataConversionException, IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int next = in.read();
+            if (next < 0) {
+                throw new EOFException();
+            }
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw corrupt();
+    }
+
+    /**
+     * Returns the exception for a snapshot that ends early or holds values that do not fit its layout.
+     */
+    static DataConversionException corrupt() {
+        return new DataConversionException(new IllegalValueException(MESSAGE_CORRUPT));
+    }
+}
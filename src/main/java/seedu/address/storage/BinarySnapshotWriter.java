@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a binary snapshot file, as read by {@link BinarySnapshotReader}.
+ * <p>
+ * A snapshot is a header (magic number, format version and the kind of data held), followed by a dictionary of every
+ * distinct string in the data and then the records, each prefixed with its length in bytes. Within a record, strings
+ * are written as their position in the dictionary, so values repeated across records such as schools, tags and
+ * dates are only stored once. All counts, lengths, positions and longs are written as variable-length integers.
+ */
+class BinarySnapshotWriter {
+
+    static final int MAGIC = 0x48414C4C;
+    static final int VERSION = 1;
+    static final byte KIND_ADDRESS_BOOK = 'A';
+    static final byte KIND_BUDGET_BOOK = 'B';
+    static final byte KIND_SHARD_MANIFEST = 'M';
+    static final byte KIND_EMAIL_INDEX = 'E';
+
+    private final byte kind;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private int recordCount;
+
+    BinarySnapshotWriter(byte kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Adds {@code value} to the current record.
+     */
+    void writeString(String value) {
+        Integer position = dictionary.get(value);
+        if (position == null) {
+            position = strings.size();
+            dictionary.put(value, position);
+            strings.add(value);
+        }
+        writeVarInt(record, position);
+    }
+
+    /**
+     * Adds {@code count}, such as the number of tags that follow, to the current record.
+     */
+    void writeCount(int count) {
+        writeVarInt(record, count);
+    }
+
+    /**
+     * Adds the non-negative {@code value}, such as a time in milliseconds, to the current record.
+     */
+    void writeLong(long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            record.write((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        record.write((int) remaining);
+    }
+
+    /**
+     * Ends the current record. Anything written after this goes into the next record.
+     */
+    void endRecord() {
+        byte[] bytes = record.toByteArray();
+        writeVarInt(records, bytes.length);
+        records.write(bytes, 0, bytes.length);
+        record.reset();
+        recordCount++;
+    }
+
+    /**
+     * Writes the snapshot to {@code file}, replacing its contents.
+     */
+    void writeTo(Path file) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(head);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.writeByte(kind);
+        writeVarInt(head, strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(head, bytes.length);
+            head.write(bytes, 0, bytes.length);
+        }
+        writeVarInt(head, recordCount);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            head.writeTo(out);
+            records.writeTo(out);
+        }
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, lowest first, with the top bit of each byte set
+     * if more bytes follow.
+     */
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+}
@@ -10,8 +10,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -20,22 +23,35 @@ import org.simplejavamail.email.Email;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.LruCache;
 import seedu.address.model.EmailModel;
+import seedu.address.model.email.EmailSummary;
 
 //@@author EatOrBeEaten
 /**
- * A class to access Email directory in the hard disk
+ * A class to access Email directory in the hard disk, keeping an {@link EmailIndex} of it beside the directory.
+ * The most recently used emails are kept parsed, and only parsed again once their eml file changes.
  */
 public class EmailDirStorage implements EmailStorage {
 
+    public static final int DEFAULT_CACHED_EMAILS = 16;
+
     private static final Logger logger = LogsCenter.getLogger(EmailDirStorage.class);
 
     private final String emlExtension = ".eml";
 
     private Path dirPath;
+    private final EmailIndex emailIndex;
+    private final LruCache<String, CachedEmail> parsedEmails;
 
     public EmailDirStorage(Path dirPath) {
+        this(dirPath, DEFAULT_CACHED_EMAILS);
+    }
+
+    public EmailDirStorage(Path dirPath, int cachedEmails) {
         this.dirPath = dirPath;
+        emailIndex = new EmailIndex(dirPath);
+        parsedEmails = new LruCache<>(cachedEmails);
     }
 
     @Override
@@ -49,14 +65,28 @@ public class EmailDirStorage implements EmailStorage {
         String toSave = EmailConverter.emailToEML(emailModel.getEmail());
         FileUtil.createIfMissing(fileName);
         FileUtil.writeToFile(fileName, toSave);
+        emailIndex.put(fileName.getFileName().toString(), emailModel.getEmail());
+        parsedEmails.put(emailModel.getEmail().getSubject(),
+                new CachedEmail(emailModel.getEmail(), Files.getLastModifiedTime(fileName)));
     }
 
+    /**
+     * Returns the email parsed from the eml file named {@code emailName}, reading the file only if it has changed
+     * since it was last parsed.
+     */
     @Override
     public Email loadEmail(String emailName) throws IOException {
         String fileName = emailName + emlExtension;
         Path pathToLoad = Paths.get(dirPath.toString(), fileName);
+        FileTime lastModified = Files.getLastModifiedTime(pathToLoad);
+        Optional<CachedEmail> cached = parsedEmails.get(emailName);
+        if (cached.isPresent() && cached.get().lastModified.equals(lastModified)) {
+            return cached.get().email;
+        }
+
         String emlString = readFromFile(pathToLoad);
         Email loadedEmail = emlToEmail(emlString);
+        parsedEmails.put(emailName, new CachedEmail(loadedEmail, lastModified));
         return loadedEmail;
     }
 
@@ -64,7 +94,14 @@ public class EmailDirStorage implements EmailStorage {
     public void deleteEmail(String emailName) throws IOException {
         String fileName = emailName + emlExtension;
         Path pathToDelete = Paths.get(dirPath.toString(), fileName);
+        parsedEmails.remove(emailName);
         Files.delete(pathToDelete);
+        emailIndex.remove(fileName);
+    }
+
+    @Override
+    public Map<String, EmailSummary> readEmailIndex() throws IOException {
+        return emailIndex.read();
     }
 
     @Override
@@ -93,4 +130,16 @@ public class EmailDirStorage implements EmailStorage {
         return new HashSet<>(Arrays.asList(nameArray));
     }
 
+    /**
+     * An email as parsed from its eml file, along with the modification time of the file it was parsed from.
+     */
+    private static class CachedEmail {
+        private final Email email;
+        private final FileTime lastModified;
+
+        CachedEmail(Email email, FileTime lastModified) {
+            this.email = email;
+            this.lastModified = lastModified;
+        }
+    }
 }
@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.InternetHeaders;
+import javax.mail.internet.MimeUtility;
+
+import org.simplejavamail.email.Email;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.email.EmailSummary;
+
+/**
+ * Keeps the summary of every eml file in an email directory in a binary snapshot beside the directory, so that the
+ * emails can be listed without parsing them.
+ * <p>
+ * The index records the modification time of the directory, which changes whenever an eml file is added, removed
+ * or renamed. If it still matches when the index is read, the index is used as it is. Otherwise the directory is
+ * listed, and only the files whose size or modification time differ from the index have their headers read again.
+ * Saves and deletes made through this index update it in place.
+ */
+class EmailIndex {
+
+    static final String INDEX_FILE_SUFFIX = ".index";
+
+    private static final Logger logger = LogsCenter.getLogger(EmailIndex.class);
+
+    private static final String EML_EXTENSION = ".eml";
+    private static final String INDEX_UPDATE_SUFFIX = ".new";
+
+    private final Path directory;
+    private final Path indexFile;
+
+    /** The entry of each eml file by file name, as on disk, or null if not read yet. */
+    private Map<String, Entry> entries;
+
+    EmailIndex(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+        indexFile = directory.resolveSibling(directory.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    Path getIndexFilePath() {
+        return indexFile;
+    }
+
+    /**
+     * Returns the summary of every eml file in the directory by file name, bringing the index up to date first.
+     */
+    synchronized Map<String, EmailSummary> read() throws IOException {
+        if (entries == null && !Files.isDirectory(directory)) {
+            return Collections.emptyMap();
+        }
+        loadAndValidate();
+        Map<String, EmailSummary> summaries = new TreeMap<>();
+        entries.forEach((fileName, entry) -> summaries.put(fileName, entry.summary));
+        return summaries;
+    }
+
+    /**
+     * Records that {@code email} has just been saved as the eml file {@code fileName}.
+     */
+    synchronized void put(String fileName, Email email) throws IOException {
+        loadAndValidate();
+        Path file = directory.resolve(fileName);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        entries.put(fileName, new Entry(EmailSummary.of(email, Instant.ofEpochMilli(lastModified)),
+                Files.size(file), lastModified));
+        save(Files.getLastModifiedTime(directory).toMillis());
+    }
+
+    /**
+     * Records that the eml file {@code fileName} has just been deleted.
+     */
+    synchronized void remove(String fileName) throws IOException {
+        loadAndValidate();
+        entries.remove(fileName);
+        save(Files.getLastModifiedTime(directory).toMillis());
+    }
+
+    /**
+     * Reads the index if it has not been read yet, and brings it up to date with the directory if the directory
+     * has changed since the index was written.
+     */
+    private void loadAndValidate() throws IOException {
+        if (entries != null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        long directoryModified = Files.getLastModifiedTime(directory).toMillis();
+        Map<String, Entry> stored = new TreeMap<>();
+        long storedDirectoryModified = readIndex(stored);
+        if (storedDirectoryModified == directoryModified) {
+            entries = stored;
+            return;
+        }
+
+        logger.info("Updating email index " + indexFile);
+        entries = new TreeMap<>();
+        try (DirectoryStream<Path> emlFiles = Files.newDirectoryStream(directory, "*" + EML_EXTENSION)) {
+            for (Path file : emlFiles) {
+                String fileName = file.getFileName().toString();
+                long size = Files.size(file);
+                long lastModified = Files.getLastModifiedTime(file).toMillis();
+                Entry entry = stored.get(fileName);
+                if (entry == null || entry.size != size || entry.lastModified != lastModified) {
+                    entry = new Entry(readSummary(file, lastModified), size, lastModified);
+                }
+                entries.put(fileName, entry);
+            }
+        }
+        save(directoryModified);
+    }
+
+    /**
+     * Reads the index file into {@code stored} and returns the directory modification time it records, or -1 if
+     * there is no readable index file.
+     */
+    private long readIndex(Map<String, Entry> stored) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return -1;
+        }
+        try (BinarySnapshotReader reader = new BinarySnapshotReader(indexFile,
+                BinarySnapshotWriter.KIND_EMAIL_INDEX)) {
+            if (!reader.nextRecord()) {
+                throw BinarySnapshotReader.corrupt();
+            }
+            long directoryModified = reader.readLong();
+            while (reader.nextRecord()) {
+                String fileName = reader.readString();
+                long size = reader.readLong();
+                long lastModified = reader.readLong();
+                String subject = reader.readString();
+                String from = reader.readString();
+                List<String> recipients = new ArrayList<>();
+                int recipientCount = reader.readCount();
+                for (int i = 0; i < recipientCount; i++) {
+                    recipients.add(reader.readString());
+                }
+                EmailSummary summary = new EmailSummary(subject, from, recipients,
+                        Instant.ofEpochMilli(lastModified));
+                stored.put(fileName, new Entry(summary, size, lastModified));
+            }
+            return directoryModified;
+        } catch (DataConversionException e) {
+            logger.warning("Rebuilding unreadable email index " + indexFile + ": " + e.getMessage());
+            stored.clear();
+            return -1;
+        }
+    }
+
+    /**
+     * Writes the index, as of the directory modification time {@code directoryModified}, beside the directory so
+     * that writing it does not change the directory itself.
+     * The index is only kept in memory if it cannot be written, and is brought up to date on the next start.
+     */
+    private void save(long directoryModified) {
+        try {
+            writeIndex(directoryModified);
+        } catch (IOException e) {
+            logger.warning("Could not write email index " + indexFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the index file, replacing the old one only once the new one is complete.
+     */
+    private void writeIndex(long directoryModified) throws IOException {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BinarySnapshotWriter.KIND_EMAIL_INDEX);
+        writer.writeLong(directoryModified);
+        writer.endRecord();
+        for (Map.Entry<String, Entry> fileEntry : entries.entrySet()) {
+            Entry entry = fileEntry.getValue();
+            writer.writeString(fileEntry.getKey());
+            writer.writeLong(entry.size);
+            writer.writeLong(entry.lastModified);
+            writer.writeString(entry.summary.getSubject());
+            writer.writeString(entry.summary.getFrom());
+            writer.writeCount(entry.summary.getRecipients().size());
+            entry.summary.getRecipients().forEach(writer::writeString);
+            writer.endRecord();
+        }
+
+        Path update = indexFile.resolveSibling(indexFile.getFileName() + INDEX_UPDATE_SUFFIX);
+        writer.writeTo(update);
+        Files.move(update, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns the summary of the eml file {@code file} from its headers, without reading its content.
+     * If the headers cannot be read, the summary only holds the subject the file is named after.
+     */
+    private static EmailSummary readSummary(Path file, long lastModified) throws IOException {
+        String fileName = file.getFileName().toString();
+        String subject = fileName.substring(0, fileName.length() - EML_EXTENSION.length());
+        String from = "";
+        List<String> recipients = new ArrayList<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            InternetHeaders headers = new InternetHeaders(in);
+            String subjectHeader = headers.getHeader("Subject", null);
+            if (subjectHeader != null) {
+                subject = MimeUtility.decodeText(MimeUtility.unfold(subjectHeader));
+            }
+            List<String> fromAddresses = readAddresses(headers, "From");
+            if (!fromAddresses.isEmpty()) {
+                from = fromAddresses.get(0);
+            }
+            recipients.addAll(readAddresses(headers, "To"));
+            recipients.addAll(readAddresses(headers, "Cc"));
+            recipients.addAll(readAddresses(headers, "Bcc"));
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            logger.warning("Could not read the headers of " + file + ": " + e.getMessage());
+        }
+        return new EmailSummary(subject, from, recipients, Instant.ofEpochMilli(lastModified));
+    }
+
+    /**
+     * Returns the addresses in the {@code name} headers of {@code headers}.
+     */
+    private static List<String> readAddresses(InternetHeaders headers, String name) throws MessagingException {
+        List<String> addresses = new ArrayList<>();
+        String header = headers.getHeader(name, ",");
+        if (header == null) {
+            return addresses;
+        }
+        for (InternetAddress address : InternetAddress.parseHeader(header, false)) {
+            addresses.add(address.getAddress());
+        }
+        return addresses;
+    }
+
+    /**
+     * The summary of an eml file, along with the size and modification time of the file it was read from.
+     */
+    private static class Entry {
+        private final EmailSummary summary;
+        private final long size;
+        private final long lastModified;
+
+        Entry(EmailSummary summary, long size, long lastModified) {
+            this.summary = summary;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
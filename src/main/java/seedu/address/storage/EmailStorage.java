@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
 
 import org.simplejavamail.email.Email;
 
 import seedu.address.model.EmailModel;
+import seedu.address.model.email.EmailSummary;
 
 //@@author EatOrBeEaten
 /**
@@ -43,6 +45,13 @@ public interface EmailStorage {
      */
     void deleteEmail(String emailName) throws IOException;
 
+    /**
+     * Returns the summary of each eml file in the directory by file name, read without parsing the emails.
+     * Returns an empty map if the directory does not exist.
+     * @throws IOException if there was any problem reading the directory.
+     */
+    Map<String, EmailSummary> readEmailIndex() throws IOException;
+
     /**
      * Returns a set of names of eml files in the directory.
      * Returns empty set if directory does not exist.
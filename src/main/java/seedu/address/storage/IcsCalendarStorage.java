@@ -1,27 +1,52 @@
 package seedu.address.storage;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.util.Objects;
+import java.util.Optional;
 
 import net.fortuna.ical4j.data.CalendarBuilder;
 import net.fortuna.ical4j.data.CalendarOutputter;
 import net.fortuna.ical4j.data.ParserException;
 import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.ComponentList;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.PropertyList;
+import net.fortuna.ical4j.model.component.CalendarComponent;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.LruCache;
 
 //@@author GilgameshTC
 /**
- * A class to access Calendars stored in the hard disk as a ics file
+ * A class to access Calendars stored in the hard disk as a ics file.
+ * The most recently used calendars are kept parsed, and only parsed again once their ics file changes.
+ * Each load returns a copy of the parsed calendar, so that changes made to it are only kept once it is written.
+ * Calendars can be loaded from several threads at once, as each ics file is only ever replaced once it is complete.
  */
 public class IcsCalendarStorage implements CalendarStorage {
+
+    public static final int DEFAULT_CACHED_CALENDARS = 12;
+
+    private static final String CALENDAR_UPDATE_SUFFIX = ".new";
+
     private Path dirPath;
+    private final LruCache<Path, CachedCalendar> parsedCalendars;
 
     public IcsCalendarStorage(Path dirPath) {
+        this(dirPath, DEFAULT_CACHED_CALENDARS);
+    }
+
+    public IcsCalendarStorage(Path dirPath, int cachedCalendars) {
         this.dirPath = dirPath;
+        parsedCalendars = new LruCache<>(cachedCalendars);
     }
 
     @Override
@@ -35,24 +60,51 @@ public class IcsCalendarStorage implements CalendarStorage {
     }
 
     @Override
-    public void createCalendar(Calendar calendar, String calendarName) throws IOException {
+    public synchronized void createCalendar(Calendar calendar, String calendarName) throws IOException {
         String fileName = calendarName + ".ics";
         Path pathToSave = Paths.get(dirPath.toString(), fileName);
-        FileUtil.createIfMissing(pathToSave);
-        FileOutputStream fout = new FileOutputStream(pathToSave.toFile());
-        CalendarOutputter outputter = new CalendarOutputter();
-        outputter.output(calendar, fout);
+        Path update = pathToSave.resolveSibling(fileName + CALENDAR_UPDATE_SUFFIX);
+        FileUtil.createIfMissing(update);
+        try (OutputStream fout = new BufferedOutputStream(Files.newOutputStream(update))) {
+            CalendarOutputter outputter = new CalendarOutputter();
+            outputter.output(calendar, fout);
+        }
+        Files.move(update, pathToSave, StandardCopyOption.REPLACE_EXISTING);
+        parsedCalendars.put(pathToSave, new CachedCalendar(copyOf(calendar), Files.getLastModifiedTime(pathToSave)));
     }
 
+    /**
+     * Returns the calendar parsed from the ics file named {@code calendarName}, reading the file only if it has
+     * changed since it was last parsed or written. The calendar returned is a copy, free to be changed.
+     */
     @Override
     public Calendar loadCalendar(String calendarName) throws IOException, ParserException {
         String fileName = calendarName + ".ics";
-        Path pathToSave = Paths.get(dirPath.toString(), fileName);
-        FileInputStream fin = new FileInputStream(pathToSave.toFile());
-        CalendarBuilder builder = new CalendarBuilder();
-        Calendar calendar = builder.build(fin);
+        Path pathToLoad = Paths.get(dirPath.toString(), fileName);
+        FileTime lastModified = Files.getLastModifiedTime(pathToLoad);
+        Optional<CachedCalendar> cached = parsedCalendars.get(pathToLoad);
+        if (cached.isPresent() && cached.get().lastModified.equals(lastModified)) {
+            return copyOf(cached.get().calendar);
+        }
 
-        return calendar;
+        Calendar calendar;
+        try (InputStream fin = new BufferedInputStream(Files.newInputStream(pathToLoad))) {
+            CalendarBuilder builder = new CalendarBuilder();
+            calendar = builder.build(fin);
+        }
+        parsedCalendars.put(pathToLoad, new CachedCalendar(calendar, lastModified));
+        return copyOf(calendar);
+    }
+
+    /**
+     * Returns a calendar with the same properties and components as {@code calendar}, which are shared with it.
+     */
+    static Calendar copyOf(Calendar calendar) {
+        PropertyList<Property> properties = new PropertyList<>();
+        properties.addAll(calendar.getProperties());
+        ComponentList<CalendarComponent> components = new ComponentList<>();
+        components.addAll(calendar.getComponents());
+        return new Calendar(properties, components);
     }
 
     @Override
@@ -76,4 +128,17 @@ public class IcsCalendarStorage implements CalendarStorage {
         }
         return dirPath.equals(((IcsCalendarStorage) other).dirPath);
     }
+
+    /**
+     * A calendar as last parsed from or written to its ics file, along with the modification time of the file.
+     */
+    private static class CachedCalendar {
+        private final Calendar calendar;
+        private final FileTime lastModified;
+
+        CachedCalendar(Calendar calendar, FileTime lastModified) {
+            this.calendar = calendar;
+            this.lastModified = lastModified;
+        }
+    }
 }
@@ -0,0 +1,243 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot plus an append-only journal of the changes made
+ * since the snapshot was taken, so that each save only writes the persons that changed.
+ * Once the journal holds {@code compactionThreshold} changes, the next save folds it back into a new snapshot.
+ * The snapshot is kept by another {@code AddressBookStorage}, {@link XmlAddressBookStorage} unless given, which
+ * also reads and writes any other path.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTION_SUFFIX = ".compacting";
+    private static final String CHANGE_ELEMENT = "change";
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path compactionPath;
+    private final int compactionThreshold;
+
+    /** The persons as they are on disk, or null if not known yet, in which case the next save writes a snapshot. */
+    private List<Person> storedPersons;
+    private int journalLength;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(new XmlAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        filePath = snapshotStorage.getAddressBookFilePath();
+        journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+        compactionPath = filePath.resolveSibling(filePath.getFileName() + COMPACTION_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, replaying the journal on top of the snapshot if {@code filePath} is
+     * the snapshot of this storage.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        recoverInterruptedCompaction();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!Files.exists(journalPath)) {
+            storedPersons = snapshot.map(addressBook -> new ArrayList<>(addressBook.getPersonList())).orElse(null);
+            journalLength = 0;
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> persons.addAll(addressBook.getPersonList()));
+        int replayed = replayJournal(persons);
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found after replaying " + journalPath);
+            throw new DataConversionException(dpe);
+        }
+        storedPersons = persons;
+        journalLength = replayed;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, appending only the change since the last read or
+     * save to the journal if {@code filePath} is the snapshot of this storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (storedPersons == null || journalLength >= compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<XmlAdaptedPersonListSplice> change = findChange(storedPersons, persons);
+        if (!change.isPresent()) {
+            return;
+        }
+        try {
+            XmlUtil.appendElementToFile(journalPath, CHANGE_ELEMENT, XmlAdaptedPersonListSplice.class, change.get());
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        storedPersons = new ArrayList<>(persons);
+        journalLength++;
+    }
+
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.exportAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Replays the journal onto {@code persons} and returns the number of changes replayed.
+     * An unreadable end of the journal, as left by a crash during an append, is discarded and the journal is
+     * compacted on the next save.
+     */
+    private int replayJournal(List<Person> persons) throws DataConversionException, IOException {
+        AtomicInteger replayed = new AtomicInteger();
+        try {
+            XmlUtil.readAppendedElementsFromFile(journalPath, CHANGE_ELEMENT, XmlAdaptedPersonListSplice.class,
+                change -> {
+                    change.applyTo(persons);
+                    replayed.incrementAndGet();
+                });
+        } catch (JAXBException e) {
+            logger.warning("Discarding unreadable end of " + journalPath + ": " + e.getMessage());
+            return compactionThreshold;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return replayed.get();
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and empties the journal.
+     * The snapshot is written beside the old one first, and only moved into place once the journal is gone, so
+     * that the snapshot and journal on disk always belong together.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, compactionPath);
+        Files.deleteIfExists(journalPath);
+        Files.move(compactionPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        storedPersons = new ArrayList<>(addressBook.getPersonList());
+        journalLength = 0;
+    }
+
+    /**
+     * Finishes or discards a compaction that was interrupted by a crash.
+     * A new snapshot is complete once the journal has been deleted; until then the old snapshot and journal hold.
+     */
+    private void recoverInterruptedCompaction() throws IOException {
+        if (!Files.exists(compactionPath)) {
+            return;
+        }
+        if (Files.exists(journalPath)) {
+            Files.delete(compactionPath);
+        } else {
+            logger.info("Completing interrupted compaction of " + filePath);
+            Files.move(compactionPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the change that turns {@code before} into {@code after}, or an empty Optional if they hold the same
+     * persons. Persons are compared by identity, since the model replaces every person it edits.
+     */
+    private static Optional<XmlAdaptedPersonListSplice> findChange(List<Person> before, List<Person> after) {
+        int shorter = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < shorter && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+        if (prefix == before.size() && prefix == after.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(new XmlAdaptedPersonListSplice(prefix, before.size() - prefix - suffix,
+                after.subList(prefix, after.size() - suffix)));
+    }
+}
@@ -1,29 +1,38 @@
 package seedu.address.storage;
 
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import javax.imageio.ImageIO;
 
 import seedu.address.commons.util.FileUtil;
-import seedu.address.model.person.Room;
+import seedu.address.model.person.ProfilePicture;
 
 //@@author javenseow
 
 /**
  * A class to access Profile Picture directory in the hard disk.
+ * Each photo is kept once, named after a hash of its content, together with a thumbnail scaled down for the
+ * profile view. Uploading a photo that is already kept writes nothing.
  */
 public class ProfilePictureDirStorage implements ProfilePictureStorage {
 
-    private static final String JPG = ".jpg";
+    private static final String JPG = "jpg";
+    private static final String NEW_FILE_SUFFIX = ".new";
+    private static final String MESSAGE_NOT_AN_IMAGE = "The file is not an image";
+
     private Path dirPath;
-    private Path opPath;
 
-    public ProfilePictureDirStorage(Path dirPath, Path opPath) {
+    public ProfilePictureDirStorage(Path dirPath) {
         this.dirPath = dirPath;
-        this.opPath = opPath;
     }
 
     @Override
@@ -43,16 +52,84 @@ public class ProfilePictureDirStorage implements ProfilePictureStorage {
     }
 
     @Override
-    public void saveProfilePicture(BufferedImage image, Room number) throws IOException {
+    public ProfilePicture saveProfilePicture(byte[] content) throws IOException {
+        ProfilePicture picture = ProfilePicture.ofContent(content);
+        Path original = picture.getOriginalPath(dirPath);
+        Path thumbnail = picture.getThumbnailPath(dirPath);
+        if (FileUtil.isFileExists(original) && FileUtil.isFileExists(thumbnail)) {
+            return picture;
+        }
+
+        // The content is decoded before anything is written, so that a file that is not an image leaves nothing behind
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(content));
+        if (image == null) {
+            throw new IOException(MESSAGE_NOT_AN_IMAGE);
+        }
+
+        if (!FileUtil.isFileExists(original)) {
+            // The photo is kept as uploaded, without being encoded again
+            Path newOriginal = newFile(original);
+            try {
+                moveIntoPlace(Files.write(newOriginal, content), original);
+            } finally {
+                Files.deleteIfExists(newOriginal);
+            }
+        }
+
+        if (!FileUtil.isFileExists(thumbnail)) {
+            Path newThumbnail = newFile(thumbnail);
+            try {
+                try (OutputStream out = Files.newOutputStream(newThumbnail)) {
+                    ImageIO.write(scaleToFit(image, ProfilePicture.THUMBNAIL_SIZE), JPG, out);
+                }
+                moveIntoPlace(newThumbnail, thumbnail);
+            } finally {
+                Files.deleteIfExists(newThumbnail);
+            }
+        }
+        return picture;
+    }
+
+    /**
+     * Returns {@code image} scaled down so that its longer side is at most {@code size} pixels, without an alpha
+     * channel so that it can be written as a JPEG. Smaller images keep their size.
+     */
+    static BufferedImage scaleToFit(BufferedImage image, int size) {
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
         try {
-            File copiedFile = new File(dirPath + "/" + number.value + JPG);
-            File outputFile = new File(opPath + "/" + number.value + JPG);
-            FileUtil.createIfMissing(copiedFile.toPath());
-            FileUtil.createIfMissing(outputFile.toPath());
-            ImageIO.write(image, "jpg", copiedFile);
-            ImageIO.write(image, "jpg", outputFile);
-        } catch (IOException e) {
-            throw e;
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Returns a new, uniquely named file to write {@code file} to before it is moved into place, so that a file
+     * that is cut off while being written is never mistaken for a kept photo, and photos saved at the same time
+     * never write to the same file.
+     */
+    private static Path newFile(Path file) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        return Files.createTempFile(file.getParent(), file.getFileName().toString(), NEW_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves {@code newFile} to {@code file}, unless {@code file} has been saved in the meantime.
+     * Such a file was saved from the same content, as it is named by the content's hash.
+     */
+    private static void moveIntoPlace(Path newFile, Path file) throws IOException {
+        try {
+            Files.move(newFile, file);
+        } catch (FileAlreadyExistsException e) {
+            // already in place
         }
     }
 }
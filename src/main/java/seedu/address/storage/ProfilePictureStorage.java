@@ -5,7 +5,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 
-import seedu.address.model.person.Room;
+import seedu.address.model.person.ProfilePicture;
 //@@author javenseow
 
 /**
@@ -24,11 +24,11 @@ public interface ProfilePictureStorage {
     BufferedImage readProfilePicture(File file) throws IOException;
 
     /**
-     * Saves the profile picture to local directory.
+     * Saves the photo {@code content}, and a thumbnail of it, to local directory unless they are already saved.
+     * Returns the profile picture the photo is saved as, which is the same for the same photo.
      *
-     * @param image cannot be null.
-     * @param number cannot be null.
-     * @throws IOException if there was any problem writing to the file.
+     * @param content cannot be null.
+     * @throws IOException if the photo is not an image, or there was any problem writing to the file.
      */
-    void saveProfilePicture(BufferedImage image, Room number) throws IOException;
+    ProfilePicture saveProfilePicture(byte[] content) throws IOException;
 }
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.ProfilePicture;
+import seedu.address.model.person.Room;
+
+/**
+ * Saves uploaded profile pictures on worker threads, so that reading, decoding, scaling and writing a large photo
+ * does not hold up the UI. Each photo is read from disk once and decoded at most once, and photos uploaded together
+ * are saved in parallel.
+ * The photos of one upload are reported together once all of them are done, on the completion executor, such as
+ * the UI thread, so that they reach the residents as a single change.
+ */
+public class ProfilePictureUploader {
+
+    private static final Logger logger = LogsCenter.getLogger(ProfilePictureUploader.class);
+
+    private final ProfilePictureStorage storage;
+    private final Executor workers;
+    private final Executor completionExecutor;
+    private final Consumer<Map<Room, ProfilePicture>> savedHandler;
+    private final Consumer<IOException> failureHandler;
+
+    /**
+     * Creates an uploader that saves photos to {@code storage} on {@code workers}, and reports the saved photos of
+     * each upload to {@code savedHandler} and each photo that fails to be saved to {@code failureHandler}, on
+     * {@code completionExecutor}.
+     */
+    public ProfilePictureUploader(ProfilePictureStorage storage, Executor workers, Executor completionExecutor,
+                                  Consumer<Map<Room, ProfilePicture>> savedHandler,
+                                  Consumer<IOException> failureHandler) {
+        requireNonNull(storage);
+        requireNonNull(workers);
+        requireNonNull(completionExecutor);
+        requireNonNull(savedHandler);
+        requireNonNull(failureHandler);
+        this.storage = storage;
+        this.workers = workers;
+        this.completionExecutor = completionExecutor;
+        this.savedHandler = savedHandler;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Returns a pool of daemon worker threads, one for each processor, to save photos on.
+     */
+    public static ExecutorService newWorkerPool() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "profile-picture-uploader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Saves the photo in {@code file} as the profile picture of the resident of {@code room}, in the background.
+     */
+    public void upload(File file, Room room) {
+        requireNonNull(file);
+        requireNonNull(room);
+        upload(Collections.singletonMap(room, file));
+    }
+
+    /**
+     * Saves each photo in {@code photos} as the profile picture of the resident of its room, in the background.
+     * The photos that are saved are reported together once every photo has been saved or has failed.
+     */
+    public void upload(Map<Room, File> photos) {
+        requireNonNull(photos);
+        Map<Room, ProfilePicture> savedPictures = new ConcurrentHashMap<>();
+        AtomicInteger remaining = new AtomicInteger(photos.size());
+        photos.forEach((room, file) -> workers.execute(() -> {
+            try {
+                ProfilePicture picture = storage.saveProfilePicture(Files.readAllBytes(file.toPath()));
+                logger.fine("Saved " + file + " as " + picture);
+                savedPictures.put(room, picture);
+            } catch (IOException e) {
+                logger.warning("Could not save " + file + ": " + e.getMessage());
+                completionExecutor.execute(() -> failureHandler.accept(e));
+            }
+            if (remaining.decrementAndGet() == 0 && !savedPictures.isEmpty()) {
+                completionExecutor.execute(() -> savedHandler.accept(savedPictures));
+            }
+        }));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.ReadOnlyBudgetBook;
+import seedu.address.model.cca.Cca;
+
+/**
+ * A class to access BudgetBook data stored as a directory of binary shards on the hard disk, one shard per CCA, so
+ * that a change to a CCA or its transactions only rewrites the shard of that CCA.
+ */
+public class ShardedBudgetBookStorage implements BudgetBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedBudgetBookStorage.class);
+
+    private static final CcaFormat CCA_FORMAT = new CcaFormat();
+
+    private final Path directory;
+    private final ShardedRecordStore<Cca> store;
+
+    public ShardedBudgetBookStorage(Path directory) {
+        this.directory = directory;
+        store = createStore(directory);
+    }
+
+    public Path getBudgetBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyBudgetBook> readBudgetBook() throws DataConversionException, IOException {
+        return readBudgetBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readBudgetBook()}
+     *
+     * @param directory location of the data. Cannot be null
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    public Optional<ReadOnlyBudgetBook> readBudgetBook(Path directory) throws DataConversionException,
+        IOException {
+        requireNonNull(directory);
+
+        Optional<List<Cca>> ccas = storeFor(directory).read();
+        if (!ccas.isPresent()) {
+            logger.info("BudgetBook directory " + directory + " not found");
+            return Optional.empty();
+        }
+
+        BudgetBook budgetBook = new BudgetBook();
+        for (Cca cca : ccas.get()) {
+            if (budgetBook.hasCca(cca)) {
+                logger.info("Illegal values found in " + directory + ": "
+                    + XmlSerializableBudgetBook.MESSAGE_DUPLICATE_CCA);
+                throw new DataConversionException(
+                    new IllegalValueException(XmlSerializableBudgetBook.MESSAGE_DUPLICATE_CCA));
+            }
+            budgetBook.addCca(cca);
+        }
+        return Optional.of(budgetBook);
+    }
+
+    @Override
+    public void saveBudgetBook(ReadOnlyBudgetBook budgetBook) throws IOException {
+        saveBudgetBook(budgetBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveBudgetBook(ReadOnlyBudgetBook)}
+     *
+     * @param directory location of the data. Cannot be null
+     */
+    public void saveBudgetBook(ReadOnlyBudgetBook budgetBook, Path directory) throws IOException {
+        requireNonNull(budgetBook);
+        requireNonNull(directory);
+
+        storeFor(directory).save(budgetBook.getCcaList());
+    }
+
+    /**
+     * Returns the store of this storage if {@code directory} is its directory, or a new store otherwise.
+     */
+    private ShardedRecordStore<Cca> storeFor(Path directory) {
+        return directory.equals(this.directory) ? store : createStore(directory);
+    }
+
+    /**
+     * Returns a store for the shards of CCAs in {@code directory}.
+     */
+    private static ShardedRecordStore<Cca> createStore(Path directory) {
+        return new ShardedRecordStore<>(directory, BinarySnapshotWriter.KIND_BUDGET_BOOK, CCA_FORMAT);
+    }
+
+    /**
+     * The binary format of CCAs, sharded by their name.
+     */
+    private static class CcaFormat implements ShardedRecordStore.RecordFormat<Cca> {
+        @Override
+        public String shardKeyOf(Cca cca) {
+            return cca.getCcaName();
+        }
+
+        @Override
+        public void write(BinarySnapshotWriter writer, Cca cca) {
+            BinaryBudgetBookStorage.writeCca(writer, cca);
+        }
+
+        @Override
+        public Cca read(BinarySnapshotReader reader) throws DataConversionException, IllegalValueException {
+            return BinaryBudgetBookStorage.readCca(reader).toModelType();
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Keeps a list of records in a directory as binary snapshot shards, one per shard key, along with a manifest that
+ * names the file of each shard and the shard that each position of the list comes from.
+ * <p>
+ * A save only rewrites the shards whose records changed since the last read or save, comparing records by identity
+ * since the model replaces every record it edits, and then the manifest. Changed shards are written to new files
+ * before the manifest is replaced, so that the manifest on disk always names complete shards; files it no longer
+ * names are deleted afterwards. A load reads the shards in parallel.
+ */
+class ShardedRecordStore<T> {
+
+    static final String MANIFEST_FILE_NAME = "manifest.bin";
+
+    private static final String MANIFEST_UPDATE_FILE_NAME = "manifest.bin.new";
+    private static final String SHARD_FILE_FORMAT = "shard-%d.bin";
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("shard-(\\d+)\\.bin");
+
+    private final Path directory;
+    private final byte kind;
+    private final RecordFormat<T> format;
+
+    /** The records of each shard as they are on disk, or null if not known yet. */
+    private Map<String, List<T>> storedShards;
+    /** The shard key of each position of the list as it is on disk. */
+    private List<String> storedOrder = new ArrayList<>();
+    private Map<String, String> shardFiles = new HashMap<>();
+    private int nextShardNumber;
+
+    ShardedRecordStore(Path directory, byte kind, RecordFormat<T> format) {
+        requireNonNull(directory);
+        requireNonNull(format);
+        this.directory = directory;
+        this.kind = kind;
+        this.format = format;
+    }
+
+    /**
+     * Returns the records in the directory in order, or an empty Optional if it holds no manifest.
+     *
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    synchronized Optional<List<T>> read() throws DataConversionException, IOException {
+        Path manifest = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifest)) {
+            return Optional.empty();
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> files = new ArrayList<>();
+        int[] order;
+        int manifestNextShardNumber;
+        try (BinarySnapshotReader reader = new BinarySnapshotReader(manifest,
+                BinarySnapshotWriter.KIND_SHARD_MANIFEST)) {
+            if (!reader.nextRecord()) {
+                throw BinarySnapshotReader.corrupt();
+            }
+            manifestNextShardNumber = reader.readCount();
+            int shardCount = reader.readCount();
+            for (int i = 0; i < shardCount; i++) {
+                keys.add(reader.readString());
+                files.add(reader.readString());
+            }
+            if (!reader.nextRecord()) {
+                throw BinarySnapshotReader.corrupt();
+            }
+            order = new int[reader.readCount()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = reader.readCount();
+                if (order[i] >= shardCount) {
+                    throw BinarySnapshotReader.corrupt();
+                }
+            }
+        }
+
+        List<List<T>> shards = readShards(files);
+        List<Iterator<T>> remaining = new ArrayList<>();
+        shards.forEach(shard -> remaining.add(shard.iterator()));
+        List<T> records = new ArrayList<>(order.length);
+        List<String> recordOrder = new ArrayList<>(order.length);
+        for (int shard : order) {
+            if (!remaining.get(shard).hasNext()) {
+                throw BinarySnapshotReader.corrupt();
+            }
+            records.add(remaining.get(shard).next());
+            recordOrder.add(keys.get(shard));
+        }
+        for (Iterator<T> shard : remaining) {
+            if (shard.hasNext()) {
+                throw BinarySnapshotReader.corrupt();
+            }
+        }
+
+        storedShards = new HashMap<>();
+        shardFiles = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            storedShards.put(keys.get(i), shards.get(i));
+            shardFiles.put(keys.get(i), files.get(i));
+        }
+        storedOrder = recordOrder;
+        nextShardNumber = manifestNextShardNumber;
+        return Optional.of(records);
+    }
+
+    /**
+     * Saves {@code records} in the directory, rewriting only the shards that changed since the last read or save.
+     */
+    synchronized void save(List<T> records) throws IOException {
+        requireNonNull(records);
+        if (storedShards == null) {
+            Files.createDirectories(directory);
+            nextShardNumber = findNextFreeShardNumber();
+        }
+
+        Map<String, List<T>> shards = new LinkedHashMap<>();
+        List<String> order = new ArrayList<>(records.size());
+        for (T record : records) {
+            String key = format.shardKeyOf(record);
+            shards.computeIfAbsent(key, unused -> new ArrayList<>()).add(record);
+            order.add(key);
+        }
+
+        boolean isChanged = storedShards == null || !order.equals(storedOrder);
+        Map<String, String> files = new LinkedHashMap<>();
+        for (Map.Entry<String, List<T>> shard : shards.entrySet()) {
+            String key = shard.getKey();
+            if (storedShards != null && isSameRecords(storedShards.get(key), shard.getValue())) {
+                files.put(key, shardFiles.get(key));
+                continue;
+            }
+            String file = String.format(SHARD_FILE_FORMAT, nextShardNumber++);
+            writeShard(directory.resolve(file), shard.getValue());
+            files.put(key, file);
+            isChanged = true;
+        }
+        if (!isChanged) {
+            return;
+        }
+
+        writeManifest(order, files);
+        deleteUnnamedShards(new HashSet<>(files.values()));
+        storedShards = shards;
+        storedOrder = order;
+        shardFiles = files;
+    }
+
+    /**
+     * Reads the given shard files in parallel, returning their records in the same order as {@code files}.
+     */
+    private List<List<T>> readShards(List<String> files) throws DataConversionException, IOException {
+        List<CompletableFuture<List<T>>> pending = new ArrayList<>();
+        for (String file : files) {
+            Path shardFile = directory.resolve(file);
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readShard(shardFile);
+                } catch (DataConversionException | IOException e) {
+                    throw new CompletionException(e);
+                }
+            }));
+        }
+
+        List<List<T>> shards = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<T>> shard : pending) {
+                shards.add(shard.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) e.getCause();
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the records in the shard {@code file}.
+     */
+    private List<T> readShard(Path file) throws DataConversionException, IOException {
+        List<T> records = new ArrayList<>();
+        try (BinarySnapshotReader reader = new BinarySnapshotReader(file, kind)) {
+            while (reader.nextRecord()) {
+                records.add(format.read(reader));
+            }
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        return records;
+    }
+
+    /**
+     * Writes {@code records} as the shard {@code file}.
+     */
+    private void writeShard(Path file, List<T> records) throws IOException {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(kind);
+        for (T record : records) {
+            format.write(writer, record);
+            writer.endRecord();
+        }
+        writer.writeTo(file);
+    }
+
+    /**
+     * Replaces the manifest with one naming {@code files} and the shard of each position in {@code order}.
+     */
+    private void writeManifest(List<String> order, Map<String, String> files) throws IOException {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BinarySnapshotWriter.KIND_SHARD_MANIFEST);
+        Map<String, Integer> shardIndexes = new HashMap<>();
+        writer.writeCount(nextShardNumber);
+        writer.writeCount(files.size());
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            shardIndexes.put(file.getKey(), shardIndexes.size());
+            writer.writeString(file.getKey());
+            writer.writeString(file.getValue());
+        }
+        writer.endRecord();
+        writer.writeCount(order.size());
+        for (String key : order) {
+            writer.writeCount(shardIndexes.get(key));
+        }
+        writer.endRecord();
+
+        Path update = directory.resolve(MANIFEST_UPDATE_FILE_NAME);
+        FileUtil.createParentDirsOfFile(update);
+        writer.writeTo(update);
+        Files.move(update, directory.resolve(MANIFEST_FILE_NAME), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes the shard files in the directory that are not in {@code namedFiles}.
+     */
+    private void deleteUnnamedShards(Set<String> namedFiles) throws IOException {
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(directory)) {
+            for (Path file : shardFiles) {
+                String fileName = file.getFileName().toString();
+                if (SHARD_FILE_PATTERN.matcher(fileName).matches() && !namedFiles.contains(fileName)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a shard number above that of every shard file in the directory, so that new shards never overwrite
+     * shards that a manifest on disk may still name.
+     */
+    private int findNextFreeShardNumber() throws IOException {
+        int next = 0;
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(directory)) {
+            for (Path file : shardFiles) {
+                Matcher matcher = SHARD_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    next = Math.max(next, Integer.parseInt(matcher.group(1)) + 1);
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns true if {@code stored} holds the very same records as {@code current}, in the same order.
+     */
+    private static <T> boolean isSameRecords(List<T> stored, List<T> current) {
+        if (stored == null || stored.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < stored.size(); i++) {
+            if (stored.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Describes how records are grouped into shards and written to and read from a shard.
+     */
+    interface RecordFormat<T> {
+        /**
+         * Returns the key of the shard that {@code record} belongs to.
+         */
+        String shardKeyOf(T record);
+
+        /**
+         * Writes {@code record} to the current record of {@code writer}.
+         */
+        void write(BinarySnapshotWriter writer, T record);
+
+        /**
+         * Reads the record in the current record of {@code reader}.
+         *
+         * @throws IllegalValueException if the record holds invalid values.
+         */
+        T read(BinarySnapshotReader reader) throws DataConversionException, IllegalValueException;
+    }
+}
@@ -4,6 +4,7 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -20,6 +21,7 @@ import seedu.address.commons.events.model.CalendarEventDeletedEvent;
 import seedu.address.commons.events.model.EmailSavedEvent;
 import seedu.address.commons.events.model.ExportAddressBookEvent;
 import seedu.address.commons.events.model.LoadCalendarEvent;
+import seedu.address.commons.events.model.LoadCalendarRangeEvent;
 import seedu.address.commons.events.model.NewImageEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.storage.EmailDeleteEvent;
@@ -29,7 +31,8 @@ import seedu.address.model.EmailModel;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyBudgetBook;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.Room;
+import seedu.address.model.email.EmailSummary;
+import seedu.address.model.person.ProfilePicture;
 
 /**
  * API of the Storage component
@@ -75,6 +78,9 @@ public interface Storage extends AddressBookStorage, BudgetBookStorage, UserPref
     @Override
     void deleteEmail(String emailName) throws IOException;
 
+    @Override
+    Map<String, EmailSummary> readEmailIndex() throws IOException;
+
     @Override
     Set<String> readEmailFiles();
 
@@ -82,14 +88,21 @@ public interface Storage extends AddressBookStorage, BudgetBookStorage, UserPref
      * Saves the current version of the Address Book to the hard disk.
      * Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * The save may happen in the background; see {@link #flushPendingSaves()}.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
+    /**
+     * Writes any address book or budget book saves still pending in the background, and waits until they are done.
+     */
+    void flushPendingSaves();
+
     //@@author ericyjw
     /**
      * Saves the current version of the Budget Book to the hard disk.
      * Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * The save may happen in the background; see {@link #flushPendingSaves()}.
      */
     void handleBudgetBookChangedEvent(BudgetBookChangedEvent bbce);
 
@@ -137,6 +150,8 @@ public interface Storage extends AddressBookStorage, BudgetBookStorage, UserPref
 
     void handleLoadCalendarEvent(LoadCalendarEvent event);
 
+    void handleLoadCalendarRangeEvent(LoadCalendarRangeEvent event);
+
     void handleAllDayEventAddedEvent(AllDayEventAddedEvent event);
 
     void handleCalendarEventAddedEvent(CalendarEventAddedEvent event);
@@ -151,7 +166,7 @@ public interface Storage extends AddressBookStorage, BudgetBookStorage, UserPref
     BufferedImage readProfilePicture(File file) throws IOException;
 
     @Override
-    void saveProfilePicture(BufferedImage image, Room number) throws IOException;
+    ProfilePicture saveProfilePicture(byte[] content) throws IOException;
 
     /**
      * Reads and write the image file that is given from the hard disk
@@ -1,11 +1,19 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Logger;
 
 import org.simplejavamail.email.Email;
@@ -15,7 +23,6 @@ import com.google.common.eventbus.Subscribe;
 import net.fortuna.ical4j.data.ParserException;
 import net.fortuna.ical4j.model.Calendar;
 import seedu.address.commons.core.ComponentManager;
-import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AllDayEventAddedEvent;
@@ -27,25 +34,33 @@ import seedu.address.commons.events.model.EmailLoadedEvent;
 import seedu.address.commons.events.model.EmailSavedEvent;
 import seedu.address.commons.events.model.ExportAddressBookEvent;
 import seedu.address.commons.events.model.LoadCalendarEvent;
+import seedu.address.commons.events.model.LoadCalendarRangeEvent;
 import seedu.address.commons.events.model.NewImageEvent;
 import seedu.address.commons.events.storage.CalendarLoadedEvent;
+import seedu.address.commons.events.storage.CalendarRangeLoadedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.storage.EmailDeleteEvent;
 import seedu.address.commons.events.storage.EmailLoadEvent;
 import seedu.address.commons.events.storage.ImageReadingExceptionEvent;
+import seedu.address.commons.events.storage.ProfilePictureSavedEvent;
 import seedu.address.commons.events.storage.RemoveExistingCalendarInModelEvent;
 import seedu.address.commons.events.ui.CalendarNotFoundEvent;
 import seedu.address.commons.events.ui.EmailNotFoundEvent;
 import seedu.address.commons.events.ui.ToggleBrowserPlaceholderEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BudgetBook;
 import seedu.address.model.EmailModel;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyBudgetBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
-import seedu.address.model.person.Room;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.email.EmailSummary;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ProfilePicture;
 
 
 /**
@@ -60,6 +75,10 @@ public class StorageManager extends ComponentManager implements Storage {
     private CalendarStorage calendarStorage;
     private EmailStorage emailStorage;
     private ProfilePictureStorage profilePictureStorage;
+    /** Saves the address book and budget book in the background, if set. Otherwise they are saved in place. */
+    private WriteBehindSaver saver;
+    private ProfilePictureUploader uploader;
+    private ExecutorService uploadWorkers;
 
     public StorageManager(AddressBookStorage addressBookStorage, BudgetBookStorage budgetBookStorage,
                           UserPrefsStorage userPrefsStorage,
@@ -72,6 +91,43 @@ public class StorageManager extends ComponentManager implements Storage {
         this.calendarStorage = calendarStorage;
         this.emailStorage = emailStorage;
         this.profilePictureStorage = profilePictureStorage;
+        this.uploader = newUploader(Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Saves the address book, budget book and calendars on a background thread from now on.
+     * Changes within {@code maxDelayMillis} of each other are coalesced into a single write of the latest data.
+     */
+    public void enableWriteBehind(long maxDelayMillis) {
+        if (saver != null) {
+            saver.shutdown();
+        }
+        saver = new WriteBehindSaver(maxDelayMillis, e -> raise(new DataSavingExceptionEvent(e)));
+    }
+
+    /**
+     * Saves uploaded profile pictures on a pool of worker threads from now on, reporting the outcome of each upload
+     * on {@code completionExecutor}.
+     */
+    public void enableBackgroundImageUploads(Executor completionExecutor) {
+        requireNonNull(completionExecutor);
+        if (uploadWorkers != null) {
+            uploadWorkers.shutdown();
+        }
+        uploadWorkers = ProfilePictureUploader.newWorkerPool();
+        uploader = newUploader(uploadWorkers, completionExecutor);
+    }
+
+    private ProfilePictureUploader newUploader(Executor workers, Executor completionExecutor) {
+        return new ProfilePictureUploader(profilePictureStorage, workers, completionExecutor, pictures ->
+            raise(new ProfilePictureSavedEvent(pictures)), e -> raise(new ImageReadingExceptionEvent(e)));
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        if (saver != null) {
+            saver.flush();
+        }
     }
 
     @Override
@@ -158,6 +214,16 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saver != null) {
+            // persons are immutable, so copying the list is enough to save a consistent snapshot in the background
+            List<Person> persons = new ArrayList<>(event.data.getPersonList());
+            saver.schedule("addressbook", () -> {
+                AddressBook snapshot = new AddressBook();
+                snapshot.setPersons(persons);
+                saveAddressBook(snapshot);
+            });
+            return;
+        }
         try {
             saveAddressBook(event.data);
         } catch (IOException e) {
@@ -169,6 +235,15 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleBudgetBookChangedEvent(BudgetBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saver != null) {
+            List<Cca> ccas = new ArrayList<>(event.data.getCcaList());
+            saver.schedule("budgetbook", () -> {
+                BudgetBook snapshot = new BudgetBook();
+                snapshot.setCcas(ccas);
+                saveBudgetBook(snapshot);
+            });
+            return;
+        }
         try {
             saveBudgetBook(event.data);
         } catch (IOException e) {
@@ -217,6 +292,12 @@ public class StorageManager extends ComponentManager implements Storage {
         emailStorage.deleteEmail(emailName);
     }
 
+    @Override
+    public Map<String, EmailSummary> readEmailIndex() throws IOException {
+        logger.fine("Attempting to read email index of directory: " + emailStorage.getEmailPath());
+        return emailStorage.readEmailIndex();
+    }
+
     @Override
     public Set<String> readEmailFiles() {
         return readEmailFiles(emailStorage.getEmailPath());
@@ -304,19 +385,34 @@ public class StorageManager extends ComponentManager implements Storage {
         return calendarStorage.loadCalendar(calendarName);
     }
 
-    @Override
-    @Subscribe
-    public void handleCalendarCreatedEvent(CalendarCreatedEvent event) {
+    /**
+     * Saves {@code calendar} as the calendar named {@code calendarName}, in the background if write-behind is
+     * enabled. Changes to the same calendar made in quick succession are then written once.
+     */
+    private void saveCalendar(Calendar calendar, String calendarName) {
+        if (saver != null) {
+            // the model keeps adding events to its calendar, so the background save writes a copy of the event list
+            Calendar snapshot = IcsCalendarStorage.copyOf(calendar);
+            saver.schedule("calendar " + calendarName, () -> createCalendar(snapshot, calendarName));
+            return;
+        }
         try {
-            createCalendar(event.calendar, event.calendarName);
+            createCalendar(calendar, calendarName);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    @Override
+    @Subscribe
+    public void handleCalendarCreatedEvent(CalendarCreatedEvent event) {
+        saveCalendar(event.calendar, event.calendarName);
+    }
+
     @Override
     @Subscribe
     public void handleLoadCalendarEvent(LoadCalendarEvent event) {
+        flushPendingSaves();
         try {
             Calendar calendarToBeLoaded = loadCalendar(event.calendarName);
             indicateCalendarLoaded(calendarToBeLoaded, event.calendarName);
@@ -332,37 +428,58 @@ public class StorageManager extends ComponentManager implements Storage {
         }
     }
 
+    /**
+     * Loads the calendars of a range of months in parallel. Calendars that cannot be loaded are left out of the
+     * range and removed from the model, as they would be when loaded on their own.
+     */
     @Override
     @Subscribe
-    public void handleAllDayEventAddedEvent(AllDayEventAddedEvent event) {
-        try {
-            String calendarName = event.month + "-" + event.year;
-            createCalendar(event.calendar, calendarName);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+    public void handleLoadCalendarRangeEvent(LoadCalendarRangeEvent event) {
+        flushPendingSaves();
+        List<CompletableFuture<Optional<Calendar>>> pending = new ArrayList<>();
+        for (String calendarName : event.calendarNames) {
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return Optional.of(loadCalendar(calendarName));
+                } catch (IOException | ParserException e) {
+                    logger.warning("Failed to load calendar(ics) file : " + StringUtil.getDetails(e));
+                    return Optional.empty();
+                }
+            }));
+        }
+
+        List<String> calendarNames = new ArrayList<>();
+        List<Calendar> calendars = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            Optional<Calendar> calendar = pending.get(i).join();
+            if (calendar.isPresent()) {
+                calendarNames.add(event.calendarNames.get(i));
+                calendars.add(calendar.get());
+            } else {
+                String[] tokenizedCalendarName = event.calendarNames.get(i).split("-");
+                raise(new RemoveExistingCalendarInModelEvent(new Month(tokenizedCalendarName[0]),
+                        new Year(tokenizedCalendarName[1])));
+            }
         }
+        raise(new CalendarRangeLoadedEvent(calendarNames, calendars, event.rangeName));
+    }
+
+    @Override
+    @Subscribe
+    public void handleAllDayEventAddedEvent(AllDayEventAddedEvent event) {
+        saveCalendar(event.calendar, event.month + "-" + event.year);
     }
 
     @Override
     @Subscribe
     public void handleCalendarEventAddedEvent(CalendarEventAddedEvent event) {
-        try {
-            String calendarName = event.month + "-" + event.year;
-            createCalendar(event.calendar, calendarName);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        saveCalendar(event.calendar, event.month + "-" + event.year);
     }
 
     @Override
     @Subscribe
     public void handleCalendarEventDeletedEvent(CalendarEventDeletedEvent event) {
-        try {
-            String calendarName = event.month + "-" + event.year;
-            createCalendar(event.calendar, calendarName);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        saveCalendar(event.calendar, event.month + "-" + event.year);
     }
 
     //@@author javenseow
@@ -382,29 +499,15 @@ public class StorageManager extends ComponentManager implements Storage {
         }
     }
 
-    public void saveProfilePicture(BufferedImage image, Room number) throws IOException {
-        profilePictureStorage.saveProfilePicture(image, number);
+    @Override
+    public ProfilePicture saveProfilePicture(byte[] content) throws IOException {
+        return profilePictureStorage.saveProfilePicture(content);
     }
 
     @Subscribe
     @Override
     public void handleNewImageEvent(NewImageEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "reading image"));
-        BufferedImage image = null;
-
-        try {
-            image = readProfilePicture(event.file);
-        } catch (IOException e) {
-            EventsCenter.getInstance().post(new ImageReadingExceptionEvent(e));
-        }
-
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "image read, writing file"));
-        if (image != null) {
-            try {
-                saveProfilePicture(image, event.room);
-            } catch (IOException e) {
-                EventsCenter.getInstance().post(new DataSavingExceptionEvent(e));
-            }
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "uploading image"));
+        uploader.upload(event.photos);
     }
 }
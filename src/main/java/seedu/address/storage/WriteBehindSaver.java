@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Saves data on a background thread, coalescing saves that are requested in quick succession.
+ * A save is written at most {@code maxDelayMillis} after it is requested. Until then, a newer save requested for
+ * the same target replaces it, so a burst of changes results in a single write of the latest data.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final ScheduledExecutorService executor;
+    private final long maxDelayMillis;
+    private final Consumer<IOException> failureHandler;
+    /** The latest save requested for each target that has not been written yet. */
+    private final Map<String, SaveTask> pendingSaves = new LinkedHashMap<>();
+
+    /**
+     * Creates a saver that reports saves that fail to {@code failureHandler}, on the saving thread.
+     */
+    public WriteBehindSaver(long maxDelayMillis, Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        if (maxDelayMillis < 0) {
+            throw new IllegalArgumentException("Maximum save delay cannot be negative.");
+        }
+        this.maxDelayMillis = maxDelayMillis;
+        this.failureHandler = failureHandler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests {@code task} to be run in the background, replacing any save still pending for {@code target}.
+     */
+    public synchronized void schedule(String target, SaveTask task) {
+        requireNonNull(target);
+        requireNonNull(task);
+        boolean isAlreadyScheduled = pendingSaves.containsKey(target);
+        pendingSaves.put(target, task);
+        if (!isAlreadyScheduled) {
+            executor.schedule(() -> runPendingSave(target), maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes every pending save now, and waits until they have been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::runAllPendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Unexpected error while saving: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes every pending save and stops the saving thread. No more saves can be scheduled afterwards.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Runs the save pending for {@code target}, unless it has already been written by a flush.
+     */
+    private void runPendingSave(String target) {
+        SaveTask task;
+        synchronized (this) {
+            task = pendingSaves.remove(target);
+        }
+        if (task != null) {
+            run(task);
+        }
+    }
+
+    /**
+     * Runs every pending save, in the order their targets were first scheduled.
+     */
+    private void runAllPendingSaves() {
+        List<SaveTask> tasks;
+        synchronized (this) {
+            tasks = new ArrayList<>(pendingSaves.values());
+            pendingSaves.clear();
+        }
+        tasks.forEach(this::run);
+    }
+
+    /**
+     * Runs {@code task}, reporting any failure to the failure handler.
+     */
+    private void run(SaveTask task) {
+        try {
+            task.save();
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes some data to disk.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        void save() throws IOException;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaListDelta;
+
+/**
+ * JAXB-friendly version of the CcaListDelta.
+ */
+public class XmlAdaptedCcaListDelta {
+
+    public static final String MESSAGE_INVALID_POSITION = "Position of a Cca list change cannot be negative.";
+
+    @XmlElement(required = true)
+    private int from;
+
+    @XmlElement
+    private List<XmlAdaptedCca> removed = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedCca> added = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedCcaListDelta.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedCcaListDelta() {
+    }
+
+    /**
+     * Converts a given CcaListDelta into this class for JAXB use.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedCcaListDelta
+     */
+    public XmlAdaptedCcaListDelta(CcaListDelta source) {
+        from = source.getFrom();
+        removed = source.getRemoved().stream().map(XmlAdaptedCca::new).collect(Collectors.toList());
+        added = source.getAdded().stream().map(XmlAdaptedCca::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted delta object into the model's CcaListDelta object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted delta
+     */
+    public CcaListDelta toModelType() throws IllegalValueException {
+        if (from < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_POSITION);
+        }
+        return new CcaListDelta(from, toModelCcas(removed), toModelCcas(added));
+    }
+
+    /**
+     * Converts each of {@code ccas} into the model's Cca object, in the same order.
+     */
+    private static List<Cca> toModelCcas(List<XmlAdaptedCca> ccas) throws IllegalValueException {
+        List<Cca> modelCcas = new ArrayList<>();
+        for (XmlAdaptedCca cca : ccas) {
+            modelCcas.add(cca.toModelType());
+        }
+        return modelCcas;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedCcaListDelta)) {
+            return false;
+        }
+
+        XmlAdaptedCcaListDelta otherDelta = (XmlAdaptedCcaListDelta) other;
+        return from == otherDelta.from
+            && Objects.equals(removed, otherDelta.removed)
+            && Objects.equals(added, otherDelta.added);
+    }
+}
@@ -25,6 +25,16 @@ public class XmlAdaptedEntry {
 
     public XmlAdaptedEntry() {}
 
+    /**
+     * Constructs an {@code XmlAdaptedEntry} with the given entry details.
+     */
+    public XmlAdaptedEntry(String entryNum, String date, String amount, String log) {
+        this.entryNum = entryNum;
+        this.date = date;
+        this.amount = amount;
+        this.log = log;
+    }
+
     /**
      * Converts a given Transaction entry into this class for JAXB use.
      *
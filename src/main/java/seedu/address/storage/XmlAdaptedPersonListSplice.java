@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * JAXB-friendly record of one change to a person list: {@code removed} persons starting at position {@code from}
+ * were replaced by the {@code persons} in this record.
+ */
+public class XmlAdaptedPersonListSplice {
+
+    public static final String MESSAGE_INVALID_SPLICE = "Person list change does not fit the list it applies to.";
+
+    @XmlElement(required = true)
+    private int from;
+    @XmlElement(required = true)
+    private int removed;
+
+    @XmlElement
+    private List<XmlAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedPersonListSplice.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedPersonListSplice() {
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedPersonListSplice} with the given change.
+     *
+     * @param added future changes to this will not affect the created XmlAdaptedPersonListSplice
+     */
+    public XmlAdaptedPersonListSplice(int from, int removed, List<Person> added) {
+        this.from = from;
+        this.removed = removed;
+        persons = added.stream().map(XmlAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Applies this change to {@code target}.
+     *
+     * @throws IllegalValueException if this change does not fit {@code target} or holds an invalid person.
+     */
+    public void applyTo(List<Person> target) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > target.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_SPLICE);
+        }
+        List<Person> added = new ArrayList<>();
+        for (XmlAdaptedPerson person : persons) {
+            added.add(person.toModelType());
+        }
+        List<Person> replaced = target.subList(from, from + removed);
+        replaced.clear();
+        replaced.addAll(added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedPersonListSplice)) {
+            return false;
+        }
+
+        XmlAdaptedPersonListSplice otherSplice = (XmlAdaptedPersonListSplice) other;
+        return from == otherSplice.from
+            && removed == otherSplice.removed
+            && Objects.equals(persons, otherSplice.persons);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.HistorySpill;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps address book undo states that no longer fit in memory as xml files in a directory on the hard disk.
+ */
+public class XmlAddressBookHistorySpill implements HistorySpill<PersistentList<Person>> {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlAddressBookHistorySpill.class);
+
+    private static final String FILE_PREFIX = "addressbook-";
+    private static final String FILE_SUFFIX = ".xml";
+
+    private final Path directory;
+
+    public XmlAddressBookHistorySpill(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    @Override
+    public void write(long id, PersistentList<Person> entry) throws IOException {
+        requireNonNull(entry);
+        Path file = getFilePath(id);
+        FileUtil.createIfMissing(file);
+        AddressBook state = new AddressBook();
+        state.setPersons(entry);
+        XmlFileStorage.streamAddressBookToFile(file, state);
+    }
+
+    @Override
+    public PersistentList<Person> read(long id) throws DataConversionException, IOException {
+        Path file = getFilePath(id);
+        try {
+            return PersistentList.of(XmlFileStorage.streamAddressBookFromFile(file).getPersonList());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void delete(long id) {
+        try {
+            Files.deleteIfExists(getFilePath(id));
+        } catch (IOException e) {
+            logger.warning("Unable to delete undo history file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to clear undo history files: " + e.getMessage());
+        }
+    }
+
+    private Path getFilePath(long id) {
+        return directory.resolve(FILE_PREFIX + id + FILE_SUFFIX);
+    }
+}
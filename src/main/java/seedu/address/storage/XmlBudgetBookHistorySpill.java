@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.HistorySpill;
+import seedu.address.model.cca.CcaListDelta;
+
+/**
+ * Keeps budget book undo history that no longer fits in memory as xml files in a directory on the hard disk.
+ * Each file holds the changes to the Cca list made by one commit.
+ */
+public class XmlBudgetBookHistorySpill implements HistorySpill<List<CcaListDelta>> {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlBudgetBookHistorySpill.class);
+
+    private static final String FILE_PREFIX = "ccabook-";
+    private static final String FILE_SUFFIX = ".xml";
+
+    private final Path directory;
+
+    public XmlBudgetBookHistorySpill(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    @Override
+    public void write(long id, List<CcaListDelta> entry) throws IOException {
+        requireNonNull(entry);
+        Path file = getFilePath(id);
+        FileUtil.createIfMissing(file);
+        try {
+            XmlUtil.saveDataToFile(file, new XmlSerializableCcaListDeltas(entry));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<CcaListDelta> read(long id) throws DataConversionException, FileNotFoundException {
+        Path file = getFilePath(id);
+        try {
+            return XmlUtil.getDataFromFile(file, XmlSerializableCcaListDeltas.class).toModelType();
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void delete(long id) {
+        try {
+            Files.deleteIfExists(getFilePath(id));
+        } catch (IOException e) {
+            logger.warning("Unable to delete undo history file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to clear undo history files: " + e.getMessage());
+        }
+    }
+
+    private Path getFilePath(long id) {
+        return directory.resolve(FILE_PREFIX + id + FILE_SUFFIX);
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -47,7 +46,7 @@ public class XmlBudgetBookStorage implements BudgetBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyBudgetBook> readBudgetBook(Path filePath) throws DataConversionException,
-        FileNotFoundException {
+        IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -55,9 +54,8 @@ public class XmlBudgetBookStorage implements BudgetBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableBudgetBook xmlBudgetBook = XmlFileStorage.loadDataFromSaveBbFile(filePath);
         try {
-            return Optional.of(xmlBudgetBook.toModelType());
+            return Optional.of(XmlFileStorage.streamBudgetBookFromFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -80,7 +78,7 @@ public class XmlBudgetBookStorage implements BudgetBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToBbFile(filePath, new XmlSerializableBudgetBook(budgetBook));
+        XmlFileStorage.streamBudgetBookToFile(filePath, budgetBook);
     }
 
 }
@@ -1,12 +1,21 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.commons.util.XmlUtil.ElementHandler;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyBudgetBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.person.Person;
 
 /**
  * Stores addressbook data in an XML file
@@ -60,4 +69,80 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Saves the given addressbook data to the specified file, converting and writing one person at a time.
+     * The file has the same format as one written by {@link #saveDataToAbFile}.
+     */
+    public static void streamAddressBookToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        try {
+            XmlUtil.saveElementsToFile(file, XmlSerializableAddressBook.ROOT_ELEMENT,
+                    XmlSerializableAddressBook.PERSON_ELEMENT, XmlAdaptedPerson.class, () ->
+                    addressBook.getPersonList().stream().map(XmlAdaptedPerson::new).iterator());
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the given budgetbook data to the specified file, converting and writing one CCA at a time.
+     * The file has the same format as one written by {@link #saveDataToBbFile}.
+     */
+    public static void streamBudgetBookToFile(Path file, ReadOnlyBudgetBook budgetBook) throws IOException {
+        try {
+            XmlUtil.saveElementsToFile(file, XmlSerializableBudgetBook.ROOT_ELEMENT,
+                    XmlSerializableBudgetBook.CCA_ELEMENT, XmlAdaptedCca.class, () ->
+                    budgetBook.getCcaList().stream().map(XmlAdaptedCca::new).iterator());
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the address book in the file, converting each person as soon as it is read.
+     *
+     * @throws IllegalValueException if a person is invalid or duplicates an earlier one.
+     */
+    public static AddressBook streamAddressBookFromFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        AddressBook addressBook = new AddressBook();
+        ElementHandler<XmlAdaptedPerson> addPerson = xmlPerson -> {
+            Person person = xmlPerson.toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        };
+        try {
+            XmlUtil.readElementsFromFile(file, XmlSerializableAddressBook.ROOT_ELEMENT,
+                    XmlSerializableAddressBook.PERSON_ELEMENT, XmlAdaptedPerson.class, addPerson);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the budget book in the file, converting each CCA as soon as it is read.
+     *
+     * @throws IllegalValueException if a CCA is invalid or duplicates an earlier one.
+     */
+    public static BudgetBook streamBudgetBookFromFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        BudgetBook budgetBook = new BudgetBook();
+        ElementHandler<XmlAdaptedCca> addCca = xmlCca -> {
+            Cca cca = xmlCca.toModelType();
+            if (budgetBook.hasCca(cca)) {
+                throw new IllegalValueException(XmlSerializableBudgetBook.MESSAGE_DUPLICATE_CCA);
+            }
+            budgetBook.addCca(cca);
+        };
+        try {
+            XmlUtil.readElementsFromFile(file, XmlSerializableBudgetBook.ROOT_ELEMENT,
+                    XmlSerializableBudgetBook.CCA_ELEMENT, XmlAdaptedCca.class, addCca);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        return budgetBook;
+    }
+
 }
@@ -15,12 +15,14 @@ import seedu.address.model.person.Person;
 /**
  * An Immutable AddressBook that is serializable to XML format
  */
-@XmlRootElement(name = "addressbook")
+@XmlRootElement(name = XmlSerializableAddressBook.ROOT_ELEMENT)
 public class XmlSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String ROOT_ELEMENT = "addressbook";
+    public static final String PERSON_ELEMENT = "persons";
 
-    @XmlElement
+    @XmlElement(name = PERSON_ELEMENT)
     private List<XmlAdaptedPerson> persons;
 
     /**
@@ -15,12 +15,14 @@ import seedu.address.model.cca.Cca;
 /**
  * An Immutable BudgetBook that is serializable to XML format
  */
-@XmlRootElement(name = "ccabook")
+@XmlRootElement(name = XmlSerializableBudgetBook.ROOT_ELEMENT)
 public class XmlSerializableBudgetBook {
 
     public static final String MESSAGE_DUPLICATE_CCA = "CCA list contains duplicate CCA(s).";
+    public static final String ROOT_ELEMENT = "ccabook";
+    public static final String CCA_ELEMENT = "ccas";
 
-    @XmlElement
+    @XmlElement(name = CCA_ELEMENT)
     private List<XmlAdaptedCca> ccas;
 
     /**
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.cca.CcaListDelta;
+
+/**
+ * An Immutable list of changes to the Cca list that is serializable to XML format
+ */
+@XmlRootElement(name = "ccahistory")
+public class XmlSerializableCcaListDeltas {
+
+    @XmlElement
+    private List<XmlAdaptedCcaListDelta> deltas;
+
+    /**
+     * Creates an empty XmlSerializableCcaListDeltas.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableCcaListDeltas() {
+        deltas = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableCcaListDeltas(List<CcaListDelta> src) {
+        this();
+        deltas.addAll(src.stream().map(XmlAdaptedCcaListDelta::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts these changes into the model's {@code CcaListDelta} objects, in the same order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the {@code XmlAdaptedCca}s.
+     */
+    public List<CcaListDelta> toModelType() throws IllegalValueException {
+        List<CcaListDelta> modelDeltas = new ArrayList<>();
+        for (XmlAdaptedCcaListDelta delta : deltas) {
+            modelDeltas.add(delta.toModelType());
+        }
+        return modelDeltas;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlSerializableCcaListDeltas)) {
+            return false;
+        }
+        return deltas.equals(((XmlSerializableCcaListDeltas) other).deltas);
+    }
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -24,6 +26,7 @@ import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.ProfileViewEvent;
 import seedu.address.model.EmailModel;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ProfilePicture;
 
 /**
  * The Browser Panel of the App.
@@ -37,13 +40,17 @@ public class BrowserPanel extends UiPart<Region> {
 
     private static final String FXML = "BrowserPanel.fxml";
 
+    private static final String PICTURE_TAG = "<img src=\"%1$s\" alt=\"Profile picture of %2$s\">";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
+    private final Path profilePictureDirectory;
 
     @FXML
     private WebView browser;
 
-    public BrowserPanel() {
+    public BrowserPanel(Path profilePictureDirectory) {
         super(FXML);
+        this.profilePictureDirectory = profilePictureDirectory;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
@@ -163,7 +170,24 @@ public class BrowserPanel extends UiPart<Region> {
         htmlString = htmlString.replace("$number", person.getPhone().value);
         htmlString = htmlString.replace("$school", person.getSchool().value);
         htmlString = htmlString.replace("$email", person.getEmail().value);
+        htmlString = htmlString.replace("$picture", loadPictureHtml(person));
 
         return htmlString;
     }
+
+    /**
+     * Returns the HTML code showing the thumbnail of the profile picture of {@code person}, or an empty string
+     * if the person has no profile picture or its thumbnail is not saved yet.
+     */
+    private String loadPictureHtml(Person person) {
+        ProfilePicture picture = person.getProfilePicture();
+        if (picture == null) {
+            return "";
+        }
+        Path thumbnail = picture.getThumbnailPath(profilePictureDirectory);
+        if (!Files.isRegularFile(thumbnail)) {
+            return "";
+        }
+        return String.format(PICTURE_TAG, thumbnail.toUri(), person.getName().fullName);
+    }
 }
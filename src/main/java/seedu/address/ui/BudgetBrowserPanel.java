@@ -1,7 +1,5 @@
 package seedu.address.ui;
 
-import java.io.File;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.logging.Logger;
 
@@ -15,8 +13,6 @@ import javafx.scene.web.WebView;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.CcaPanelSelectionChangedEvent;
-import seedu.address.commons.util.XmlToHtml;
-import seedu.address.model.cca.Cca;
 import seedu.address.model.cca.CcaName;
 
 //@author ericyjw
@@ -27,20 +23,20 @@ import seedu.address.model.cca.CcaName;
  */
 public class BudgetBrowserPanel extends UiPart<Region> {
 
-    //    public static final String BUDGET_PAGE = MainApp.class.getResource("/docs/ccabook.html").getPath();
-    public static final String BUDGET_PAGE = "./data/ccabook.html";
-    public static final String BUDGET_PAGE_FILE = "/data/ccabook.html";
     public static final String DEFAULT_PAGE = "default.html";
 
     private static final String FXML = "BudgetBrowserPanel.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    private final BudgetPageRenderer renderer;
+
     @FXML
     private WebView browser;
 
-    public BudgetBrowserPanel() {
+    public BudgetBrowserPanel(BudgetPageRenderer renderer) {
         super(FXML);
+        this.renderer = renderer;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
@@ -49,48 +45,25 @@ public class BudgetBrowserPanel extends UiPart<Region> {
         registerAsAnEventHandler(this);
     }
 
-    public BudgetBrowserPanel(CcaName ccaName) {
+    public BudgetBrowserPanel(BudgetPageRenderer renderer, CcaName ccaName) {
         super(FXML);
+        this.renderer = renderer;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
 
-        loadCcaBudgetPage(ccaName);
+        loadCcaBudgetPage(ccaName.getNameOfCca());
         registerAsAnEventHandler(this);
     }
 
     /**
      * Load the budget page of a chosen CCA
      *
-     * @param ccaName chosen CCA
-     */
-    private void loadCcaBudgetPage(CcaName ccaName) {
-        String chosen = ccaName.getNameOfCca();
-        XmlToHtml.convertCcaBook(chosen);
-        File budgetFile = new File(BUDGET_PAGE);
-        try {
-            URL url = budgetFile.toURI().toURL();
-            loadPage(url.toString());
-        } catch (MalformedURLException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Load the budget page of a chosen CCA
-     *
-     * @param cca chosen CCA
+     * @param ccaName name of the chosen CCA
      */
-    private void loadCcaBudgetPage(Cca cca) {
-        String chosen = cca.getCcaName();
-        XmlToHtml.convertCcaBook(chosen);
-        File budgetFile = new File(BUDGET_PAGE);
-        try {
-            URL url = budgetFile.toURI().toURL();
-            loadPage(url.toString());
-        } catch (MalformedURLException e) {
-            e.printStackTrace();
-        }
+    private void loadCcaBudgetPage(String ccaName) {
+        String page = renderer.render(ccaName);
+        Platform.runLater(() -> browser.getEngine().loadContent(page));
     }
 
     public void loadPage(String url) {
@@ -109,6 +82,6 @@ public class BudgetBrowserPanel extends UiPart<Region> {
     @Subscribe
     private void handleCcaPanelSelectionChangedEvent(CcaPanelSelectionChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadCcaBudgetPage(event.getNewSelection());
+        loadCcaBudgetPage(event.getNewSelection().getCcaName());
     }
 }
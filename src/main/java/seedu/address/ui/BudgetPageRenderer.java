@@ -0,0 +1,111 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.MainApp;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.BudgetBookChangedEvent;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyBudgetBook;
+import seedu.address.storage.XmlSerializableBudgetBook;
+
+/**
+ * Renders the budget page of a CCA from the budget book in memory.
+ * The stylesheet is compiled once and takes the chosen CCA as a parameter, and the page of each CCA is kept until
+ * the budget book changes, so switching between CCAs reads and writes no files.
+ */
+public class BudgetPageRenderer {
+
+    public static final String STYLESHEET = "/ccabook.xsl";
+    public static final String CCA_PARAMETER = "cca";
+
+    private static final Logger logger = LogsCenter.getLogger(BudgetPageRenderer.class);
+
+    private final Templates templates;
+    private final Map<String, String> pages = new HashMap<>();
+    private ReadOnlyBudgetBook budgetBook;
+    private Source budgetBookXml;
+
+    /**
+     * Creates a renderer of the budget pages of the CCAs in {@code budgetBook}, which keeps its pages until a
+     * {@code BudgetBookChangedEvent} is raised.
+     */
+    public BudgetPageRenderer(ReadOnlyBudgetBook budgetBook) {
+        requireNonNull(budgetBook);
+        this.budgetBook = budgetBook;
+        templates = compile(STYLESHEET);
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    /**
+     * Compiles the stylesheet bundled with the app at {@code resource}.
+     */
+    private static Templates compile(String resource) {
+        try {
+            return TransformerFactory.newInstance().newTemplates(
+                new StreamSource(MainApp.class.getResource(resource).toExternalForm()));
+        } catch (TransformerConfigurationException e) {
+            throw new IllegalStateException("Could not compile " + resource, e);
+        }
+    }
+
+    /**
+     * Returns the HTML budget page of the CCA named {@code ccaName}, or an empty string if it could not be rendered.
+     */
+    public String render(String ccaName) {
+        requireNonNull(ccaName);
+        String page = pages.get(ccaName);
+        if (page != null) {
+            return page;
+        }
+
+        try {
+            Transformer transformer = templates.newTransformer();
+            transformer.setParameter(CCA_PARAMETER, ccaName);
+            StringWriter html = new StringWriter();
+            transformer.transform(getBudgetBookXml(), new StreamResult(html));
+            page = html.toString();
+        } catch (JAXBException | TransformerException e) {
+            logger.warning("Could not render the budget page of " + ccaName + ": " + e.getMessage());
+            return "";
+        }
+        pages.put(ccaName, page);
+        return page;
+    }
+
+    /**
+     * Returns the budget book as XML, marshalled the same way as the saved budget book that the stylesheet reads.
+     */
+    private Source getBudgetBookXml() throws JAXBException {
+        if (budgetBookXml == null) {
+            budgetBookXml = XmlUtil.getSource(new XmlSerializableBudgetBook(budgetBook));
+        }
+        return budgetBookXml;
+    }
+
+    @Subscribe
+    private void handleBudgetBookChangedEvent(BudgetBookChangedEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event, "Budget book changed, discarding budget pages"));
+        budgetBook = event.data;
+        budgetBookXml = null;
+        pages.clear();
+    }
+}
@@ -36,6 +36,7 @@ public class BudgetWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private BudgetBrowserPanel budgetBrowserPanel;
+    private BudgetPageRenderer budgetPageRenderer;
     private CcaListPanel ccaListPanel;
     private UserPrefs prefs;
 
@@ -59,6 +60,7 @@ public class BudgetWindow extends UiPart<Stage> {
         this.prefs = prefs;
         this.logic = logic;
         this.isShowing = false;
+        this.budgetPageRenderer = new BudgetPageRenderer(logic.getBudgetBook());
 
         setAccelerators();
     }
@@ -103,9 +105,9 @@ public class BudgetWindow extends UiPart<Stage> {
      */
     private void fillInnerParts(CcaName ccaName) {
         if (Optional.ofNullable(ccaName).isPresent()) {
-            budgetBrowserPanel = new BudgetBrowserPanel(ccaName);
+            budgetBrowserPanel = new BudgetBrowserPanel(budgetPageRenderer, ccaName);
         } else {
-            budgetBrowserPanel = new BudgetBrowserPanel();
+            budgetBrowserPanel = new BudgetBrowserPanel(budgetPageRenderer);
         }
         browserPlaceholder.getChildren().add(budgetBrowserPanel.getRoot());
 
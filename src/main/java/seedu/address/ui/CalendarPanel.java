@@ -5,8 +5,6 @@ import java.time.Period;
 import java.util.Locale;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.Subscribe;
-
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -19,7 +17,6 @@ import jfxtras.icalendarfx.VCalendar;
 import jfxtras.scene.control.agenda.icalendar.ICalendarAgenda;
 import net.fortuna.ical4j.model.Calendar;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.events.ui.CalendarViewEvent;
 
 //@@author GilgameshTC
 
@@ -40,7 +37,6 @@ public class CalendarPanel extends UiPart<Region> {
         // To prevent triggering events for typing and dragging inside the loaded Calendar.
         getRoot().setOnKeyPressed(Event::consume);
         loadDefaultCalendar();
-        registerAsAnEventHandler(this);
     }
 
     /**
@@ -122,10 +118,4 @@ public class CalendarPanel extends UiPart<Region> {
         return osName.contains("windows");
     }
 
-    @Subscribe
-    private void handleCalendarViewEvent(CalendarViewEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadCalendar(event.calendar);
-    }
-
 }
@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -18,11 +17,13 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.CalendarViewEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.events.ui.ExitBudgetWindowRequestEvent;
 import seedu.address.commons.events.ui.ShowBudgetViewEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.commons.events.ui.ToggleBrowserPlaceholderEvent;
+import seedu.address.commons.util.Lazy;
 import seedu.address.logic.Logic;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.cca.CcaName;
@@ -43,12 +44,12 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private BrowserPanel browserPanel;
-    private CalendarPanel calendarPanel;
+    private final Lazy<CalendarPanel> calendarPanel = new Lazy<>(this::createCalendarPanel);
     private PersonListPanel personListPanel;
     private Config config;
     private UserPrefs prefs;
     private HelpWindow helpWindow;
-    private BudgetWindow budgetWindow;
+    private final Lazy<BudgetWindow> budgetWindow;
 
     @FXML
     private StackPane browserPlaceholder;
@@ -89,7 +90,7 @@ public class MainWindow extends UiPart<Stage> {
         registerAsAnEventHandler(this);
 
         helpWindow = new HelpWindow();
-        budgetWindow = new BudgetWindow(logic, prefs, this);
+        budgetWindow = new Lazy<>(() -> new BudgetWindow(logic, prefs, this));
     }
 
     public Stage getPrimaryStage() {
@@ -135,11 +136,9 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        browserPanel = new BrowserPanel();
-        calendarPanel = new CalendarPanel();
         // The last node in the list will be the top view
-        // BrowserPanel will be the default top view
-        browserPlaceholder.getChildren().add(calendarPanel.getRoot());
+        // BrowserPanel will be the default top view, and the CalendarPanel is only created once it is needed
+        browserPanel = new BrowserPanel(prefs.getProfilePicturePath());
         browserPlaceholder.getChildren().add(browserPanel.getRoot());
 
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
@@ -155,6 +154,15 @@ public class MainWindow extends UiPart<Stage> {
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Creates the calendar panel behind the browser panel.
+     */
+    private CalendarPanel createCalendarPanel() {
+        CalendarPanel panel = new CalendarPanel();
+        browserPlaceholder.getChildren().add(0, panel.getRoot());
+        return panel;
+    }
+
     void hide() {
         primaryStage.hide();
     }
@@ -237,15 +245,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleBudget() {
-        if (!Optional.ofNullable(budgetWindow).isPresent()) {
-            budgetWindow = new BudgetWindow(logic, prefs, this);
-        }
-
-        if (!budgetWindow.isShowing()) {
-            budgetWindow.show(null);
-        } else {
-            budgetWindow.focus(null);
-        }
+        handleBudget(null);
     }
 
     /**
@@ -254,14 +254,11 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleBudget(CcaName ccaName) {
-        if (!Optional.ofNullable(budgetWindow).isPresent()) {
-            budgetWindow = new BudgetWindow(logic, prefs, this);
-        }
-
-        if (!budgetWindow.isShowing()) {
-            budgetWindow.show(ccaName);
+        BudgetWindow window = budgetWindow.get();
+        if (!window.isShowing()) {
+            window.show(ccaName);
         } else {
-            budgetWindow.focus(ccaName);
+            window.focus(ccaName);
         }
     }
 
@@ -297,7 +294,7 @@ public class MainWindow extends UiPart<Stage> {
 
     void releaseResources() {
         browserPanel.freeResources();
-        calendarPanel.freeResources();
+        calendarPanel.getIfCreated().ifPresent(CalendarPanel::freeResources);
     }
 
     @Subscribe
@@ -319,9 +316,18 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    @Subscribe
+    private void handleCalendarViewEvent(CalendarViewEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        calendarPanel.get().loadCalendar(event.calendar);
+    }
+
     @Subscribe
     private void handleToggleBrowserPlaceholderEvent(ToggleBrowserPlaceholderEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        if (event.view.equals(ToggleBrowserPlaceholderEvent.CALENDAR_PANEL)) {
+            calendarPanel.get();
+        }
         if (!isCorrectPanelOnTopBrowserPlaceholder(event.view)) {
             logger.info("BrowserPlaceholder toggled");
             setTopPanel(event.view);
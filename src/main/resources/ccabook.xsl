@@ -1,5 +1,6 @@
 <?xml version="1.0" encoding="UTF-8" standalone="no"?>
 <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+    <xsl:param name="cca"/>
     <xsl:template match="/">
         <html>
             <head>
@@ -8,7 +9,7 @@
             </head>
             <body>
                 <xsl:for-each select="ccabook/ccas">
-                    <xsl:if test="name='BASKETBALL'">
+                    <xsl:if test="name=$cca">
                         <p>
                             CCA:
                             <xsl:value-of select="name"/>
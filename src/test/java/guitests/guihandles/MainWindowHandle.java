@@ -1,5 +1,8 @@
 package guitests.guihandles;
 
+import java.util.Optional;
+
+import guitests.guihandles.exceptions.NodeNotFoundException;
 import javafx.stage.Stage;
 
 /**
@@ -13,7 +16,7 @@ public class MainWindowHandle extends StageHandle {
     private final StatusBarFooterHandle statusBarFooter;
     private final MainMenuHandle mainMenu;
     private final BrowserPanelHandle browserPanel;
-    private final CalendarPanelHandle calendarPanel;
+    private CalendarPanelHandle calendarPanel;
 
     public MainWindowHandle(Stage stage) {
         super(stage);
@@ -24,7 +27,6 @@ public class MainWindowHandle extends StageHandle {
         statusBarFooter = new StatusBarFooterHandle(getChildNode(StatusBarFooterHandle.STATUS_BAR_PLACEHOLDER));
         mainMenu = new MainMenuHandle(getChildNode(MainMenuHandle.MENU_BAR_ID));
         browserPanel = new BrowserPanelHandle(getChildNode(BrowserPanelHandle.BROWSER_ID));
-        calendarPanel = new CalendarPanelHandle(getChildNode(CalendarPanelHandle.BORDER_ID));
     }
 
     public PersonListPanelHandle getPersonListPanel() {
@@ -51,7 +53,18 @@ public class MainWindowHandle extends StageHandle {
         return browserPanel;
     }
 
-    public CalendarPanelHandle getCalendarPanel() {
-        return calendarPanel;
+    /**
+     * Returns the handle of the calendar panel, or an empty Optional if the panel has not been created, as it is
+     * only created when a calendar is first viewed.
+     */
+    public Optional<CalendarPanelHandle> getCalendarPanel() {
+        if (calendarPanel == null) {
+            try {
+                calendarPanel = new CalendarPanelHandle(getChildNode(CalendarPanelHandle.BORDER_ID));
+            } catch (NodeNotFoundException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(calendarPanel);
     }
 }
@@ -16,7 +16,8 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Hallper\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Save delay : 500ms";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -1,8 +1,11 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -21,4 +24,37 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceExtension() {
+        // extension replaced
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook.xml"), "bin"));
+
+        // only the last extension replaced
+        assertEquals(Paths.get("addressbook.xml.bin"),
+                FileUtil.replaceExtension(Paths.get("addressbook.xml.bak"), "bin"));
+
+        // no extension -> extension added
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook"), "bin"));
+
+        // hidden file -> extension added
+        assertEquals(Paths.get(".addressbook.bin"), FileUtil.replaceExtension(Paths.get(".addressbook"), "bin"));
+    }
+
+    @Test
+    public void removeExtension() {
+        // extension removed
+        assertEquals(Paths.get("data", "ccabook"), FileUtil.removeExtension(Paths.get("data", "ccabook.xml")));
+
+        // only the last extension removed
+        assertEquals(Paths.get("ccabook.xml"), FileUtil.removeExtension(Paths.get("ccabook.xml.bak")));
+
+        // no extension -> same path
+        assertEquals(Paths.get("data", "ccabook"), FileUtil.removeExtension(Paths.get("data", "ccabook")));
+
+        // hidden file -> same path
+        assertEquals(Paths.get(".ccabook"), FileUtil.removeExtension(Paths.get(".ccabook")));
+    }
+
 }
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LazyTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nullInitializer_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new Lazy<>(null);
+    }
+
+    @Test
+    public void get_calledTwice_createdOnce() {
+        AtomicInteger creations = new AtomicInteger();
+        Lazy<Object> lazy = new Lazy<>(() -> {
+            creations.incrementAndGet();
+            return new Object();
+        });
+        assertEquals(0, creations.get());
+
+        Object value = lazy.get();
+        assertSame(value, lazy.get());
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    public void getIfCreated() {
+        Lazy<String> lazy = new Lazy<>(() -> "value");
+
+        // not created -> empty, and still not created
+        assertFalse(lazy.getIfCreated().isPresent());
+        assertFalse(lazy.getIfCreated().isPresent());
+
+        // created -> value
+        lazy.get();
+        assertEquals(Optional.of("value"), lazy.getIfCreated());
+    }
+}
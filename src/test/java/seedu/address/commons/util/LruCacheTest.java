@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LruCacheTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new LruCache<String, String>(0);
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedDropped() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(Optional.of(1), cache.get("a"));
+        assertFalse(cache.get("b").isPresent());
+        assertEquals(Optional.of(3), cache.get("c"));
+    }
+
+    @Test
+    public void put_existingKey_valueReplaced() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("a", 2);
+        assertEquals(1, cache.size());
+        assertEquals(Optional.of(2), cache.get("a"));
+    }
+
+    @Test
+    public void remove_cachedKey_dropped() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.remove("a");
+        assertFalse(cache.get("a").isPresent());
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new LruCache<String, Integer>(1).put("a", null);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(null);
+    }
+
+    @Test
+    public void of_listWithNullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(Arrays.asList("a", null));
+    }
+
+    @Test
+    public void of_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertSame(list, PersistentList.of(list));
+    }
+
+    @Test
+    public void empty_hasNoElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList("a", "b")).get(2);
+    }
+
+    @Test
+    public void plus_invalidIndex_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.<String>empty().plus(1, "a");
+    }
+
+    @Test
+    public void minus_invalidIndex_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.<String>empty().minus(0);
+    }
+
+    @Test
+    public void with_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(Arrays.asList("a")).with(0, null);
+    }
+
+    @Test
+    public void derivedLists_originalUnchanged() {
+        List<String> elements = Arrays.asList("a", "b", "c");
+        PersistentList<String> original = PersistentList.of(elements);
+
+        assertEquals(Arrays.asList("a", "x", "c"), original.with(1, "x"));
+        assertEquals(Arrays.asList("a", "b", "x", "c"), original.plus(2, "x"));
+        assertEquals(Arrays.asList("a", "b", "c", "x"), original.plus("x"));
+        assertEquals(Arrays.asList("b", "c"), original.minus(0));
+        assertEquals(elements, original);
+    }
+
+    @Test
+    public void randomEdits_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> history = new ArrayList<>();
+        List<List<Integer>> expectedHistory = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            }
+            if (i % 100 == 0) {
+                history.add(actual);
+                expectedHistory.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expectedHistory, history);
+    }
+}
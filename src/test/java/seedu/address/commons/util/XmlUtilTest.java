@@ -5,6 +5,7 @@ import static org.junit.Assert.assertEquals;
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -138,6 +139,49 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void readElementsFromFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.readElementsFromFile(MISSING_FILE, "addressbook", "persons", XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_emptyFile_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(EMPTY_FILE, "addressbook", "persons", XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_wrongRootElement_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(VALID_FILE, "ccabook", "persons", XmlAdaptedPerson.class, person -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_validFile_allElementsRead() throws Exception {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        XmlUtil.readElementsFromFile(VALID_FILE, "addressbook", "persons", XmlAdaptedPerson.class, persons::add);
+        assertEquals(9, persons.size());
+    }
+
+    @Test
+    public void saveElementsToFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.saveElementsToFile(MISSING_FILE, "addressbook", "persons", XmlAdaptedPerson.class,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void saveElementsToFile_validFile_readableAsWholeDocument() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableAddressBook expected = new XmlSerializableAddressBook(
+                new AddressBookBuilder(new AddressBook()).withPerson(new PersonBuilder().build()).build());
+        List<XmlAdaptedPerson> persons = Collections.singletonList(new XmlAdaptedPerson(new PersonBuilder().build()));
+
+        XmlUtil.saveElementsToFile(TEMP_FILE, "addressbook", "persons", XmlAdaptedPerson.class, persons);
+        assertEquals(expected, XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class));
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
@@ -39,6 +39,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
+import seedu.address.testutil.CalendarBuilder;
 import seedu.address.testutil.TypicalCalendars;
 
 //@@author GilgameshTC
@@ -81,7 +82,7 @@ public class AddAllDayEventCommandTest {
 
     @Test
     public void execute_validMonthYearDateTitle_success() {
-        Calendar calendar = TypicalCalendars.DEFAULT_CALENDAR;
+        Calendar calendar = new CalendarBuilder().build();
         updateExistingCalendarsInModel(DEFAULT_YEAR, DEFAULT_MONTH);
         loadCalendarInModel(calendar, DEFAULT_CALENDAR_NAME);
         AddAllDayEventCommand addAllDayEventCommand =
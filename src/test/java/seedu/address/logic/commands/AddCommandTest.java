@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -18,8 +19,11 @@ import org.junit.rules.ExpectedException;
 import org.simplejavamail.email.Email;
 
 import javafx.collections.ObservableList;
+import net.fortuna.ical4j.model.component.VEvent;
 import seedu.address.commons.events.model.EmailLoadedEvent;
 import seedu.address.commons.events.storage.CalendarLoadedEvent;
+import seedu.address.commons.events.storage.CalendarRangeLoadedEvent;
+import seedu.address.commons.events.storage.ProfilePictureSavedEvent;
 import seedu.address.commons.events.storage.RemoveExistingCalendarInModelEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -28,10 +32,12 @@ import seedu.address.model.CalendarModel;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyBudgetBook;
+import seedu.address.model.calendar.ClashIndex;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
 import seedu.address.model.cca.Cca;
 import seedu.address.model.cca.CcaName;
+import seedu.address.model.email.EmailSummary;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
@@ -149,18 +155,18 @@ public class AddCommandTest {
         }
 
         @Override
-        public boolean hasPerson(Person person) {
+        public Map<String, EmailSummary> getEmailIndex() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean hasPerson(Name person) {
-            return false;
+        public boolean hasPerson(Person person) {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void initialiseBudgetBook() {
-            throw new AssertionError("This method should not be called.");
+        public boolean hasPerson(Name person) {
+            return false;
         }
 
         @Override
@@ -203,6 +209,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void handleProfilePictureSavedEvent(ProfilePictureSavedEvent event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateCca(Cca target, Cca editedCca) {
             throw new AssertionError("This method should not be called.");
@@ -273,6 +284,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void startBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void saveEmail(Email email) {
             throw new AssertionError("This method should not be called.");
@@ -298,6 +324,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void handleCalendarRangeLoadedEvent(CalendarRangeLoadedEvent event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void handleRemoveExistingCalendarInModelEvent(RemoveExistingCalendarInModelEvent event) {
             throw new AssertionError("This method should not be called.");
@@ -344,6 +375,22 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isValidCalendarRange(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getExistingCalendarsInRange(Year startYear, Month startMonth, Year endYear,
+                                                        Month endMonth) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadCalendarRange(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void handleEmailLoadedEvent(EmailLoadedEvent event) {
             throw new AssertionError("This method should not be called.");
@@ -361,27 +408,43 @@ public class AddCommandTest {
         }
 
         @Override
-        public boolean isExistingEvent (Year year, Month month, int startDate, int endDate, String title) {
+        public int createEvents(Year year, Month month, List<VEvent> events) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deleteEvent(Year year, Month month, int startDate, int endDate, String title) {
+        public List<VEvent> getClashingEvents(Year year, Month month, int startDate, int startHour, int startMin,
+                                              int endDate, int endHour, int endMin) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateExistingCalendar() {
+        public List<VEvent> getClashingEvents(Year year, Month month, int date) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deleteCca(Cca ccaToDelete) {
+        public List<ClashIndex.Clash> getClashes(Year startYear, Month startMonth, Year endYear, Month endMonth) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isExistingEvent (Year year, Month month, int startDate, int endDate, String title) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void readXslFile() {
+        public void deleteEvent(Year year, Month month, int startDate, int endDate, String title) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateExistingCalendar() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteCca(Cca ccaToDelete) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.AddAllDayEventCommand.MESSAGE_EXISTING_EVENT;
@@ -43,14 +44,18 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.component.VEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.BudgetBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.ClashIndex;
+import seedu.address.model.calendar.EventFactory;
 import seedu.address.model.calendar.Month;
 import seedu.address.model.calendar.Year;
+import seedu.address.testutil.CalendarBuilder;
 import seedu.address.testutil.TypicalCalendars;
 
 //@@author GilgameshTC
@@ -96,7 +101,7 @@ public class AddEventCommandTest {
 
     @Test
     public void execute_validArguments_success() {
-        Calendar calendar = TypicalCalendars.DEFAULT_CALENDAR;
+        Calendar calendar = new CalendarBuilder().build();
         updateExistingCalendarsInModel(DEFAULT_YEAR, DEFAULT_MONTH);
         loadCalendarInModel(calendar, DEFAULT_CALENDAR_NAME);
         AddEventCommand addEventCommand =
@@ -116,6 +121,23 @@ public class AddEventCommandTest {
         assertCommandSuccess(addEventCommand, model, commandHistory, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_clashingEvent_clashReported() throws Exception {
+        VEvent audit = new EventFactory().createEvent(DEFAULT_YEAR, DEFAULT_MONTH, VALID_CALENDAR_DATE_1, 9, 0,
+            VALID_CALENDAR_DATE_1, 12, 0, "Audit");
+        updateExistingCalendarsInModel(DEFAULT_YEAR, DEFAULT_MONTH);
+        loadCalendarInModel(new CalendarBuilder().addEvent(audit).build(), DEFAULT_CALENDAR_NAME);
+        AddEventCommand addEventCommand =
+            new AddEventCommand(DEFAULT_MONTH, DEFAULT_YEAR, VALID_CALENDAR_DATE_1, VALID_SHOUR, VALID_SMIN,
+                VALID_CALENDAR_DATE_2, VALID_EHOUR, VALID_EMIN, VALID_CALENDAR_TITLE_OCAMP);
+
+        String expectedMessage = String.format(AddEventCommand.MESSAGE_SUCCESS, VALID_CALENDAR_DATE_1 + "/"
+            + DEFAULT_MONTH + "/" + DEFAULT_YEAR + " - " + VALID_CALENDAR_DATE_2 + "/" + DEFAULT_MONTH + "/"
+            + DEFAULT_YEAR + " [" + VALID_CALENDAR_TITLE_OCAMP + "]")
+            + String.format(AddEventCommand.MESSAGE_CLASHES, ClashIndex.describe(audit));
+        assertEquals(expectedMessage, addEventCommand.execute(model, commandHistory).feedbackToUser);
+    }
+
     @Test
     public void execute_existingEvent_success() {
         Calendar calendar = TypicalCalendars.DEFAULT_CALENDAR;
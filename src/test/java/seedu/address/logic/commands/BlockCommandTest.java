@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class BlockCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_wholeBlock_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        expectedModel.updateFilteredPersonList(person -> person.getRoom().getBlock().equals("B"));
+        assertCommandSuccess(new BlockCommand("b"), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, ELLE, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_singleFloor_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(person -> person.getRoom().value.startsWith("B3"));
+        assertCommandSuccess(new BlockCommand("B", "3"), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_emptyBlock_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(new BlockCommand("Z"), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        BlockCommand blockACommand = new BlockCommand("A");
+        BlockCommand floorA3Command = new BlockCommand("A", "3");
+
+        // same object -> returns true
+        assertTrue(blockACommand.equals(blockACommand));
+
+        // same values, different case -> returns true
+        assertTrue(blockACommand.equals(new BlockCommand("a")));
+        assertTrue(floorA3Command.equals(new BlockCommand("a", "3")));
+        assertEquals(floorA3Command.hashCode(), new BlockCommand("a", "3").hashCode());
+
+        // different types -> returns false
+        assertFalse(blockACommand.equals(1));
+
+        // null -> returns false
+        assertFalse(blockACommand.equals(null));
+
+        // different floor -> returns false
+        assertFalse(blockACommand.equals(floorA3Command));
+        assertFalse(floorA3Command.equals(new BlockCommand("A", "4")));
+
+        // different block -> returns false
+        assertFalse(blockACommand.equals(new BlockCommand("B")));
+    }
+}
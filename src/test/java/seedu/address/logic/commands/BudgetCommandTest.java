@@ -27,9 +27,6 @@ public class BudgetCommandTest {
 
     @Test
     public void execute_budget_success() {
-        expectedModel.initialiseBudgetBook();
-        expectedModel.readXslFile();
-
         Command c = new BudgetCommand();
 
         assertCommandSuccess(c, model, commandHistory, SHOWING_BUDGET_MESSAGE, expectedModel);
@@ -43,9 +40,6 @@ public class BudgetCommandTest {
         expectedModel.addCca(BASKETBALL);
         expectedModel.commitBudgetBook();
 
-        expectedModel.initialiseBudgetBook();
-        expectedModel.readXslFile();
-
         eventsCollectorRule = new EventsCollectorRule();
         assertCommandSuccess(new BudgetCommand(BASKETBALL.getName()), model, commandHistory,
             SHOWING_BUDGET_MESSAGE, expectedModel);
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.ClashesCommand.MESSAGE_NO_CLASHES;
+import static seedu.address.logic.commands.ClashesCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_FEB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JAN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JUN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2017;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2018;
+import static seedu.address.logic.commands.ViewCalendarRangeCommand.MESSAGE_INVALID_RANGE;
+import static seedu.address.logic.commands.ViewCalendarRangeCommand.MESSAGE_NO_EXISTING_CALENDAR;
+import static seedu.address.testutil.TypicalEmails.getTypicalExistingEmails;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import net.fortuna.ical4j.model.component.VEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.ClashIndex;
+import seedu.address.model.calendar.EventFactory;
+import seedu.address.model.calendar.Month;
+import seedu.address.model.calendar.Year;
+import seedu.address.testutil.CalendarBuilder;
+
+public class ClashesCommandTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new BudgetBook(), new UserPrefs(),
+        getTypicalExistingEmails());
+
+    private static void updateExistingCalendarsInModel(Model model, Year year, Month month) {
+        model.getCalendarModel().updateExistingCalendar(year, month);
+        model.updateExistingCalendar();
+    }
+
+    @Test
+    public void execute_noClashes_noClashesMessage() throws Exception {
+        updateExistingCalendarsInModel(model, VALID_YEAR_2018, VALID_MONTH_JAN);
+        ClashesCommand command = new ClashesCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+        assertEquals(String.format(MESSAGE_NO_CLASHES, "JAN-2018"),
+            command.execute(model, commandHistory).feedbackToUser);
+    }
+
+    @Test
+    public void execute_clashingEvents_clashesListed() throws Exception {
+        EventFactory eventFactory = new EventFactory();
+        VEvent camp = eventFactory.createEvent(VALID_YEAR_2018, VALID_MONTH_JAN, 3, 9, 0, 5, 18, 0, "Camp");
+        VEvent audit = eventFactory.createEvent(VALID_YEAR_2018, VALID_MONTH_JAN, 4, 10, 0, 4, 12, 0, "Audit");
+        updateExistingCalendarsInModel(model, VALID_YEAR_2018, VALID_MONTH_JAN);
+        model.getCalendarModel().loadCalendar(new CalendarBuilder().addEvent(camp).addEvent(audit).build(),
+            VALID_MONTH_JAN + "-" + VALID_YEAR_2018);
+
+        ClashesCommand command = new ClashesCommand(VALID_MONTH_JAN, VALID_YEAR_2018, VALID_MONTH_JAN, VALID_YEAR_2018);
+        assertEquals(String.format(MESSAGE_SUCCESS, 1, "JAN-2018") + "\n1. " + ClashIndex.describe(camp) + " and "
+            + ClashIndex.describe(audit), command.execute(model, commandHistory).feedbackToUser);
+    }
+
+    @Test
+    public void execute_startAfterEnd_throwsCommandException() throws Exception {
+        ClashesCommand command = new ClashesCommand(VALID_MONTH_FEB, VALID_YEAR_2018, VALID_MONTH_JAN, VALID_YEAR_2018);
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(MESSAGE_INVALID_RANGE);
+        command.execute(model, commandHistory);
+    }
+
+    @Test
+    public void execute_noExistingCalendarInRange_throwsCommandException() throws Exception {
+        ClashesCommand command = new ClashesCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(MESSAGE_NO_EXISTING_CALENDAR);
+        command.execute(model, commandHistory);
+    }
+
+    @Test
+    public void equals() {
+        ClashesCommand clashesCommand =
+            new ClashesCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+
+        // same values -> returns true
+        assertTrue(clashesCommand.equals(
+            new ClashesCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018)));
+
+        // null -> returns false
+        assertFalse(clashesCommand.equals(null));
+
+        // different end -> returns false
+        assertFalse(clashesCommand.equals(
+            new ClashesCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_FEB, VALID_YEAR_2018)));
+    }
+}
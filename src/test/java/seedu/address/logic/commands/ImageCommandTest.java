@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -10,21 +11,27 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.NewImageEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.AddressBook;
 import seedu.address.model.BudgetBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.ProfilePicture;
 import seedu.address.model.person.Room;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 //@@author javenseow
 public class ImageCommandTest {
@@ -38,9 +45,22 @@ public class ImageCommandTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     private CommandHistory commandHistory = new CommandHistory();
 
+    @Before
+    public void setUp() {
+        // Only the events collector gets the uploads, so that the storage of other tests saves none of them
+        EventsCenter.clearSubscribers();
+        EventsCenter.getInstance().registerHandler(eventsCollectorRule.eventsCollector);
+    }
+
     @Test
     public void execute_nullResident_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -79,21 +99,49 @@ public class ImageCommandTest {
 
     @Test
     public void execute_validFile_success() {
-        ImageCommand imageCommand = new ImageCommand(ALICE.getRoom(),
-            new File(IMAGE_COMMAND_TEST_DATA_FOLDER + VALID_IMAGE));
+        File photo = new File(IMAGE_COMMAND_TEST_DATA_FOLDER + VALID_IMAGE);
+        ImageCommand imageCommand = new ImageCommand(ALICE.getRoom(), photo);
 
+        // The resident gets the picture once it is saved in the background
         String expectedMessage = String.format(ImageCommand.MESSAGE_SUCCESS, ALICE);
-
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()),
             new BudgetBook(model.getBudgetBook()), new UserPrefs(), model.getExistingEmails());
-        Person editedPerson = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
-            ALICE.getRoom(), ALICE.getSchool(),
-            new ProfilePicture(Paths.get(VALID_ROOM.toLowerCase() + ".jpg")), ALICE.getTags());
 
-        expectedModel.updatePerson(ALICE, editedPerson);
-        expectedModel.commitAddressBook();
+        assertCommandSuccess(imageCommand, model, commandHistory, expectedMessage, expectedModel);
+        NewImageEvent event = (NewImageEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singletonMap(ALICE.getRoom(), photo), event.photos);
+    }
+
+    @Test
+    public void execute_directory_uploadsPhotosOfResidents() throws Exception {
+        Path photo = Paths.get(IMAGE_COMMAND_TEST_DATA_FOLDER + VALID_IMAGE);
+        Files.copy(photo, testFolder.getRoot().toPath().resolve(VALID_ROOM.toLowerCase() + ".jpg"));
+        Files.copy(photo, testFolder.getRoot().toPath().resolve(INVALID_ROOM + ".jpg"));
+        Files.copy(photo, testFolder.getRoot().toPath().resolve("notes.jpg"));
+        ImageCommand imageCommand = new ImageCommand(testFolder.getRoot());
+
+        String expectedMessage = String.format(ImageCommand.MESSAGE_DIRECTORY_SUCCESS, 1, VALID_ROOM);
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()),
+            new BudgetBook(model.getBudgetBook()), new UserPrefs(), model.getExistingEmails());
 
         assertCommandSuccess(imageCommand, model, commandHistory, expectedMessage, expectedModel);
+        NewImageEvent event = (NewImageEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singleton(new Room(VALID_ROOM)), event.photos.keySet());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void execute_directoryWithoutPhotosOfResidents_throwsCommandException() throws Exception {
+        Files.copy(Paths.get(IMAGE_COMMAND_TEST_DATA_FOLDER + INVALID_IMAGE),
+            testFolder.getRoot().toPath().resolve(INVALID_IMAGE));
+        assertCommandFailure(new ImageCommand(testFolder.getRoot()), model, commandHistory,
+            ImageCommand.MESSAGE_NO_PICTURES);
+    }
+
+    @Test
+    public void execute_noSuchDirectory_throwsCommandException() {
+        assertCommandFailure(new ImageCommand(new File(IMAGE_COMMAND_TEST_DATA_FOLDER + "NoSuchDirectory")), model,
+            commandHistory, ImageCommand.MESSAGE_NO_SUCH_DIRECTORY);
     }
 
     @Test
@@ -121,5 +169,12 @@ public class ImageCommandTest {
 
         // different person -> returns false
         assertFalse(imageAliceCommand.equals(imageBobCommand));
+
+        // same directory -> returns true
+        File directory = new File(IMAGE_COMMAND_TEST_DATA_FOLDER);
+        assertTrue(new ImageCommand(directory).equals(new ImageCommand(directory)));
+
+        // directory and single photo -> returns false
+        assertFalse(new ImageCommand(directory).equals(imageAliceCommand));
     }
 }
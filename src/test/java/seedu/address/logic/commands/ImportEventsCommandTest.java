@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.ImportEventsCommand.MESSAGE_NOT_EXISTING_CALENDARS;
+import static seedu.address.logic.commands.ImportEventsCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.CalendarBuilder.DEFAULT_MONTH;
+import static seedu.address.testutil.CalendarBuilder.DEFAULT_YEAR;
+import static seedu.address.testutil.TypicalCalendars.DEFAULT_CALENDAR_NAME;
+import static seedu.address.testutil.TypicalEmails.getTypicalExistingEmails;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import net.fortuna.ical4j.model.Calendar;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.CalendarBuilder;
+
+public class ImportEventsCommandTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new BudgetBook(), new UserPrefs(),
+        getTypicalExistingEmails());
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ImportEventsCommand(null);
+    }
+
+    @Test
+    public void execute_eventsInLoadedCalendar_addedOnce() throws Exception {
+        Calendar calendar = new CalendarBuilder().build();
+        model.getCalendarModel().updateExistingCalendar(DEFAULT_YEAR, DEFAULT_MONTH);
+        model.getCalendarModel().loadCalendar(calendar, DEFAULT_CALENDAR_NAME);
+        Path file = write("events.csv", "2018-01-03 09:00,2018-01-03 11:00,Audit",
+            "2018-01-10,2018-01-11,Block Party",
+            "2018-01-03 09:00,2018-01-03 11:00,Audit");
+
+        CommandResult result = new ImportEventsCommand(file).execute(model, commandHistory);
+
+        assertEquals(String.format(MESSAGE_SUCCESS, 2, 3, DEFAULT_CALENDAR_NAME), result.feedbackToUser);
+        assertEquals(2, calendar.getComponents().size());
+        assertTrue(model.isExistingEvent(DEFAULT_YEAR, DEFAULT_MONTH, 10, 11, "Block Party"));
+    }
+
+    @Test
+    public void execute_notExistingCalendar_throwsCommandException() throws Exception {
+        Calendar calendar = new CalendarBuilder().build();
+        model.getCalendarModel().updateExistingCalendar(DEFAULT_YEAR, DEFAULT_MONTH);
+        model.getCalendarModel().loadCalendar(calendar, DEFAULT_CALENDAR_NAME);
+        Path file = write("events.csv", "2018-01-03 09:00,2018-01-03 11:00,Audit",
+            "2018-02-10,2018-02-11,Block Party");
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(MESSAGE_NOT_EXISTING_CALENDARS, "FEB-2018"));
+        try {
+            new ImportEventsCommand(file).execute(model, commandHistory);
+        } finally {
+            // nothing is added unless every calendar exists
+            assertEquals(0, calendar.getComponents().size());
+        }
+    }
+
+    @Test
+    public void equals() {
+        ImportEventsCommand importCsvCommand = new ImportEventsCommand(Paths.get("events.csv"));
+        ImportEventsCommand importIcsCommand = new ImportEventsCommand(Paths.get("events.ics"));
+
+        // same object -> returns true
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+
+        // same values -> returns true
+        assertTrue(importCsvCommand.equals(new ImportEventsCommand(Paths.get("events.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsvCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(importCsvCommand.equals(importIcsCommand));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
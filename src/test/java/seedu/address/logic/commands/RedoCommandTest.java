@@ -12,6 +12,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.UnreadableHistorySpill;
 
 public class RedoCommandTest {
 
@@ -46,4 +47,22 @@ public class RedoCommandTest {
         // no redoable state in model
         assertCommandFailure(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_redoableStateUnreadable_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryByteLimit(0);
+        ModelManager modelWithUnreadableHistory = new ModelManager(getTypicalAddressBook(), userPrefs);
+        deleteFirstPerson(modelWithUnreadableHistory);
+        deleteFirstPerson(modelWithUnreadableHistory);
+        modelWithUnreadableHistory.undoAddressBook();
+        modelWithUnreadableHistory.undoAddressBook();
+
+        // moves every state but the latest out of memory
+        modelWithUnreadableHistory.setHistorySpills(new UnreadableHistorySpill<>(), new UnreadableHistorySpill<>(),
+            Runnable::run);
+
+        assertCommandFailure(new RedoCommand(), modelWithUnreadableHistory, commandHistory,
+            RedoCommand.MESSAGE_FAILURE);
+    }
 }
@@ -12,6 +12,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.UnreadableHistorySpill;
 
 public class UndoCommandTest {
 
@@ -42,4 +43,17 @@ public class UndoCommandTest {
         // no undoable states in model
         assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_undoableStateUnreadable_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryByteLimit(0);
+        ModelManager modelWithUnreadableHistory = new ModelManager(getTypicalAddressBook(), userPrefs);
+        modelWithUnreadableHistory.setHistorySpills(new UnreadableHistorySpill<>(), new UnreadableHistorySpill<>(),
+            Runnable::run);
+        deleteFirstPerson(modelWithUnreadableHistory);
+
+        assertCommandFailure(new UndoCommand(), modelWithUnreadableHistory, commandHistory,
+            UndoCommand.MESSAGE_FAILURE);
+    }
 }
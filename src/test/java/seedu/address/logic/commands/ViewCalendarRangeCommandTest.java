@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_FEB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JAN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JUN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2017;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2018;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.ViewCalendarRangeCommand.MESSAGE_INVALID_RANGE;
+import static seedu.address.logic.commands.ViewCalendarRangeCommand.MESSAGE_NO_EXISTING_CALENDAR;
+import static seedu.address.logic.commands.ViewCalendarRangeCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalEmails.getTypicalExistingEmails;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.Month;
+import seedu.address.model.calendar.Year;
+
+public class ViewCalendarRangeCommandTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new BudgetBook(), new UserPrefs(),
+        getTypicalExistingEmails());
+
+    private static void updateExistingCalendarsInModel(Model model, Year year, Month month) {
+        model.getCalendarModel().updateExistingCalendar(year, month);
+        model.updateExistingCalendar();
+    }
+
+    @Test
+    public void constructor_nullMonth_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ViewCalendarRangeCommand(null, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+    }
+
+    @Test
+    public void constructor_nullYear_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ViewCalendarRangeCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, null);
+    }
+
+    @Test
+    public void execute_existingCalendarsInRange_success() {
+        updateExistingCalendarsInModel(model, VALID_YEAR_2018, VALID_MONTH_JAN);
+        updateExistingCalendarsInModel(model, VALID_YEAR_2017, VALID_MONTH_JUN);
+        updateExistingCalendarsInModel(model, VALID_YEAR_2018, VALID_MONTH_FEB);
+        ViewCalendarRangeCommand command =
+            new ViewCalendarRangeCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, "JUN-2017, JAN-2018");
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new BudgetBook(), new UserPrefs(),
+            model.getExistingEmails());
+        updateExistingCalendarsInModel(expectedModel, VALID_YEAR_2018, VALID_MONTH_JAN);
+        updateExistingCalendarsInModel(expectedModel, VALID_YEAR_2017, VALID_MONTH_JUN);
+        updateExistingCalendarsInModel(expectedModel, VALID_YEAR_2018, VALID_MONTH_FEB);
+
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_startAfterEnd_throwsCommandException() throws Exception {
+        ViewCalendarRangeCommand command =
+            new ViewCalendarRangeCommand(VALID_MONTH_FEB, VALID_YEAR_2018, VALID_MONTH_JAN, VALID_YEAR_2018);
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(MESSAGE_INVALID_RANGE);
+        command.execute(model, commandHistory);
+    }
+
+    @Test
+    public void execute_noExistingCalendarInRange_throwsCommandException() throws Exception {
+        updateExistingCalendarsInModel(model, VALID_YEAR_2018, VALID_MONTH_FEB);
+        ViewCalendarRangeCommand command =
+            new ViewCalendarRangeCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(MESSAGE_NO_EXISTING_CALENDAR);
+        command.execute(model, commandHistory);
+    }
+
+    @Test
+    public void equals() {
+        ViewCalendarRangeCommand viewRangeCommand =
+            new ViewCalendarRangeCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+
+        // same object -> returns true
+        assertTrue(viewRangeCommand.equals(viewRangeCommand));
+
+        // same values -> returns true
+        assertTrue(viewRangeCommand.equals(
+            new ViewCalendarRangeCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018)));
+
+        // different types -> returns false
+        assertFalse(viewRangeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(viewRangeCommand.equals(null));
+
+        // different start -> returns false
+        assertFalse(viewRangeCommand.equals(
+            new ViewCalendarRangeCommand(VALID_MONTH_JAN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018)));
+
+        // different end -> returns false
+        assertFalse(viewRangeCommand.equals(
+            new ViewCalendarRangeCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_FEB, VALID_YEAR_2018)));
+    }
+}
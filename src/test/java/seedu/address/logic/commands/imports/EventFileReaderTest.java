@@ -0,0 +1,103 @@
+package seedu.address.logic.commands.imports;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import net.fortuna.ical4j.model.component.VEvent;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.calendar.EventFactory;
+
+public class EventFileReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final EventFileReader reader = new EventFileReader(new EventFactory());
+
+    @Test
+    public void read_csv_eventsInOrder() throws Exception {
+        Path file = write("events.csv", "2018-08-23 09:00,2018-08-26 18:00,RHOC, day one",
+                "",
+                "2018-09-01,2018-09-02,Hall Day");
+        List<VEvent> events = reader.read(file);
+
+        assertEquals(2, events.size());
+        assertEvent(events.get(0), LocalDateTime.of(2018, 8, 23, 9, 0), LocalDateTime.of(2018, 8, 26, 18, 0),
+                "RHOC, day one");
+        assertEvent(events.get(1), LocalDateTime.of(2018, 9, 1, 0, 0), LocalDateTime.of(2018, 9, 2, 23, 59, 59),
+                "Hall Day");
+    }
+
+    @Test
+    public void read_ics_timedAndAllDayEvents() throws Exception {
+        Path file = write("events.ics", "BEGIN:VCALENDAR", "VERSION:2.0", "PRODID:-//test//EN",
+                "BEGIN:VEVENT", "UID:1", "DTSTAMP:20180101T000000Z", "DTSTART:20181003T090000",
+                "DTEND:20181003T110000", "SUMMARY:Audit", "END:VEVENT",
+                "BEGIN:VEVENT", "UID:2", "DTSTAMP:20180101T000000Z", "DTSTART;VALUE=DATE:20181010",
+                "DTEND;VALUE=DATE:20181012", "SUMMARY:Block Party", "END:VEVENT",
+                "END:VCALENDAR");
+        List<VEvent> events = reader.read(file);
+
+        assertEquals(2, events.size());
+        assertEvent(events.get(0), LocalDateTime.of(2018, 10, 3, 9, 0), LocalDateTime.of(2018, 10, 3, 11, 0),
+                "Audit");
+        assertEvent(events.get(1), LocalDateTime.of(2018, 10, 10, 0, 0), LocalDateTime.of(2018, 10, 11, 23, 59, 59),
+                "Block Party");
+    }
+
+    @Test
+    public void read_invalidLine_throwsCommandException() throws Exception {
+        Path file = write("events.csv", "2018-08-23 09:00,2018-08-26 18:00,RHOC", "2018-08-23,RHOC");
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(EventFileReader.MESSAGE_INVALID_LINE, 2, "2018-08-23,RHOC"));
+        reader.read(file);
+    }
+
+    @Test
+    public void read_eventAcrossMonths_throwsCommandException() throws Exception {
+        Path file = write("events.csv", "2018-08-30,2018-09-02,Orientation");
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(EventFileReader.MESSAGE_NOT_SAME_MONTH, "Orientation"));
+        reader.read(file);
+    }
+
+    @Test
+    public void read_endBeforeStart_throwsCommandException() throws Exception {
+        Path file = write("events.csv", "2018-08-23 09:00,2018-08-23 08:00,RHOC");
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(EventFileReader.MESSAGE_NOT_VALID_TIMEFRAME, "RHOC"));
+        reader.read(file);
+    }
+
+    @Test
+    public void read_missingFile_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(EventFileReader.MESSAGE_FILE_NOT_FOUND);
+        reader.read(testFolder.getRoot().toPath().resolve("missing.csv"));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+
+    private static void assertEvent(VEvent event, LocalDateTime start, LocalDateTime end, String title) {
+        assertEquals(start, EventFactory.toLocalDateTime(event.getStartDate().getDate()));
+        assertEquals(end, EventFactory.toLocalDateTime(event.getEndDate().getDate()));
+        assertEquals(title, event.getSummary().getValue());
+    }
+}
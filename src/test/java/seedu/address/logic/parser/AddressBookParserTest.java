@@ -20,6 +20,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddTransactionCommand;
+import seedu.address.logic.commands.BlockCommand;
 import seedu.address.logic.commands.BudgetCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CreateCcaCommand;
@@ -102,6 +103,12 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_block() throws Exception {
+        BlockCommand command = (BlockCommand) parser.parseCommand(BlockCommand.COMMAND_WORD + " A3");
+        assertEquals(new BlockCommand("A", "3"), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
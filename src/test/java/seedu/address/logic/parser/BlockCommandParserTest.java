@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.BlockCommand;
+
+public class BlockCommandParserTest {
+
+    private BlockCommandParser parser = new BlockCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BlockCommand.MESSAGE_USAGE);
+
+        // empty
+        assertParseFailure(parser, "     ", expectedMessage);
+
+        // floor without block
+        assertParseFailure(parser, "3", expectedMessage);
+
+        // full room number
+        assertParseFailure(parser, "A123", expectedMessage);
+
+        // multiple blocks
+        assertParseFailure(parser, "A B", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsBlockCommand() {
+        // block only
+        assertParseSuccess(parser, "A", new BlockCommand("A"));
+
+        // block and floor, with leading and trailing whitespaces
+        assertParseSuccess(parser, " \n a3 \t", new BlockCommand("a", "3"));
+    }
+}
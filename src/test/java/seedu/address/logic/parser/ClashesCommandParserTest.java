@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JAN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JUN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2017;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2018;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ClashesCommand;
+
+public class ClashesCommandParserTest {
+    private static final String FROM_JUN_2017 = " " + PREFIX_FROM + "JUN-2017";
+    private static final String TO_JAN_2018 = " " + PREFIX_TO + "JAN-2018";
+
+    private ClashesCommandParser parser = new ClashesCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + FROM_JUN_2017 + TO_JAN_2018,
+            new ClashesCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClashesCommand.MESSAGE_USAGE);
+
+        // missing to prefix
+        assertParseFailure(parser, FROM_JUN_2017, expectedMessage);
+
+        // month without year
+        assertParseFailure(parser, " " + PREFIX_FROM + "JUN" + TO_JAN_2018, expectedMessage);
+    }
+}
@@ -44,4 +44,9 @@ public class ImageCommandParserTest {
             " r/A123 f/C:\\Users\\javen\\OneDrive\\Pictures\\Saved Pictures\\Default.jpg",
             expectedImageCommand);
     }
+
+    @Test
+    public void parse_directoryWithoutRoom_returnsImageCommand() {
+        assertParseSuccess(parser, " f/C://photos/block B ", new ImageCommand(new File("C://photos/block B")));
+    }
 }
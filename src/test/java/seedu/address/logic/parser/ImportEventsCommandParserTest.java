@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ImportEventsCommand;
+
+public class ImportEventsCommandParserTest {
+    private ImportEventsCommandParser parser = new ImportEventsCommandParser();
+
+    @Test
+    public void parse_csvOrIcsFile_success() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + "events.csv",
+            new ImportEventsCommand(Paths.get("events.csv")));
+        assertParseSuccess(parser, " " + PREFIX_FILE + "semester.ICS",
+            new ImportEventsCommand(Paths.get("semester.ICS")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // missing file prefix
+        assertParseFailure(parser, " events.csv",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportEventsCommand.MESSAGE_USAGE));
+
+        // non-empty preamble
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + " " + PREFIX_FILE + "events.csv",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportEventsCommand.MESSAGE_USAGE));
+
+        // not a CSV or ics file
+        assertParseFailure(parser, " " + PREFIX_FILE + "events.xml", ImportEventsCommand.MESSAGE_USAGE);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JAN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JUN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2017;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2018;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ViewCalendarRangeCommand;
+import seedu.address.model.calendar.Month;
+import seedu.address.model.calendar.Year;
+
+public class ViewCalendarRangeCommandParserTest {
+    private static final String FROM_JUN_2017 = " " + PREFIX_FROM + "JUN-2017";
+    private static final String TO_JAN_2018 = " " + PREFIX_TO + "JAN-2018";
+
+    private ViewCalendarRangeCommandParser parser = new ViewCalendarRangeCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        ViewCalendarRangeCommand expectedCommand =
+            new ViewCalendarRangeCommand(VALID_MONTH_JUN, VALID_YEAR_2017, VALID_MONTH_JAN, VALID_YEAR_2018);
+
+        // whitespace only preamble
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + FROM_JUN_2017 + TO_JAN_2018, expectedCommand);
+
+        // lower-case and mix-case months
+        assertParseSuccess(parser, " " + PREFIX_FROM + "jun-2017 " + PREFIX_TO + "jAn-2018", expectedCommand);
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCalendarRangeCommand.MESSAGE_USAGE);
+
+        // missing from prefix
+        assertParseFailure(parser, TO_JAN_2018, expectedMessage);
+
+        // missing to prefix
+        assertParseFailure(parser, FROM_JUN_2017, expectedMessage);
+
+        // all prefixes missing
+        assertParseFailure(parser, " JUN-2017 JAN-2018", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        String expectedMessage =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCalendarRangeCommand.MESSAGE_USAGE);
+
+        // month without year
+        assertParseFailure(parser, " " + PREFIX_FROM + "JUN" + TO_JAN_2018, expectedMessage);
+
+        // invalid month
+        assertParseFailure(parser, " " + PREFIX_FROM + "Mov-2017" + TO_JAN_2018, Month.MESSAGE_MONTH_CONSTRAINTS);
+
+        // invalid year
+        assertParseFailure(parser, FROM_JUN_2017 + " " + PREFIX_TO + "JAN-18", Year.MESSAGE_YEAR_CONSTRAINTS);
+
+        // non-empty preamble
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + FROM_JUN_2017 + TO_JAN_2018, expectedMessage);
+    }
+}
@@ -6,12 +6,19 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ROOM_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BOB;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +26,8 @@ import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.ContactContainsRoomPredicate;
+import seedu.address.model.person.ContactContainsTagPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -85,6 +94,58 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithTag_nullTagName_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        addressBook.getPersonsWithTag(null);
+    }
+
+    @Test
+    public void getPersonsWithTag_differentCase_returnsTaggedPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, CARL, DANIEL)),
+                new HashSet<>(addressBook.getPersonsWithTag("FLOORBALL")));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithTag("Golf"));
+    }
+
+    @Test
+    public void getPersonsWithTag_afterUpdateAndRemove_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_BOB).build();
+        addressBook.updatePerson(ALICE, editedAlice);
+        addressBook.removePerson(CARL);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithTag("Basketball"));
+        assertEquals(Collections.singletonList(editedAlice), addressBook.getPersonsWithTag(VALID_TAG_BOB));
+    }
+
+    @Test
+    public void getPersonsInRoom_differentCase_returnsResident() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonsInRoom("b314"));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInRoom("B999"));
+    }
+
+    @Test
+    public void getPersonsInBlockAndFloor_typicalAddressBook_returnsResidents() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, ELLE, GEORGE)),
+                new HashSet<>(addressBook.getPersonsInBlock("b")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, ELLE)), new HashSet<>(addressBook.getPersonsOnFloor("B", "3")));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsOnFloor("B", "9"));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInBlock("Z"));
+    }
+
+    @Test
+    public void getPersonsInBlock_afterRoomChange_movesResident() {
+        addressBook.addPerson(ALICE);
+        Person movedAlice = new PersonBuilder(ALICE).withRoom("C201").build();
+        addressBook.updatePerson(ALICE, movedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInBlock("B"));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInRoom("B314"));
+        assertEquals(Collections.singletonList(movedAlice), addressBook.getPersonsOnFloor("C", "2"));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -105,6 +166,35 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public List<Person> getPersonsWithTag(String tagName) {
+            return persons.stream()
+                    .filter(new ContactContainsTagPredicate(Collections.singletonList(tagName)))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Person> getPersonsInRoom(String room) {
+            return persons.stream()
+                    .filter(new ContactContainsRoomPredicate(Collections.singletonList(room)))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Person> getPersonsInBlock(String block) {
+            return persons.stream()
+                    .filter(person -> person.getRoom().getBlock().equalsIgnoreCase(block))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Person> getPersonsOnFloor(String block, String floor) {
+            return persons.stream()
+                    .filter(person -> person.getRoom().getBlock().equalsIgnoreCase(block)
+                            && person.getRoom().getFloor().equals(floor))
+                    .collect(Collectors.toList());
+        }
     }
 
 }
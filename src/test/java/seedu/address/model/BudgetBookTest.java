@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -24,6 +25,7 @@ import seedu.address.model.cca.CcaName;
 import seedu.address.model.cca.exceptions.DuplicateCcaException;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.CcaBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 //@@author ericyjw
 public class BudgetBookTest {
@@ -94,6 +96,62 @@ public class BudgetBookTest {
         assertTrue(budgetBook.hasCca(editedFloorball));
     }
 
+    @Test
+    public void hasCca_personWithInvalidCcaTag_returnsFalse() {
+        budgetBook.addCca(BASKETBALL);
+        Person person = new PersonBuilder().withTags("Basketball2").build();
+        assertFalse(budgetBook.hasCca(person));
+    }
+
+    @Test
+    public void getCca_lowerCaseName_returnsCca() {
+        Cca frisbee = new CcaBuilder().withCcaName("Ultimate Frisbee").build();
+        budgetBook.addCca(frisbee);
+        assertEquals(Optional.of(frisbee), budgetBook.getCca(new CcaName("ultimate frisbee")));
+        assertEquals(Optional.empty(), budgetBook.getCca(new CcaName("Track")));
+    }
+
+    @Test
+    public void getCca_nameDiffersOnlyInCase_returnsCca() {
+        Cca basketball = new CcaBuilder().withCcaName("Basketball").build();
+        budgetBook.addCca(basketball);
+        assertEquals(Optional.of(basketball), budgetBook.getCca(new CcaName("BasketBall")));
+        assertTrue(budgetBook.hasCca(new CcaName("BASKETBALL")));
+    }
+
+    @Test
+    public void addCca_nameDiffersOnlyInCase_throwsDuplicateCcaException() {
+        budgetBook.addCca(new CcaBuilder().withCcaName("Basketball").build());
+        thrown.expect(DuplicateCcaException.class);
+        budgetBook.addCca(new CcaBuilder().withCcaName("BasketBall").build());
+    }
+
+    @Test
+    public void updateCca_renameChangingOnlyCase_success() {
+        Cca basketball = new CcaBuilder().withCcaName("Basketball").build();
+        budgetBook.addCca(basketball);
+        Cca renamedBasketball = new CcaBuilder(basketball).withCcaName("BasketBall").build();
+        budgetBook.updateCca(basketball, renamedBasketball);
+        assertEquals(Optional.of(renamedBasketball), budgetBook.getCca(new CcaName("basketball")));
+        assertEquals(Collections.singletonList(renamedBasketball), budgetBook.getCcaList());
+    }
+
+    @Test
+    public void getCca_afterUpdate_returnsEditedCca() {
+        budgetBook.addCca(BASKETBALL);
+        Cca editedBasketball = new CcaBuilder(BASKETBALL).withBudget(1000).build();
+        budgetBook.updateCca(BASKETBALL, editedBasketball);
+        assertEquals(Optional.of(editedBasketball), budgetBook.getCca(BASKETBALL.getName()));
+    }
+
+    @Test
+    public void addCca_sameNameDifferentFields_throwsDuplicateCcaException() {
+        budgetBook.addCca(BASKETBALL);
+        Cca editedBasketball = new CcaBuilder(BASKETBALL).withBudget(1000).build();
+        thrown.expect(DuplicateCcaException.class);
+        budgetBook.addCca(editedBasketball);
+    }
+
     @Test
     public void getCcaList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -114,6 +172,11 @@ public class BudgetBookTest {
         public ObservableList<Cca> getCcaList() {
             return ccas;
         }
+
+        @Override
+        public Optional<Cca> getCca(CcaName ccaName) {
+            return ccas.stream().filter(cca -> cca.getName().equals(ccaName)).findFirst();
+        }
     }
 
 }
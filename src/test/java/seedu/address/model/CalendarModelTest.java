@@ -1,30 +1,44 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.LEAP_YEAR;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CALENDAR_DATE_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_FEB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JAN;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MONTH_JUN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2017;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_2018;
 import static seedu.address.testutil.CalendarBuilder.DEFAULT_END_DAY;
 import static seedu.address.testutil.CalendarBuilder.DEFAULT_MONTH;
 import static seedu.address.testutil.CalendarBuilder.DEFAULT_START_DAY;
-import static seedu.address.testutil.CalendarBuilder.DEFAULT_TITLE;
 import static seedu.address.testutil.CalendarBuilder.DEFAULT_YEAR;
 import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_CALENDAR;
 import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_CALENDAR_NAME;
+import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_EVENT;
 import static seedu.address.testutil.TypicalCalendars.DEFAULT_CALENDAR;
 import static seedu.address.testutil.TypicalCalendars.DEFAULT_CALENDAR_NAME;
 import static seedu.address.testutil.TypicalCalendars.DEFAULT_EVENT;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.component.VEvent;
+import seedu.address.model.calendar.EventFactory;
+import seedu.address.model.calendar.Month;
+import seedu.address.testutil.CalendarBuilder;
+
 //@@author GilgameshTC
 public class CalendarModelTest {
 
@@ -197,48 +211,139 @@ public class CalendarModelTest {
     }
 
     @Test
-    public void isSameEvent_nullTitle_throwsNullPointerException() {
+    public void isExistingEvent_nullTitle_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
-        calendarModel.isSameEvent(DEFAULT_START_DAY, DEFAULT_END_DAY, null, DEFAULT_EVENT);
+        calendarModel.isExistingEvent(DEFAULT_START_DAY, DEFAULT_END_DAY, null);
+    }
 
+    @Test
+    public void isExistingEvent_eventNotInCalendar_returnsFalse() {
+        calendarModel.loadCalendar(DEFAULT_CALENDAR, DEFAULT_CALENDAR_NAME);
+        assertFalse(calendarModel.isExistingEvent(25, 25, "Christmas Day"));
     }
 
     @Test
-    public void isSameEvent_nullEvent_throwsNullPointerException() {
-        thrown.expect(NullPointerException.class);
-        calendarModel.isSameEvent(DEFAULT_START_DAY, DEFAULT_END_DAY, DEFAULT_TITLE, null);
+    public void isExistingEvent_eventInCalendar_returnsTrue() {
+        calendarModel.loadCalendar(CHRISTMAS_CALENDAR, CHRISTMAS_CALENDAR_NAME);
+        assertTrue(calendarModel.isExistingEvent(25, 25, "Christmas Day"));
+    }
 
+    @Test
+    public void isExistingEvent_eventCreated_returnsTrue() throws Exception {
+        calendarModel.loadCalendar(new CalendarBuilder().build(), DEFAULT_CALENDAR_NAME);
+        calendarModel.createEvent(DEFAULT_YEAR, DEFAULT_MONTH, 3, 9, 0, 4, 17, 0, "Camp");
+        assertTrue(calendarModel.isExistingEvent(3, 4, "Camp"));
+        assertFalse(calendarModel.isExistingEvent(3, 3, "Camp"));
     }
 
     @Test
-    public void isSameEvent() {
-        // invalid start date
-        assertFalse(calendarModel.isSameEvent(5, DEFAULT_END_DAY, DEFAULT_TITLE, DEFAULT_EVENT));
-        // invalid end date
-        assertFalse(calendarModel.isSameEvent(DEFAULT_START_DAY, 5, DEFAULT_TITLE, DEFAULT_EVENT));
-        // invalid title
-        assertFalse(calendarModel.isSameEvent(DEFAULT_START_DAY, DEFAULT_END_DAY, "Invalid", DEFAULT_EVENT));
-
-        // valid
-        assertTrue(calendarModel.isSameEvent(DEFAULT_START_DAY, DEFAULT_END_DAY, DEFAULT_TITLE, DEFAULT_EVENT));
+    public void deleteEvent_eventInCalendar_noLongerExists() throws Exception {
+        calendarModel.loadCalendar(new CalendarBuilder().build(), DEFAULT_CALENDAR_NAME);
+        calendarModel.createAllDayEvent(DEFAULT_YEAR, DEFAULT_MONTH, 3, "Camp");
+        calendarModel.createAllDayEvent(DEFAULT_YEAR, DEFAULT_MONTH, 3, "Camp");
+        assertTrue(calendarModel.isExistingEvent(3, 3, "Camp"));
+
+        assertEquals(1, calendarModel.deleteEvent().getComponents().size());
+        assertTrue(calendarModel.isExistingEvent(3, 3, "Camp"));
+        assertEquals(0, calendarModel.deleteEvent().getComponents().size());
+        assertFalse(calendarModel.isExistingEvent(3, 3, "Camp"));
     }
 
     @Test
-    public void isExistingEvent_nullTitle_throwsNullPointerException() {
-        thrown.expect(NullPointerException.class);
-        calendarModel.isExistingEvent(DEFAULT_START_DAY, DEFAULT_END_DAY, null);
+    public void createEvents_duplicateEvents_addedOnce() {
+        calendarModel.loadCalendar(new CalendarBuilder().build(), DEFAULT_CALENDAR_NAME);
+        calendarModel.createAllDayEvent(DEFAULT_YEAR, DEFAULT_MONTH, 3, "Camp");
+        EventFactory eventFactory = new EventFactory();
+
+        assertEquals(1, calendarModel.createEvents(Arrays.asList(
+                eventFactory.createAllDayEvent(DEFAULT_YEAR, DEFAULT_MONTH, 3, "Camp"),
+                eventFactory.createAllDayEvent(DEFAULT_YEAR, DEFAULT_MONTH, 4, "Camp"),
+                eventFactory.createAllDayEvent(DEFAULT_YEAR, DEFAULT_MONTH, 4, "Camp"))));
+        assertEquals(2, calendarModel.getLoadedCalendar().get().getComponents().size());
+        assertTrue(calendarModel.isExistingEvent(4, 4, "Camp"));
     }
 
     @Test
-    public void isExistingEvent_eventNotInCalendar_returnsFalse() {
-        calendarModel.loadCalendar(DEFAULT_CALENDAR, DEFAULT_CALENDAR_NAME);
-        assertFalse(calendarModel.isExistingEvent(25, 25, "Christmas Day"));
+    public void getClashingEvents_eventsAddedAndDeleted_indexKeptUpToDate() {
+        calendarModel.loadCalendar(new CalendarBuilder().build(), DEFAULT_CALENDAR_NAME);
+        calendarModel.createEvent(DEFAULT_YEAR, DEFAULT_MONTH, 3, 9, 0, 3, 12, 0, "Audit");
+        calendarModel.createAllDayEvent(DEFAULT_YEAR, DEFAULT_MONTH, 4, "Camp");
+
+        assertEquals(1, calendarModel.getClashingEvents(DEFAULT_YEAR, DEFAULT_MONTH, 3, 11, 0, 3, 13, 0).size());
+        assertTrue(calendarModel.getClashingEvents(DEFAULT_YEAR, DEFAULT_MONTH, 3, 12, 0, 3, 13, 0).isEmpty());
+        assertEquals(1, calendarModel.getClashingEvents(DEFAULT_YEAR, DEFAULT_MONTH, 4).size());
+
+        assertTrue(calendarModel.isExistingEvent(3, 3, "Audit"));
+        calendarModel.deleteEvent();
+        assertTrue(calendarModel.getClashingEvents(DEFAULT_YEAR, DEFAULT_MONTH, 3).isEmpty());
     }
 
     @Test
-    public void isExistingEvent_eventInCalendar_returnsTrue() {
-        calendarModel.loadCalendar(CHRISTMAS_CALENDAR, CHRISTMAS_CALENDAR_NAME);
-        assertTrue(calendarModel.isExistingEvent(25, 25, "Christmas Day"));
+    public void getClashes_calendarsIndexedTogether_clashesInRangeFound() {
+        EventFactory eventFactory = new EventFactory();
+        Calendar june = new CalendarBuilder()
+                .addEvent(eventFactory.createEvent(VALID_YEAR_2017, VALID_MONTH_JUN, 1, 9, 0, 1, 12, 0, "Audit"))
+                .addEvent(eventFactory.createAllDayEvent(VALID_YEAR_2017, VALID_MONTH_JUN, 1, "Camp")).build();
+        Calendar january = new CalendarBuilder()
+                .addEvent(eventFactory.createAllDayEvent(VALID_YEAR_2018, VALID_MONTH_JAN, 2, "Camp")).build();
+        calendarModel.indexCalendars(Arrays.asList("JUN-2017", "JAN-2018"), Arrays.asList(june, january));
+
+        assertEquals(1, calendarModel.getClashes(VALID_YEAR_2017, VALID_MONTH_JUN, VALID_YEAR_2018,
+                VALID_MONTH_JAN).size());
+        assertTrue(calendarModel.getClashes(VALID_YEAR_2018, VALID_MONTH_JAN, VALID_YEAR_2018,
+                VALID_MONTH_JAN).isEmpty());
+
+        calendarModel.removeExistingCalendar(VALID_YEAR_2017, VALID_MONTH_JUN);
+        assertTrue(calendarModel.getClashes(VALID_YEAR_2017, VALID_MONTH_JUN, VALID_YEAR_2018,
+                VALID_MONTH_JAN).isEmpty());
+    }
+
+    @Test
+    public void getClashes_calendarsCreatedForEveryMonth_placeholderFoundOnce() {
+        for (String month : Month.VALID_MONTHS) {
+            calendarModel.createCalendar(VALID_YEAR_2018, new Month(month));
+        }
+        Month december = new Month("DEC");
+
+        assertTrue(calendarModel.getClashes(VALID_YEAR_2018, VALID_MONTH_JAN, VALID_YEAR_2018, december).isEmpty());
+        assertEquals(1, calendarModel.getClashingEvents(VALID_YEAR_2018, december, 25).size());
+    }
+
+    @Test
+    public void isValidCalendarRange() {
+        assertTrue(calendarModel.isValidCalendarRange(VALID_YEAR_2017, VALID_MONTH_JUN, VALID_YEAR_2018,
+                VALID_MONTH_JAN));
+        assertTrue(calendarModel.isValidCalendarRange(VALID_YEAR_2018, VALID_MONTH_JAN, VALID_YEAR_2018,
+                VALID_MONTH_JAN));
+        assertFalse(calendarModel.isValidCalendarRange(VALID_YEAR_2018, VALID_MONTH_FEB, VALID_YEAR_2018,
+                VALID_MONTH_JAN));
+    }
+
+    @Test
+    public void getExistingCalendarsInRange_calendarsInAndOutOfRange_returnsCalendarsInRangeInOrder() {
+        calendarModel.updateExistingCalendar(VALID_YEAR_2018, VALID_MONTH_FEB);
+        calendarModel.updateExistingCalendar(VALID_YEAR_2018, VALID_MONTH_JAN);
+        calendarModel.updateExistingCalendar(VALID_YEAR_2017, VALID_MONTH_JUN);
+        calendarModel.updateExistingCalendar(VALID_YEAR_2017, VALID_MONTH_JAN);
+
+        assertEquals(Arrays.asList("JUN-2017", "JAN-2018"), calendarModel.getExistingCalendarsInRange(
+                VALID_YEAR_2017, VALID_MONTH_FEB, VALID_YEAR_2018, VALID_MONTH_JAN));
+        assertEquals(Collections.emptyList(), calendarModel.getExistingCalendarsInRange(
+                VALID_YEAR_2017, VALID_MONTH_FEB, VALID_YEAR_2017, VALID_MONTH_FEB));
+    }
+
+    @Test
+    public void mergeCalendars_twoCalendars_eventsSharedInOrder() {
+        Calendar merged = calendarModel.mergeCalendars(Arrays.asList(DEFAULT_CALENDAR, CHRISTMAS_CALENDAR));
+
+        List<VEvent> events = merged.getComponents(Component.VEVENT);
+        assertEquals(2, events.size());
+        assertSame(DEFAULT_EVENT, events.get(0));
+        assertSame(CHRISTMAS_EVENT, events.get(1));
+        assertEquals(1, DEFAULT_CALENDAR.getComponents().size());
+        assertEquals(Arrays.asList(DEFAULT_EVENT, CHRISTMAS_EVENT),
+                CalendarModel.eventsOf(Arrays.asList(DEFAULT_CALENDAR, CHRISTMAS_CALENDAR))
+                        .collect(Collectors.toList()));
     }
 
     @Test
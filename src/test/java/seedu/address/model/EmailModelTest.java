@@ -2,15 +2,20 @@ package seedu.address.model;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalEmails.CONFERENCE_EMAIL;
 import static seedu.address.testutil.TypicalEmails.MEETING_EMAIL;
 
+import java.time.Instant;
 import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.email.EmailSummary;
+
 //@@author EatOrBeEaten
 public class EmailModelTest {
 
@@ -64,4 +69,39 @@ public class EmailModelTest {
         thrown.expect(UnsupportedOperationException.class);
         emailModel.getExistingEmails().add("Hello");
     }
+
+    @Test
+    public void saveComposedEmail_validEmail_summaryInEmailIndex() {
+        emailModel.saveComposedEmail(MEETING_EMAIL);
+        EmailSummary summary = emailModel.getEmailIndex().get(MEETING_EMAIL.getSubject() + ".eml");
+        assertEquals(MEETING_EMAIL.getSubject(), summary.getSubject());
+        assertEquals("alice@example.com", summary.getFrom());
+        assertEquals(Collections.singletonList("benson@example.com"), summary.getRecipients());
+    }
+
+    @Test
+    public void addEmailIndex_validIndex_emailsExist() {
+        EmailSummary summary = EmailSummary.of(MEETING_EMAIL, Instant.EPOCH);
+        emailModel.addEmailIndex(Collections.singletonMap(MEETING_EMAIL.getSubject() + ".eml", summary));
+        assertTrue(emailModel.hasEmail(MEETING_EMAIL.getSubject()));
+        assertEquals(summary, emailModel.getEmailIndex().get(MEETING_EMAIL.getSubject() + ".eml"));
+    }
+
+    @Test
+    public void removeFromExistingEmails_emailInEmailModel_removedFromEmailIndex() {
+        emailModel.saveComposedEmail(MEETING_EMAIL);
+        emailModel.removeFromExistingEmails(MEETING_EMAIL.getSubject());
+        assertFalse(emailModel.hasEmail(MEETING_EMAIL.getSubject()));
+        assertTrue(emailModel.getEmailIndex().isEmpty());
+    }
+
+    @Test
+    public void saveEmail_sameEmailAgain_previewReused() {
+        emailModel.saveEmail(MEETING_EMAIL);
+        String preview = emailModel.getPreview();
+        emailModel.saveEmail(CONFERENCE_EMAIL);
+        emailModel.saveEmail(MEETING_EMAIL);
+        assertSame(preview, emailModel.getPreview());
+        assertTrue(preview.contains("From: alice@example.com<br>To: benson@example.com<br>Subject: Meeting"));
+    }
 }
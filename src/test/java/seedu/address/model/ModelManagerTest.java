@@ -1,29 +1,45 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalCcas.getTypicalBudgetBook;
 import static seedu.address.testutil.TypicalEmails.MEETING_EMAIL;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.simplejavamail.email.Email;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.ProfilePictureSavedEvent;
+import seedu.address.model.email.EmailSummary;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ProfilePicture;
+import seedu.address.model.person.Room;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.DefaultEmailBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -43,6 +59,141 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void handleProfilePictureSavedEvent_residentInRoom_pictureSet() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        ProfilePicture picture = ProfilePicture.ofContent(new byte[] {1, 2, 3});
+        modelManager.handleProfilePictureSavedEvent(new ProfilePictureSavedEvent(ALICE.getRoom(), picture));
+
+        Person resident = modelManager.getAddressBook().getPersonList().get(0);
+        assertEquals(picture, resident.getProfilePicture());
+
+        // the upload is its own undo step
+        modelManager.undoAddressBook();
+        resident = modelManager.getAddressBook().getPersonList().get(0);
+        assertEquals(ALICE.getProfilePicture(), resident.getProfilePicture());
+        assertTrue(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void handleProfilePictureSavedEvent_picturesOfOneUpload_singleUndoStepAndSave() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+        Map<Room, ProfilePicture> pictures = new HashMap<>();
+        pictures.put(ALICE.getRoom(), ProfilePicture.ofContent(new byte[] {1, 2, 3}));
+        pictures.put(BENSON.getRoom(), ProfilePicture.ofContent(new byte[] {4, 5, 6}));
+        modelManager.handleProfilePictureSavedEvent(new ProfilePictureSavedEvent(pictures));
+
+        assertEquals(pictures.get(ALICE.getRoom()), modelManager.getAddressBook().getPersonList().get(0)
+            .getProfilePicture());
+        assertEquals(pictures.get(BENSON.getRoom()), modelManager.getAddressBook().getPersonList().get(1)
+            .getProfilePicture());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+
+        // undoing the upload removes every picture of it at once
+        modelManager.undoAddressBook();
+        assertEquals(ALICE.getProfilePicture(), modelManager.getAddressBook().getPersonList().get(0)
+            .getProfilePicture());
+        assertEquals(BENSON.getProfilePicture(), modelManager.getAddressBook().getPersonList().get(1)
+            .getProfilePicture());
+        assertTrue(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void getBudgetBook_pendingBudgetBook_waitsForPendingBudgetBook() {
+        CompletableFuture<ReadOnlyBudgetBook> pending = new CompletableFuture<>();
+        modelManager.setPendingBudgetBook(pending);
+        pending.complete(getTypicalBudgetBook());
+
+        assertEquals(getTypicalBudgetBook(), new BudgetBook(modelManager.getBudgetBook()));
+        assertEquals(getTypicalBudgetBook().getCcaList(), modelManager.getFilteredCcaList());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void getFilteredCcaList_pendingBudgetBook_waitsForPendingBudgetBook() {
+        CompletableFuture<ReadOnlyBudgetBook> pending = new CompletableFuture<>();
+        modelManager.setPendingBudgetBook(pending);
+        pending.complete(getTypicalBudgetBook());
+
+        assertEquals(getTypicalBudgetBook().getCcaList(), modelManager.getFilteredCcaList());
+    }
+
+    @Test
+    public void getBudgetBook_pendingBudgetBookFailed_emptyBudgetBook() {
+        CompletableFuture<ReadOnlyBudgetBook> pending = new CompletableFuture<>();
+        modelManager.setPendingBudgetBook(pending);
+        pending.completeExceptionally(new IllegalStateException());
+
+        assertEquals(new BudgetBook(), new BudgetBook(modelManager.getBudgetBook()));
+    }
+
+    @Test
+    public void hasEmail_pendingEmailIndex_waitsForPendingEmailIndex() {
+        EmailSummary summary = EmailSummary.of(MEETING_EMAIL, Instant.EPOCH);
+        modelManager.setPendingEmailIndex(CompletableFuture.completedFuture(
+            Collections.singletonMap(MEETING_EMAIL.getSubject() + ".eml", summary)));
+        assertTrue(modelManager.hasEmail(MEETING_EMAIL.getSubject()));
+        assertEquals(summary, modelManager.getEmailIndex().get(MEETING_EMAIL.getSubject() + ".eml"));
+    }
+
+    @Test
+    public void startBatch_batchInProgress_throwsIllegalStateException() {
+        modelManager.startBatch();
+        thrown.expect(IllegalStateException.class);
+        modelManager.startBatch();
+    }
+
+    @Test
+    public void commitBatch_noBatchInProgress_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        modelManager.commitBatch();
+    }
+
+    @Test
+    public void commitBatch_multipleChanges_singleEventAndUndoState() {
+        modelManager.startBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.commitBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void abortBatch_changesMade_changesDiscarded() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.startBatch();
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.abortBatch();
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        // a new batch can be started once the previous one has ended
+        modelManager.startBatch();
+        modelManager.commitBatch();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
     //@@author EatOrBeEaten
     @Test
     public void hasEmail_nullEmail_throwsNullPointerException() {
@@ -0,0 +1,232 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SpillableHistoryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final HistorySpillStub spill = new HistorySpillStub();
+    private final SpillableHistory<String> history = new SpillableHistory<>();
+
+    @Test
+    public void setSpill_noEntriesAllowedInMemory_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        history.setSpill(spill, 0, 100, Runnable::run);
+    }
+
+    @Test
+    public void setSpill_negativeByteLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        history.setSpill(spill, Integer.MAX_VALUE, -1, Runnable::run);
+    }
+
+    @Test
+    public void add_withoutSpill_allEntriesKeptInMemory() {
+        for (int i = 0; i < 10; i++) {
+            history.add("state" + i, Long.MAX_VALUE / 100);
+        }
+        assertEquals(10, history.size());
+        assertTrue(spill.stored.isEmpty());
+    }
+
+    @Test
+    public void add_manyEntriesUnderByteLimit_noEntriesSpilled() {
+        history.setSpill(spill, Integer.MAX_VALUE, 100, Runnable::run);
+        for (int i = 0; i < 100; i++) {
+            history.add("state" + i, 1);
+        }
+        assertTrue(spill.stored.isEmpty());
+    }
+
+    @Test
+    public void add_overEntryLimit_oldestEntriesSpilled() {
+        history.setSpill(spill, 2, Long.MAX_VALUE, Runnable::run);
+        history.add("a", 1);
+        history.add("b", 1);
+        history.add("c", 1);
+        history.add("d", 1);
+
+        assertEquals(2, spill.stored.size());
+        assertTrue(spill.stored.containsValue("a"));
+        assertTrue(spill.stored.containsValue("b"));
+    }
+
+    @Test
+    public void add_overByteLimit_oldestEntriesSpilled() {
+        history.setSpill(spill, Integer.MAX_VALUE, 10, Runnable::run);
+        history.add("a", 6);
+        history.add("b", 6);
+
+        assertEquals(1, spill.stored.size());
+        assertTrue(spill.stored.containsValue("a"));
+
+        // the newest entry stays in memory even if it is over the limit on its own
+        history.add("c", 20);
+        assertEquals(2, spill.stored.size());
+        assertFalse(spill.stored.containsValue("c"));
+    }
+
+    @Test
+    public void add_spillWriterBusy_entryKeptInMemoryUntilWritten() {
+        List<Runnable> pendingWrites = new ArrayList<>();
+        history.setSpill(spill, Integer.MAX_VALUE, 1, pendingWrites::add);
+        history.add("a", 1);
+        history.add("b", 1);
+
+        // the entry is not written on the calling thread, and can still be used until it is written
+        assertTrue(spill.stored.isEmpty());
+        assertEquals(1, pendingWrites.size());
+        pendingWrites.remove(0).run();
+        assertEquals(Optional.of("a"), history.get(0));
+    }
+
+    @Test
+    public void get_entryBeingWritten_keptInMemory() {
+        List<Runnable> pendingWrites = new ArrayList<>();
+        history.setSpill(spill, Integer.MAX_VALUE, 1, pendingWrites::add);
+        history.add("a", 1);
+        history.add("b", 1);
+
+        assertEquals(Optional.of("a"), history.get(0));
+        pendingWrites.forEach(Runnable::run);
+        spill.stored.clear();
+
+        // written to the spill, but not dropped from memory as it was used in the meantime
+        assertEquals(Optional.of("a"), history.get(0));
+    }
+
+    @Test
+    public void add_spillWriteFailed_entryCountedAgainAndRewritten() {
+        history.setSpill(spill, Integer.MAX_VALUE, 10, Runnable::run);
+        spill.isFailingWrites = true;
+        history.add("a", 6);
+        history.add("b", 6);
+        assertTrue(spill.stored.isEmpty());
+
+        // the entry that could not be written still counts towards the limit, so it is written once the spill works
+        spill.isFailingWrites = false;
+        history.add("c", 1);
+        assertTrue(spill.stored.containsValue("a"));
+        assertEquals(Optional.of("a"), history.get(0));
+    }
+
+    @Test
+    public void get_spilledEntry_readBackAndFarthestEntrySpilled() {
+        history.setSpill(spill, Integer.MAX_VALUE, 2, Runnable::run);
+        history.add("a", 1);
+        history.add("b", 1);
+        history.add("c", 1);
+
+        assertEquals(Optional.of("a"), history.get(0));
+        assertTrue(spill.stored.containsValue("c"));
+        assertFalse(spill.stored.containsValue("a"));
+        assertEquals(Optional.of("c"), history.get(2));
+    }
+
+    @Test
+    public void get_unreadableEntry_returnsEmpty() {
+        history.setSpill(spill, Integer.MAX_VALUE, 1, Runnable::run);
+        history.add("a", 1);
+        history.add("b", 1);
+        spill.stored.clear();
+
+        assertFalse(history.get(0).isPresent());
+    }
+
+    @Test
+    public void removeFrom_spilledEntries_deletedFromSpill() {
+        history.setSpill(spill, Integer.MAX_VALUE, 1, Runnable::run);
+        history.add("a", 1);
+        history.add("b", 1);
+        history.add("c", 1);
+        history.get(0);
+
+        history.removeFrom(1);
+        assertEquals(1, history.size());
+        assertTrue(spill.stored.isEmpty());
+        assertEquals(Optional.of("a"), history.get(0));
+    }
+
+    @Test
+    public void removeBefore_remainingEntriesShifted() {
+        history.setSpill(spill, Integer.MAX_VALUE, 1, Runnable::run);
+        history.add("a", 1);
+        history.add("b", 1);
+        history.add("c", 1);
+
+        history.removeBefore(2);
+        assertEquals(1, history.size());
+        assertEquals(Optional.of("c"), history.get(0));
+        assertTrue(spill.stored.isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        history.setSpill(spill, Integer.MAX_VALUE, 1, Runnable::run);
+        history.add("a", 1);
+        history.add("b", 1);
+
+        SpillableHistory<String> inMemoryHistory = new SpillableHistory<>();
+        inMemoryHistory.add("a", 1);
+        inMemoryHistory.add("b", 1);
+
+        // same entries, whether spilled or not -> returns true
+        assertTrue(history.equals(inMemoryHistory));
+
+        // different entries -> returns false
+        inMemoryHistory.add("c", 1);
+        assertFalse(history.equals(inMemoryHistory));
+
+        // different types -> returns false
+        assertFalse(history.equals(1));
+    }
+
+    /**
+     * A {@code HistorySpill} that keeps spilled entries in a map.
+     */
+    private static class HistorySpillStub implements HistorySpill<String> {
+        private final Map<Long, String> stored = new HashMap<>();
+        private boolean isFailingWrites;
+
+        @Override
+        public void write(long id, String entry) throws IOException {
+            if (isFailingWrites) {
+                throw new IOException("Unable to write entry " + id);
+            }
+            stored.put(id, entry);
+        }
+
+        @Override
+        public String read(long id) throws IOException {
+            if (!stored.containsKey(id)) {
+                throw new IOException("Missing entry " + id);
+            }
+            return stored.remove(id);
+        }
+
+        @Override
+        public void delete(long id) {
+            stored.remove(id);
+        }
+
+        @Override
+        public void clear() {
+            stored.clear();
+        }
+    }
+}
@@ -207,6 +207,35 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undoRedo_personLevelEditsBetweenCommits_statesRestored() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build()),
+                addressBookWithCarl,
+                Collections.emptyList());
+
+        // edits made after an undo are tracked from the restored state
+        versionedAddressBook.undo();
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commit();
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build()),
+                addressBookWithBob,
+                Collections.emptyList());
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
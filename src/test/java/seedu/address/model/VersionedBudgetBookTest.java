@@ -14,7 +14,9 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.cca.Cca;
 import seedu.address.testutil.BudgetBookBuilder;
+import seedu.address.testutil.CcaBuilder;
 
 //@@author ericyjw
 public class VersionedBudgetBookTest {
@@ -24,6 +26,27 @@ public class VersionedBudgetBookTest {
     private final ReadOnlyBudgetBook budgetBookWithBasketball = new BudgetBookBuilder().withCca(BASKETBALL).build();
     private final ReadOnlyBudgetBook emptyBudgetBook = new BudgetBookBuilder().build();
 
+    @Test
+    public void resetInitialState_unchangedBudgetBook_replacementNotUndoable() {
+        VersionedBudgetBook versionedBudgetBook = new VersionedBudgetBook(emptyBudgetBook);
+        versionedBudgetBook.resetInitialState(budgetBookWithFloorball);
+        assertEquals(budgetBookWithFloorball, new BudgetBook(versionedBudgetBook));
+        assertFalse(versionedBudgetBook.canUndo());
+
+        versionedBudgetBook.addCca(TRACK);
+        versionedBudgetBook.commit();
+        versionedBudgetBook.undo();
+        assertEquals(budgetBookWithFloorball, new BudgetBook(versionedBudgetBook));
+    }
+
+    @Test
+    public void resetInitialState_changedBudgetBook_throwsIllegalStateException() {
+        VersionedBudgetBook versionedBudgetBook = new VersionedBudgetBook(emptyBudgetBook);
+        versionedBudgetBook.addCca(TRACK);
+        assertThrows(IllegalStateException.class, () ->
+            versionedBudgetBook.resetInitialState(budgetBookWithFloorball));
+    }
+
     @Test
     public void commit_singleBudgetBook_noStatesRemovedCurrentStateSaved() {
         VersionedBudgetBook versionedBudgetBook = prepareBudgetBookList(emptyBudgetBook);
@@ -208,6 +231,37 @@ public class VersionedBudgetBookTest {
         assertThrows(VersionedBudgetBook.NoRedoableStateException.class, versionedBudgetBook::redo);
     }
 
+    @Test
+    public void undoRedo_ccaLevelEditsBetweenCommits_statesRestored() {
+        Cca editedFloorball = new CcaBuilder(FLOORBALL).withBudget(1000).build();
+        VersionedBudgetBook versionedBudgetBook = prepareBudgetBookList(budgetBookWithFloorball);
+        versionedBudgetBook.addCca(TRACK);
+        versionedBudgetBook.commit();
+        versionedBudgetBook.updateCca(FLOORBALL, editedFloorball);
+        versionedBudgetBook.commit();
+        versionedBudgetBook.removeCca(TRACK);
+        versionedBudgetBook.commit();
+
+        assertBudgetBookListStatus(versionedBudgetBook,
+            Arrays.asList(budgetBookWithFloorball,
+                new BudgetBookBuilder().withCca(FLOORBALL).withCca(TRACK).build(),
+                new BudgetBookBuilder().withCca(editedFloorball).withCca(TRACK).build()),
+            new BudgetBookBuilder().withCca(editedFloorball).build(),
+            Collections.emptyList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedBudgetBook versionedBudgetBook = prepareBudgetBookList(emptyBudgetBook, budgetBookWithFloorball);
+        versionedBudgetBook.addCca(TRACK);
+
+        versionedBudgetBook.undo();
+        assertEquals(emptyBudgetBook, new BudgetBook(versionedBudgetBook));
+
+        versionedBudgetBook.redo();
+        assertEquals(budgetBookWithFloorball, new BudgetBook(versionedBudgetBook));
+    }
+
     @Test
     public void equals() {
         VersionedBudgetBook versionedBudgetBook = prepareBudgetBookList(budgetBookWithFloorball, budgetBookWithTrack);
@@ -0,0 +1,161 @@
+package seedu.address.model.calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import net.fortuna.ical4j.model.component.VEvent;
+import seedu.address.testutil.CalendarBuilder;
+
+public class ClashIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2018, 8, 1, 0, 0);
+
+    private final EventFactory eventFactory = new EventFactory();
+    private final ClashIndex index = new ClashIndex();
+
+    /** Returns an event from {@code startHour} to {@code endHour} hours after {@link #START}. */
+    private VEvent event(int startHour, int endHour, String title) {
+        return eventFactory.createEvent(START.plusHours(startHour), START.plusHours(endHour), title);
+    }
+
+    private static long hour(int hours) {
+        return START.plusHours(hours).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    public void findOverlapping_overlappingAndTouchingEvents_overlappingFoundInOrder() {
+        VEvent morning = event(9, 12, "Morning");
+        VEvent lunch = event(12, 13, "Lunch");
+        VEvent day = event(8, 18, "Day");
+        VEvent night = event(20, 23, "Night");
+        index.add("AUG-2018", morning);
+        index.add("AUG-2018", lunch);
+        index.add("AUG-2018", day);
+        index.add("AUG-2018", night);
+
+        assertEquals(Arrays.asList(day, morning), index.findOverlapping(hour(10), hour(12)));
+        assertEquals(Arrays.asList(day, lunch), index.findOverlapping(hour(12), hour(13)));
+        // an event ending as the time frame starts does not overlap it
+        assertEquals(Collections.singletonList(night), index.findOverlapping(hour(18), hour(21)));
+        assertTrue(index.findOverlapping(hour(23), hour(30)).isEmpty());
+    }
+
+    @Test
+    public void remove_event_notFound() {
+        VEvent morning = event(9, 12, "Morning");
+        index.add("AUG-2018", morning);
+        index.remove("AUG-2018", morning);
+        assertTrue(index.findOverlapping(hour(0), hour(24)).isEmpty());
+    }
+
+    @Test
+    public void putCalendar_calendarReplaced_oldEventsRemoved() {
+        VEvent morning = event(9, 12, "Morning");
+        VEvent night = event(20, 23, "Night");
+        index.putCalendar("AUG-2018", new CalendarBuilder().addEvent(morning).build());
+        assertTrue(index.isIndexed("AUG-2018"));
+
+        index.putCalendar("AUG-2018", new CalendarBuilder().addEvent(night).build());
+        assertEquals(Collections.singletonList(night), index.findOverlapping(hour(0), hour(24)));
+
+        index.removeCalendar("AUG-2018");
+        assertFalse(index.isIndexed("AUG-2018"));
+        assertTrue(index.findOverlapping(hour(0), hour(24)).isEmpty());
+    }
+
+    @Test
+    public void findClashes_overlappingEvents_eachPairOnce() {
+        VEvent day = event(8, 18, "Day");
+        VEvent morning = event(9, 12, "Morning");
+        VEvent lunch = event(12, 13, "Lunch");
+        VEvent nextDay = event(30, 40, "Next day");
+        index.add("AUG-2018", lunch);
+        index.add("AUG-2018", morning);
+        index.add("AUG-2018", day);
+        index.add("AUG-2018", nextDay);
+
+        List<ClashIndex.Clash> clashes = index.findClashes(hour(0), hour(24));
+        assertEquals(2, clashes.size());
+        assertSame(day, clashes.get(0).getFirst());
+        assertSame(day, clashes.get(1).getFirst());
+        assertEquals(Arrays.asList(morning, lunch), clashes.stream().map(ClashIndex.Clash::getSecond)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void findClashes_eventOutOfRange_clashWithEventInRangeFound() {
+        VEvent day = event(8, 18, "Day");
+        VEvent evening = event(17, 30, "Evening");
+        index.add("AUG-2018", day);
+        index.add("AUG-2018", evening);
+
+        assertEquals(1, index.findClashes(hour(0), hour(10)).size());
+        assertEquals(1, index.findClashes(hour(20), hour(24)).size());
+        assertEquals(1, index.findClashes(hour(0), hour(24)).size());
+    }
+
+    @Test
+    public void findClashes_sameEventInSeveralCalendars_indexedOnce() {
+        VEvent day = event(8, 18, "Day");
+        VEvent dayCopy = event(8, 18, "Day");
+        VEvent otherDay = event(8, 18, "Other day");
+        index.putCalendar("AUG-2018", new CalendarBuilder().addEvent(day).build());
+        index.putCalendar("SEP-2018", new CalendarBuilder().addEvent(dayCopy).addEvent(otherDay).build());
+
+        assertEquals(Arrays.asList(day, otherDay), index.findOverlapping(hour(0), hour(24)));
+        assertEquals(1, index.findClashes(hour(0), hour(24)).size());
+
+        // the event stays indexed until every calendar with it is removed
+        index.removeCalendar("AUG-2018");
+        assertEquals(Arrays.asList(dayCopy, otherDay), index.findOverlapping(hour(0), hour(24)));
+        index.removeCalendar("SEP-2018");
+        assertTrue(index.findOverlapping(hour(0), hour(24)).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_manyEventsAddedAndRemoved_sameAsScan() {
+        Random random = new Random(22);
+        List<VEvent> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(700);
+            VEvent event = event(start, start + 1 + random.nextInt(24), "Event " + i);
+            events.add(event);
+            index.add("AUG-2018", event);
+        }
+        for (int i = 0; i < 250; i++) {
+            index.remove("AUG-2018", events.remove(random.nextInt(events.size())));
+        }
+
+        for (int from = 0; from < 720; from += 37) {
+            int to = from + 1 + random.nextInt(48);
+            List<VEvent> expected = new ArrayList<>();
+            for (VEvent event : events) {
+                if (event.getStartDate().getDate().getTime() < hour(to)
+                        && event.getEndDate().getDate().getTime() > hour(from)) {
+                    expected.add(event);
+                }
+            }
+            List<VEvent> found = index.findOverlapping(hour(from), hour(to));
+            assertEquals(expected.size(), found.size());
+            assertTrue(found.containsAll(expected));
+        }
+    }
+
+    @Test
+    public void describe_event_titleAndTimeFrame() {
+        assertEquals("Morning (1 Aug 2018 09:00 - 1 Aug 2018 12:00)", ClashIndex.describe(event(9, 12, "Morning")));
+    }
+}
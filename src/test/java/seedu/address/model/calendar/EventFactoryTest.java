@@ -0,0 +1,44 @@
+package seedu.address.model.calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.component.VEvent;
+import seedu.address.model.CalendarModel;
+
+public class EventFactoryTest {
+
+    private final EventFactory eventFactory = new EventFactory();
+
+    @Test
+    public void createAllDayEvent_lastsWholeDay() {
+        VEvent event = eventFactory.createAllDayEvent(new Year("2018"), new Month("AUG"), 23, "Camp");
+        assertEquals(LocalDateTime.of(2018, 8, 23, 0, 0), EventFactory.toLocalDateTime(event.getStartDate().getDate()));
+        assertEquals(LocalDateTime.of(2018, 8, 23, 23, 59, 59),
+                EventFactory.toLocalDateTime(event.getEndDate().getDate()));
+        assertEquals("Camp", event.getSummary().getValue());
+        assertEquals(CalendarModel.EVENT_COLOR_IN_CAL,
+                event.getProperty(Property.CATEGORIES).getValue());
+    }
+
+    @Test
+    public void createEvent_givenTimeFrame() {
+        VEvent event = eventFactory.createEvent(new Year("2018"), new Month("DEC"), 1, 9, 30, 2, 17, 45, "Camp");
+        assertEquals(LocalDateTime.of(2018, 12, 1, 9, 30),
+                EventFactory.toLocalDateTime(event.getStartDate().getDate()));
+        assertEquals(LocalDateTime.of(2018, 12, 2, 17, 45), EventFactory.toLocalDateTime(event.getEndDate().getDate()));
+    }
+
+    @Test
+    public void createEvent_sameEventTwice_differentUids() {
+        LocalDateTime start = LocalDateTime.of(2018, 1, 1, 9, 0);
+        VEvent first = eventFactory.createEvent(start, start.plusHours(1), "Meeting");
+        VEvent second = new EventFactory().createEvent(start, start.plusHours(1), "Meeting");
+        assertNotEquals(first.getUid(), second.getUid());
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.calendar;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_EVENT;
+import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_EVENT_DATE;
+import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_EVENT_TITLE;
+import static seedu.address.testutil.TypicalCalendars.THREE_DAY_CAMP;
+
+import org.junit.Test;
+
+import net.fortuna.ical4j.model.component.VEvent;
+import seedu.address.testutil.CalendarBuilder;
+
+public class EventIndexTest {
+
+    @Test
+    public void find_eventInCalendar_found() {
+        EventIndex index = EventIndex.of(new CalendarBuilder().addEvent(CHRISTMAS_EVENT).addEvent(THREE_DAY_CAMP)
+                .build());
+        assertSame(CHRISTMAS_EVENT, index.find(CHRISTMAS_EVENT_DATE, CHRISTMAS_EVENT_DATE, CHRISTMAS_EVENT_TITLE)
+                .get());
+        assertSame(THREE_DAY_CAMP, index.find(23, 26, "RHOC").get());
+    }
+
+    @Test
+    public void find_differentDayOrTitle_notFound() {
+        EventIndex index = EventIndex.of(new CalendarBuilder().addEvent(THREE_DAY_CAMP).build());
+        assertFalse(index.find(24, 26, "RHOC").isPresent());
+        assertFalse(index.find(23, 25, "RHOC").isPresent());
+        assertFalse(index.find(23, 26, "rhoc").isPresent());
+    }
+
+    @Test
+    public void find_sameDaysAndTitle_firstAddedFound() {
+        VEvent secondCamp = new CalendarBuilder().createEvent(new Year("2018"), new Month("AUG"), 23, 9, 0, 26, 18, 0,
+                "4", "RHOC");
+        EventIndex index = new EventIndex();
+        index.add(THREE_DAY_CAMP);
+        index.add(secondCamp);
+        assertSame(THREE_DAY_CAMP, index.find(23, 26, "RHOC").get());
+
+        index.remove(THREE_DAY_CAMP);
+        assertSame(secondCamp, index.find(23, 26, "RHOC").get());
+
+        index.remove(secondCamp);
+        assertFalse(index.find(23, 26, "RHOC").isPresent());
+    }
+}
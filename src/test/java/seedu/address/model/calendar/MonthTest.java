@@ -1,5 +1,6 @@
 package seedu.address.model.calendar;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -58,4 +59,11 @@ public class MonthTest {
         assertTrue(Month.isValidMonth("dec")); // December
 
     }
+
+    @Test
+    public void monthOfYear() {
+        assertEquals(1, new Month("JAN").getMonthOfYear());
+        assertEquals(12, new Month("DEC").getMonthOfYear());
+        assertEquals(new Month("AUG"), Month.of(8));
+    }
 }
@@ -74,6 +74,12 @@ public class CcaTest {
             .build();
         assertFalse(FLOORBALL.isSameCcaName(editedFloorball));
 
+        // name differing only in case -> returns true
+        editedFloorball = new CcaBuilder(FLOORBALL)
+            .withCcaName("floorBall")
+            .build();
+        assertTrue(FLOORBALL.isSameCcaName(editedFloorball));
+
         // same name, different transactions -> returns true
         editedBadminton = new CcaBuilder(BADMINTON)
             .withBudget(700)
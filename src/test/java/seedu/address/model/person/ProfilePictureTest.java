@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
@@ -37,4 +39,20 @@ public class ProfilePictureTest {
         // valid path
         assertTrue(ProfilePicture.isValidProfilePicture(Paths.get("image.jpg")));
     }
+
+    @Test
+    public void ofContent_sameAndDifferentContent() {
+        ProfilePicture picture = ProfilePicture.ofContent(new byte[] {1, 2, 3});
+        assertEquals(picture, ProfilePicture.ofContent(new byte[] {1, 2, 3}));
+        assertNotEquals(picture, ProfilePicture.ofContent(new byte[] {1, 2, 4}));
+        assertEquals("039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81.jpg", picture.toString());
+    }
+
+    @Test
+    public void getThumbnailPath_pictureDirectory_inThumbnailDirectory() {
+        ProfilePicture picture = new ProfilePicture(Paths.get("image.jpg"));
+        assertEquals(Paths.get("pictures", "image.jpg"), picture.getOriginalPath(Paths.get("pictures")));
+        assertEquals(Paths.get("pictures", "thumbnails", "image.jpg"),
+            picture.getThumbnailPath(Paths.get("pictures")));
+    }
 }
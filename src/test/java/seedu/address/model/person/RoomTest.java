@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -39,4 +40,11 @@ public class RoomTest {
         assertTrue(Room.isValidRoom("a123")); // alphanumeric characters
         assertTrue(Room.isValidRoom("A123")); // with capital letters
     }
+
+    @Test
+    public void getBlockAndFloor() {
+        Room room = new Room("a314");
+        assertEquals("A", room.getBlock());
+        assertEquals("3", room.getFloor());
+    }
 }
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCcas.getTypicalBudgetBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_xmlFile_throwDataConversionException() throws Exception {
+        new XmlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void read_budgetBookSnapshot_throwDataConversionException() throws Exception {
+        new BinaryBudgetBookStorage(filePath).saveBudgetBook(getTypicalBudgetBook());
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void read_truncatedFile_throwDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void read_invalidPerson_throwDataConversionException() throws Exception {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter(BinarySnapshotWriter.KIND_ADDRESS_BOOK);
+        writer.writeString("Hans Muster");
+        writer.writeString("9482asf424");
+        writer.writeString("hans@example");
+        writer.writeString("B214");
+        writer.writeString("Engine");
+        writer.writeCount(0);
+        writer.endRecord();
+        writer.writeTo(filePath);
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+
+        //Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original); //file path not specified
+        readBack = storage.readAddressBook().get(); //file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanXml() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(filePath) * 2 < Files.size(xmlFilePath));
+    }
+
+    @Test
+    public void exportAddressBook_writtenAsXml() throws Exception {
+        Path exportPath = testFolder.getRoot().toPath().resolve("export.xml");
+        storage.exportAddressBook(getTypicalAddressBook(), exportPath);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new XmlAddressBookStorage(exportPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveAddressBook(null, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveAddressBook(new AddressBook(), null);
+    }
+}
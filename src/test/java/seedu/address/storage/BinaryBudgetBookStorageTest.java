@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalCcas.HOCKEY;
+import static seedu.address.testutil.TypicalCcas.SOFTBALL;
+import static seedu.address.testutil.TypicalCcas.TRACK;
+import static seedu.address.testutil.TypicalCcas.getTypicalBudgetBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.ReadOnlyBudgetBook;
+
+public class BinaryBudgetBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryBudgetBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempBudgetBook.bin");
+        storage = new BinaryBudgetBookStorage(filePath);
+    }
+
+    @Test
+    public void readBudgetBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.readBudgetBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readBudgetBook().isPresent());
+    }
+
+    @Test
+    public void read_xmlFile_throwDataConversionException() throws Exception {
+        new XmlBudgetBookStorage(filePath).saveBudgetBook(getTypicalBudgetBook());
+        thrown.expect(DataConversionException.class);
+        storage.readBudgetBook();
+    }
+
+    @Test
+    public void read_truncatedFile_throwDataConversionException() throws Exception {
+        storage.saveBudgetBook(getTypicalBudgetBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        thrown.expect(DataConversionException.class);
+        storage.readBudgetBook();
+    }
+
+    @Test
+    public void readAndSaveBudgetBook_allInOrder_success() throws Exception {
+        BudgetBook original = getTypicalBudgetBook();
+
+        //Save in new file and read back
+        storage.saveBudgetBook(original, filePath);
+        ReadOnlyBudgetBook readBack = storage.readBudgetBook(filePath).get();
+        assertEquals(original, new BudgetBook(readBack));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addCca(HOCKEY);
+        original.removeCca(TRACK);
+        storage.saveBudgetBook(original, filePath);
+        readBack = storage.readBudgetBook(filePath).get();
+        assertEquals(original, new BudgetBook(readBack));
+
+        //Save and read without specifying file path
+        original.addCca(SOFTBALL);
+        storage.saveBudgetBook(original); //file path not specified
+        readBack = storage.readBudgetBook().get(); //file path not specified
+        assertEquals(original, new BudgetBook(readBack));
+    }
+
+    @Test
+    public void saveBudgetBook_nullBudgetBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveBudgetBook(null, filePath);
+    }
+
+    @Test
+    public void saveBudgetBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveBudgetBook(new BudgetBook(), null);
+    }
+}
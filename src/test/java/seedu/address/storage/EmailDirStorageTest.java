@@ -1,8 +1,15 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalEmails.MEETING_EMAIL;
 
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -10,6 +17,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
+import org.simplejavamail.email.Email;
+
+import seedu.address.model.EmailModel;
 
 //@@author EatOrBeEaten
 public class EmailDirStorageTest {
@@ -37,6 +47,43 @@ public class EmailDirStorageTest {
         assertEquals(readEmailFiles(filePath), new HashSet<>());
     }
 
+    @Test
+    public void loadEmail_savedEmailUnchanged_cachedEmailReturned() throws Exception {
+        EmailDirStorage storage = new EmailDirStorage(testFolder.getRoot().toPath());
+        storage.saveEmail(composed(MEETING_EMAIL));
+        assertSame(MEETING_EMAIL, storage.loadEmail(MEETING_EMAIL.getSubject()));
+    }
+
+    @Test
+    public void loadEmail_fileChanged_parsedAgain() throws Exception {
+        Path dirPath = testFolder.getRoot().toPath();
+        EmailDirStorage storage = new EmailDirStorage(dirPath);
+        storage.saveEmail(composed(MEETING_EMAIL));
+        Path emlFile = dirPath.resolve(MEETING_EMAIL.getSubject() + ".eml");
+        Files.setLastModifiedTime(emlFile, FileTime.fromMillis(0));
+
+        Email reloaded = storage.loadEmail(MEETING_EMAIL.getSubject());
+        assertNotSame(MEETING_EMAIL, reloaded);
+        assertEquals(MEETING_EMAIL.getSubject(), reloaded.getSubject());
+        assertSame(reloaded, storage.loadEmail(MEETING_EMAIL.getSubject()));
+    }
+
+    @Test
+    public void loadEmail_deletedEmail_throwsNoSuchFileException() throws Exception {
+        EmailDirStorage storage = new EmailDirStorage(testFolder.getRoot().toPath());
+        storage.saveEmail(composed(MEETING_EMAIL));
+        storage.deleteEmail(MEETING_EMAIL.getSubject());
+
+        thrown.expect(NoSuchFileException.class);
+        storage.loadEmail(MEETING_EMAIL.getSubject());
+    }
+
+    private static EmailModel composed(Email email) {
+        EmailModel emailModel = new EmailModel();
+        emailModel.saveComposedEmail(email);
+        return emailModel;
+    }
+
     private Set<String> readEmailFiles(String filePath) {
         return new EmailDirStorage(Paths.get(filePath)).readEmailFiles(Paths.get(filePath));
     }
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEmails.CONFERENCE_EMAIL;
+import static seedu.address.testutil.TypicalEmails.MEETING_EMAIL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.simplejavamail.converter.EmailConverter;
+import org.simplejavamail.email.Email;
+
+import seedu.address.model.EmailModel;
+import seedu.address.model.email.EmailSummary;
+
+public class EmailIndexTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path dirPath;
+
+    @Before
+    public void setUp() {
+        dirPath = testFolder.getRoot().toPath().resolve("emails");
+    }
+
+    @Test
+    public void read_missingDirectory_emptyIndex() throws Exception {
+        EmailIndex index = new EmailIndex(dirPath);
+        assertTrue(index.read().isEmpty());
+        assertEquals(testFolder.getRoot().toPath().resolve("emails.index"), index.getIndexFilePath());
+    }
+
+    @Test
+    public void read_existingEmlFiles_headersIndexed() throws Exception {
+        Files.createDirectories(dirPath);
+        Files.write(dirPath.resolve("Meeting.eml"),
+                EmailConverter.emailToEML(MEETING_EMAIL).getBytes(StandardCharsets.UTF_8));
+
+        EmailSummary summary = new EmailIndex(dirPath).read().get("Meeting.eml");
+        assertEquals("Meeting", summary.getSubject());
+        assertEquals("alice@example.com", summary.getFrom());
+        assertEquals(Collections.singletonList("benson@example.com"), summary.getRecipients());
+    }
+
+    @Test
+    public void saveEmail_thenDeleteEmail_indexUpdated() throws Exception {
+        EmailDirStorage storage = new EmailDirStorage(dirPath);
+        storage.saveEmail(composed(MEETING_EMAIL));
+        storage.saveEmail(composed(CONFERENCE_EMAIL));
+        storage.deleteEmail(MEETING_EMAIL.getSubject());
+
+        Map<String, EmailSummary> index = new EmailDirStorage(dirPath).readEmailIndex();
+        assertEquals(Collections.singleton("Conference.eml"), index.keySet());
+        assertEquals("benson@example.com", index.get("Conference.eml").getFrom());
+    }
+
+    @Test
+    public void read_directoryUnchanged_emlFilesNotRead() throws Exception {
+        EmailDirStorage storage = new EmailDirStorage(dirPath);
+        storage.saveEmail(composed(MEETING_EMAIL));
+        FileTime directoryModified = Files.getLastModifiedTime(dirPath);
+        // a change the index cannot notice, since the directory itself is unchanged
+        Files.write(dirPath.resolve("Meeting.eml"), "Subject: Changed\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(dirPath, directoryModified);
+
+        assertEquals("Meeting", new EmailIndex(dirPath).read().get("Meeting.eml").getSubject());
+    }
+
+    @Test
+    public void read_directoryChanged_changedFilesReadAgain() throws Exception {
+        EmailDirStorage storage = new EmailDirStorage(dirPath);
+        storage.saveEmail(composed(MEETING_EMAIL));
+        storage.saveEmail(composed(CONFERENCE_EMAIL));
+        Files.write(dirPath.resolve("Meeting.eml"), "Subject: Changed\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        Files.delete(dirPath.resolve("Conference.eml"));
+        Files.write(dirPath.resolve("Outing.eml"), new byte[0]);
+
+        Map<String, EmailSummary> index = new EmailIndex(dirPath).read();
+        assertEquals(new HashSet<>(Arrays.asList("Meeting.eml", "Outing.eml")), index.keySet());
+        assertEquals("Changed", index.get("Meeting.eml").getSubject());
+        // a file without headers is named after its subject
+        assertEquals("Outing", index.get("Outing.eml").getSubject());
+    }
+
+    @Test
+    public void read_corruptIndex_rebuilt() throws Exception {
+        EmailDirStorage storage = new EmailDirStorage(dirPath);
+        storage.saveEmail(composed(MEETING_EMAIL));
+        EmailIndex index = new EmailIndex(dirPath);
+        Files.write(index.getIndexFilePath(), new byte[] {1, 2, 3});
+
+        assertEquals(Collections.singleton("Meeting.eml"), index.read().keySet());
+        assertTrue(BinarySnapshotReader.isSnapshot(index.getIndexFilePath()));
+    }
+
+    private static EmailModel composed(Email email) {
+        EmailModel emailModel = new EmailModel();
+        emailModel.saveComposedEmail(email);
+        return emailModel;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_CALENDAR;
+import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_CALENDAR_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import net.fortuna.ical4j.model.Calendar;
+
+public class IcsCalendarStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path dirPath;
+    private IcsCalendarStorage storage;
+
+    @Before
+    public void setUp() {
+        dirPath = testFolder.getRoot().toPath();
+        storage = new IcsCalendarStorage(dirPath);
+    }
+
+    @Test
+    public void loadCalendar_missingFile_throwsNoSuchFileException() throws Exception {
+        thrown.expect(NoSuchFileException.class);
+        storage.loadCalendar(CHRISTMAS_CALENDAR_NAME);
+    }
+
+    @Test
+    public void loadCalendar_createdCalendarUnchanged_copyOfCachedCalendarReturned() throws Exception {
+        storage.createCalendar(CHRISTMAS_CALENDAR, CHRISTMAS_CALENDAR_NAME);
+        Calendar loaded = storage.loadCalendar(CHRISTMAS_CALENDAR_NAME);
+        assertNotSame(CHRISTMAS_CALENDAR, loaded);
+        // the components are those cached, not parsed again
+        assertSame(CHRISTMAS_CALENDAR.getComponents().get(0), loaded.getComponents().get(0));
+    }
+
+    @Test
+    public void loadCalendar_loadedCalendarChanged_changeNotCached() throws Exception {
+        storage.createCalendar(CHRISTMAS_CALENDAR, CHRISTMAS_CALENDAR_NAME);
+        storage.loadCalendar(CHRISTMAS_CALENDAR_NAME).getComponents().clear();
+        assertEquals(CHRISTMAS_CALENDAR.getComponents(), storage.loadCalendar(CHRISTMAS_CALENDAR_NAME).getComponents());
+    }
+
+    @Test
+    public void loadCalendar_fileChanged_parsedAgain() throws Exception {
+        storage.createCalendar(CHRISTMAS_CALENDAR, CHRISTMAS_CALENDAR_NAME);
+        Files.setLastModifiedTime(dirPath.resolve(CHRISTMAS_CALENDAR_NAME + ".ics"), FileTime.fromMillis(0));
+
+        Calendar reloaded = storage.loadCalendar(CHRISTMAS_CALENDAR_NAME);
+        assertNotSame(CHRISTMAS_CALENDAR, reloaded);
+        assertEquals(CHRISTMAS_CALENDAR.getComponents().size(), reloaded.getComponents().size());
+        assertEquals(reloaded.getComponents(), storage.loadCalendar(CHRISTMAS_CALENDAR_NAME).getComponents());
+    }
+
+    @Test
+    public void loadCalendar_otherStorage_parsedFromFile() throws Exception {
+        storage.createCalendar(CHRISTMAS_CALENDAR, CHRISTMAS_CALENDAR_NAME);
+        Calendar loaded = new IcsCalendarStorage(dirPath).loadCalendar(CHRISTMAS_CALENDAR_NAME);
+        assertEquals(CHRISTMAS_CALENDAR.getComponents().size(), loaded.getComponents().size());
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("addressbook.xml");
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournaledAddressBookStorage(filePath, 0);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.updatePerson(BENSON, new PersonBuilder(BENSON).withRoom("A123").build());
+        storage.saveAddressBook(original);
+
+        // the snapshot is left alone and each change is a line of the journal
+        assertEquals(new String(snapshot, StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChange_nothingAppended() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToReplayedJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // as on the next start of the app
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(restarted.readAddressBook().get());
+        model.addPerson(IDA);
+        restarted.saveAddressBook(model);
+
+        assertEquals(2, Files.readAllLines(restarted.getJournalFilePath()).size());
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compactedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornJournalTail_changesBeforeTailKept() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "<change><from>0</fr".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        AddressBook model = new AddressBook(restarted.readAddressBook().get());
+        assertEquals(original, model);
+
+        // the next save rewrites the snapshot instead of appending after the torn tail
+        model.addPerson(IDA);
+        restarted.saveAddressBook(model);
+        assertFalse(Files.exists(restarted.getJournalFilePath()));
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalDoesNotFitSnapshot_throwsDataConversionException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        new XmlAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+
+        thrown.expect(DataConversionException.class);
+        new JournaledAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_completed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        // a compaction that got as far as deleting the journal
+        Path compactionPath = filePath.resolveSibling("addressbook.xml.compacting");
+        new XmlAddressBookStorage(compactionPath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(compactionPath));
+    }
+
+    @Test
+    public void saveAddressBook_binarySnapshot_journalReplayedOnTop() throws Exception {
+        Path binaryPath = testFolder.getRoot().toPath().resolve("addressbook.bin");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryPath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(binaryPath.resolveSibling("addressbook.bin.journal"), storage.getJournalFilePath());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryPath))
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_otherPath_readAsSnapshot() throws Exception {
+        Path otherPath = testFolder.getRoot().toPath().resolve("export.xml");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.exportAddressBook(getTypicalAddressBook(), otherPath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+}
@@ -1,8 +1,22 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,6 +24,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ProfilePicture;
 
 //@@author javenseow
 public class ProfilePictureDirStorageTest {
@@ -32,6 +47,85 @@ public class ProfilePictureDirStorageTest {
         readProfilePicture(new File("MissingFile.jpg"));
     }
 
+    @Test
+    public void saveProfilePicture_samePhotoTwice_savedOnce() throws Exception {
+        Path dir = testFolder.getRoot().toPath();
+        ProfilePictureDirStorage storage = new ProfilePictureDirStorage(dir);
+        byte[] photo = toJpg(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB));
+
+        ProfilePicture picture = storage.saveProfilePicture(photo);
+        assertEquals(picture, storage.saveProfilePicture(photo.clone()));
+
+        // the photo is kept as uploaded
+        assertArrayEquals(photo, Files.readAllBytes(picture.getOriginalPath(dir)));
+        try (Stream<Path> files = Files.walk(dir)) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+
+        BufferedImage thumbnail = ImageIO.read(picture.getThumbnailPath(dir).toFile());
+        assertEquals(ProfilePicture.THUMBNAIL_SIZE, thumbnail.getWidth());
+        assertEquals(ProfilePicture.THUMBNAIL_SIZE / 2, thumbnail.getHeight());
+    }
+
+    @Test
+    public void saveProfilePicture_notAnImage_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        new ProfilePictureDirStorage(testFolder.getRoot().toPath()).saveProfilePicture(new byte[] {1, 2, 3});
+    }
+
+    @Test
+    public void saveProfilePicture_notAnImage_nothingWritten() throws Exception {
+        Path dir = testFolder.getRoot().toPath();
+        try {
+            new ProfilePictureDirStorage(dir).saveProfilePicture(new byte[] {1, 2, 3});
+            throw new AssertionError("The expected IOException was not thrown.");
+        } catch (IOException e) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                assertEquals(0, files.filter(Files::isRegularFile).count());
+            }
+        }
+    }
+
+    @Test
+    public void saveProfilePicture_samePhotoAtOnce_savedOnce() throws Exception {
+        Path dir = testFolder.getRoot().toPath();
+        ProfilePictureDirStorage storage = new ProfilePictureDirStorage(dir);
+        byte[] photo = toJpg(new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB));
+
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ProfilePicture>> saves = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                saves.add(workers.submit(() -> storage.saveProfilePicture(photo)));
+            }
+            for (Future<ProfilePicture> save : saves) {
+                assertEquals(ProfilePicture.ofContent(photo), save.get());
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        // no files left behind by the saves that found the photo already saved
+        try (Stream<Path> files = Files.walk(dir)) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    public void scaleToFit_smallImage_sizeKept() {
+        BufferedImage scaled = ProfilePictureDirStorage.scaleToFit(
+            new BufferedImage(50, 80, BufferedImage.TYPE_INT_ARGB), ProfilePicture.THUMBNAIL_SIZE);
+        assertEquals(50, scaled.getWidth());
+        assertEquals(80, scaled.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_RGB, scaled.getType());
+    }
+
+    private static byte[] toJpg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
     /**
      * Reads {@code file} into the {@code readProfilePicture} method of
      * {@code ProfilePictureDirStorage}.
@@ -39,8 +133,7 @@ public class ProfilePictureDirStorageTest {
     private BufferedImage readProfilePicture(File file) throws IOException {
         UserPrefs userPrefs = new UserPrefs();
         try {
-            return new ProfilePictureDirStorage(userPrefs.getProfilePicturePath(),
-                userPrefs.getOutputProfilePicturePath()).readProfilePicture(file);
+            return new ProfilePictureDirStorage(userPrefs.getProfilePicturePath()).readProfilePicture(file);
         } catch (IOException e) {
             throw e;
         }
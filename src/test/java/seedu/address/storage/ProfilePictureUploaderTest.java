@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.person.ProfilePicture;
+import seedu.address.model.person.Room;
+
+public class ProfilePictureUploaderTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final Map<Room, ProfilePicture> saved = new ConcurrentHashMap<>();
+    private final List<Map<Room, ProfilePicture>> uploads = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void upload_photo_savedHandlerCalled() throws Exception {
+        ProfilePictureUploader uploader = newUploader(new ProfilePictureDirStorage(
+            testFolder.newFolder("pictures").toPath()));
+        File photo = writePhoto("A101.jpg", 640, 480);
+
+        uploader.upload(photo, new Room("A101"));
+
+        assertEquals(ProfilePicture.ofContent(Files.readAllBytes(photo.toPath())), saved.get(new Room("A101")));
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void upload_notAnImage_failureHandlerCalled() throws Exception {
+        ProfilePictureUploader uploader = newUploader(new ProfilePictureDirStorage(
+            testFolder.newFolder("pictures").toPath()));
+        File notAnImage = testFolder.newFile("A101.jpg");
+        Files.write(notAnImage.toPath(), new byte[] {1, 2, 3});
+
+        uploader.upload(notAnImage, new Room("A101"));
+
+        assertNull(saved.get(new Room("A101")));
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void upload_photosWithNotAnImage_savedPhotosReportedTogether() throws Exception {
+        ProfilePictureUploader uploader = newUploader(new ProfilePictureDirStorage(
+            testFolder.newFolder("pictures").toPath()));
+        File notAnImage = testFolder.newFile("A103.jpg");
+        Files.write(notAnImage.toPath(), new byte[] {1, 2, 3});
+        Map<Room, File> photos = new HashMap<>();
+        photos.put(new Room("A101"), writePhoto("A101.jpg", 640, 480));
+        photos.put(new Room("A102"), writePhoto("A102.jpg", 480, 640));
+        photos.put(new Room("A103"), notAnImage);
+
+        uploader.upload(photos);
+
+        assertEquals(1, uploads.size());
+        assertEquals(2, uploads.get(0).size());
+        assertNull(saved.get(new Room("A103")));
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void upload_manyPhotosOnWorkerPool_allSavedTogether() throws Exception {
+        ProfilePictureStorage storage = new ProfilePictureDirStorage(testFolder.newFolder("pictures").toPath());
+        ExecutorService workers = ProfilePictureUploader.newWorkerPool();
+        CountDownLatch done = new CountDownLatch(1);
+        Consumer<Map<Room, ProfilePicture>> savedHandler = pictures -> {
+            onSaved(pictures);
+            done.countDown();
+        };
+        ProfilePictureUploader uploader = new ProfilePictureUploader(storage, workers, Runnable::run, savedHandler,
+            failures::add);
+
+        int photoCount = 8;
+        Map<Room, File> photos = new HashMap<>();
+        for (int i = 1; i <= photoCount; i++) {
+            photos.put(new Room("A10" + i), writePhoto("A10" + i + ".jpg", 300 + i, 200));
+        }
+        uploader.upload(photos);
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        workers.shutdown();
+        assertEquals(1, uploads.size());
+        assertEquals(photoCount, saved.size());
+        assertTrue(failures.isEmpty());
+    }
+
+    /**
+     * Returns an uploader that saves photos to {@code storage} on the calling thread.
+     */
+    private ProfilePictureUploader newUploader(ProfilePictureStorage storage) {
+        return new ProfilePictureUploader(storage, Runnable::run, Runnable::run, this::onSaved, failures::add);
+    }
+
+    /**
+     * Records the profile pictures saved by one upload.
+     */
+    private void onSaved(Map<Room, ProfilePicture> pictures) {
+        uploads.add(pictures);
+        saved.putAll(pictures);
+    }
+
+    /**
+     * Writes a blank JPEG photo of the given size named {@code fileName}.
+     */
+    private File writePhoto(String fileName, int width, int height) throws IOException {
+        File photo = testFolder.newFile(fileName);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", photo);
+        return photo;
+    }
+}
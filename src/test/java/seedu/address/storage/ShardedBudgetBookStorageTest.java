@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalCcas.HOCKEY;
+import static seedu.address.testutil.TypicalCcas.SOFTBALL;
+import static seedu.address.testutil.TypicalCcas.TRACK;
+import static seedu.address.testutil.TypicalCcas.getTypicalBudgetBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.ReadOnlyBudgetBook;
+import seedu.address.testutil.CcaBuilder;
+
+public class ShardedBudgetBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directory;
+    private ShardedBudgetBookStorage storage;
+
+    @Before
+    public void setUp() {
+        directory = testFolder.getRoot().toPath().resolve("ccabook");
+        storage = new ShardedBudgetBookStorage(directory);
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(storage.readBudgetBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveBudgetBook_allInOrder_success() throws Exception {
+        BudgetBook original = getTypicalBudgetBook();
+
+        //Save in new directory and read back
+        storage.saveBudgetBook(original);
+        ReadOnlyBudgetBook readBack = new ShardedBudgetBookStorage(directory).readBudgetBook().get();
+        assertEquals(original, new BudgetBook(readBack));
+
+        //Modify data, save and read back
+        original.addCca(HOCKEY);
+        original.removeCca(TRACK);
+        original.addCca(SOFTBALL);
+        storage.saveBudgetBook(original);
+        readBack = new ShardedBudgetBookStorage(directory).readBudgetBook().get();
+        assertEquals(original, new BudgetBook(readBack));
+    }
+
+    @Test
+    public void saveBudgetBook_oneCcaEdited_onlyItsShardRewritten() throws Exception {
+        BudgetBook original = getTypicalBudgetBook();
+        storage.saveBudgetBook(original);
+        Set<String> shardsBefore = listShardFiles();
+
+        original.updateCca(BASKETBALL, new CcaBuilder(BASKETBALL).withHead("Someone Else").build());
+        storage.saveBudgetBook(original);
+        Set<String> shardsAfter = listShardFiles();
+
+        Set<String> kept = new HashSet<>(shardsBefore);
+        kept.retainAll(shardsAfter);
+        assertEquals(shardsBefore.size() - 1, kept.size());
+        assertEquals(shardsBefore.size(), shardsAfter.size());
+        assertEquals(original, new BudgetBook(new ShardedBudgetBookStorage(directory).readBudgetBook().get()));
+    }
+
+    @Test
+    public void saveBudgetBook_ccaRemoved_itsShardDeleted() throws Exception {
+        BudgetBook original = getTypicalBudgetBook();
+        storage.saveBudgetBook(original);
+        Set<String> shardsBefore = listShardFiles();
+
+        original.removeCca(TRACK);
+        storage.saveBudgetBook(original);
+        Set<String> shardsAfter = listShardFiles();
+
+        assertEquals(shardsBefore.size() - 1, shardsAfter.size());
+        assertEquals(original, new BudgetBook(new ShardedBudgetBookStorage(directory).readBudgetBook().get()));
+    }
+
+    @Test
+    public void read_corruptManifest_throwDataConversionException() throws Exception {
+        storage.saveBudgetBook(getTypicalBudgetBook());
+        Files.write(directory.resolve(ShardedRecordStore.MANIFEST_FILE_NAME), new byte[] {1, 2, 3});
+        thrown.expect(DataConversionException.class);
+        new ShardedBudgetBookStorage(directory).readBudgetBook();
+    }
+
+    @Test
+    public void saveBudgetBook_nullBudgetBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        storage.saveBudgetBook(null, directory);
+    }
+
+    /**
+     * Returns the names of the shard files in the storage directory.
+     */
+    private Set<String> listShardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("shard-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
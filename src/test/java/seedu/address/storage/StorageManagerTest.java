@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CALENDAR_DATE_1;
@@ -12,12 +13,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SHOUR;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SMIN;
 import static seedu.address.testutil.CalendarBuilder.DEFAULT_MONTH;
 import static seedu.address.testutil.CalendarBuilder.DEFAULT_YEAR;
+import static seedu.address.testutil.TypicalCalendars.CHRISTMAS_CALENDAR_NAME;
 import static seedu.address.testutil.TypicalCalendars.DEFAULT_CALENDAR_NAME;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.imageio.ImageIO;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -32,11 +41,20 @@ import seedu.address.commons.events.model.CalendarCreatedEvent;
 import seedu.address.commons.events.model.CalendarEventAddedEvent;
 import seedu.address.commons.events.model.CalendarEventDeletedEvent;
 import seedu.address.commons.events.model.LoadCalendarEvent;
+import seedu.address.commons.events.model.LoadCalendarRangeEvent;
+import seedu.address.commons.events.model.NewImageEvent;
+import seedu.address.commons.events.storage.CalendarLoadedEvent;
+import seedu.address.commons.events.storage.CalendarRangeLoadedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.ImageReadingExceptionEvent;
+import seedu.address.commons.events.storage.ProfilePictureSavedEvent;
 import seedu.address.commons.events.ui.CalendarNotFoundEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ProfilePicture;
+import seedu.address.model.person.Room;
+import seedu.address.testutil.CalendarBuilder;
 import seedu.address.testutil.TypicalCalendars;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
@@ -56,8 +74,7 @@ public class StorageManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         IcsCalendarStorage calendarStorage = new IcsCalendarStorage(getTempFilePath("cal"));
         EmailDirStorage emailStorage = new EmailDirStorage(getTempFilePath("em"));
-        ProfilePictureDirStorage profilePictureStorage = new ProfilePictureDirStorage((getTempFilePath("pro")),
-            getTempFilePath("outProfile"));
+        ProfilePictureDirStorage profilePictureStorage = new ProfilePictureDirStorage(getTempFilePath("pro"));
         storageManager = new StorageManager(addressBookStorage, budgetBookStorage, userPrefsStorage, calendarStorage,
             emailStorage, profilePictureStorage);
     }
@@ -120,12 +137,59 @@ public class StorageManagerTest {
             new JsonUserPrefsStorage(Paths.get("dummy")),
             new IcsCalendarStorage(Paths.get("dummy")),
             new EmailDirStorage(Paths.get("dummy")),
-            new ProfilePictureDirStorage((Paths.get("dummy")), Paths.get("dummy")));
+            new ProfilePictureDirStorage(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
 
+    @Test
+    public void handleNewImageEvent_photo_profilePictureSavedEventRaised() throws Exception {
+        File photo = testFolder.newFile("A101.jpg");
+        ImageIO.write(new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB), "jpg", photo);
+        storageManager.handleNewImageEvent(new NewImageEvent(photo, new Room("A101")));
+
+        ProfilePictureSavedEvent event = (ProfilePictureSavedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singletonMap(new Room("A101"), ProfilePicture.ofContent(
+            Files.readAllBytes(photo.toPath()))), event.profilePictures);
+    }
+
+    @Test
+    public void handleNewImageEvent_notAnImage_imageReadingExceptionEventRaised() throws Exception {
+        File notAnImage = testFolder.newFile("A101.jpg");
+        storageManager.handleNewImageEvent(new NewImageEvent(notAnImage, new Room("A101")));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ImageReadingExceptionEvent);
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehind_latestDataSavedOnFlush() throws Exception {
+        storageManager.enableWriteBehind(60000);
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        AddressBook snapshot = new AddressBook(addressBook);
+
+        // later changes to the address book are saved by their own event
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertFalse(storageManager.readAddressBook().isPresent());
+
+        storageManager.flushPendingSaves();
+        assertEquals(snapshot, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehindExceptionThrown_eventRaised() {
+        StorageManager storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
+            new XmlBudgetBookStorage(Paths.get("dummy")),
+            new JsonUserPrefsStorage(Paths.get("dummy")),
+            new IcsCalendarStorage(Paths.get("dummy")),
+            new EmailDirStorage(Paths.get("dummy")),
+            new ProfilePictureDirStorage(Paths.get("dummy")));
+        storage.enableWriteBehind(0);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushPendingSaves();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
@@ -150,12 +214,70 @@ public class StorageManagerTest {
             new JsonUserPrefsStorage(Paths.get("dummy")),
             new IcsCalendarStorageExceptionThrowingStub(Paths.get("dummy")),
             new EmailDirStorage(Paths.get("dummy")),
-            new ProfilePictureDirStorage((Paths.get("dummy")), Paths.get("dummy")));
+            new ProfilePictureDirStorage(Paths.get("dummy")));
         storage.handleCalendarCreatedEvent(new CalendarCreatedEvent(TypicalCalendars.DEFAULT_CALENDAR,
             DEFAULT_CALENDAR_NAME));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleCalendarEventAddedEvent_writeBehind_savedOnceOnLoad() throws Exception {
+        CountingIcsCalendarStorage calendarStorage = new CountingIcsCalendarStorage(getTempFilePath("cal"));
+        StorageManager storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+            new XmlBudgetBookStorage(getTempFilePath("bdg")),
+            new JsonUserPrefsStorage(getTempFilePath("prefs")),
+            calendarStorage,
+            new EmailDirStorage(getTempFilePath("em")),
+            new ProfilePictureDirStorage(getTempFilePath("pro")));
+        storage.enableWriteBehind(60000);
+        Calendar calendar = new CalendarBuilder().build();
+        for (int date = 1; date <= 3; date++) {
+            calendar.getComponents().add(new CalendarBuilder().createEvent(DEFAULT_YEAR, DEFAULT_MONTH, date, 0, 0,
+                date, 1, 0, String.valueOf(date), "Event " + date));
+            storage.handleCalendarEventAddedEvent(new CalendarEventAddedEvent(DEFAULT_YEAR, DEFAULT_MONTH, date, 0,
+                0, date, 1, 0, "Event " + date, calendar));
+        }
+        assertEquals(0, calendarStorage.saveCount);
+
+        storage.handleLoadCalendarEvent(new LoadCalendarEvent(DEFAULT_CALENDAR_NAME));
+        assertEquals(1, calendarStorage.saveCount);
+        CalendarLoadedEvent loaded = (CalendarLoadedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(3, loaded.calendar.getComponents().size());
+    }
+
+    /**
+     * An {@code IcsCalendarStorage} that counts the calendars it writes.
+     */
+    class CountingIcsCalendarStorage extends IcsCalendarStorage {
+        private int saveCount;
+
+        public CountingIcsCalendarStorage(Path dirPath) {
+            super(dirPath);
+        }
+
+        @Override
+        public synchronized void createCalendar(Calendar calendar, String calendarName) throws IOException {
+            saveCount++;
+            super.createCalendar(calendar, calendarName);
+        }
+    }
+
+    @Test
+    public void handleLoadCalendarRangeEvent_missingCalendar_otherCalendarsLoaded() throws Exception {
+        storageManager.createCalendar(TypicalCalendars.DEFAULT_CALENDAR, DEFAULT_CALENDAR_NAME);
+        storageManager.createCalendar(TypicalCalendars.CHRISTMAS_CALENDAR, CHRISTMAS_CALENDAR_NAME);
+        storageManager.handleLoadCalendarRangeEvent(new LoadCalendarRangeEvent(
+            Arrays.asList(DEFAULT_CALENDAR_NAME, "FEB-2018", CHRISTMAS_CALENDAR_NAME), "JAN-2018 to DEC-2018"));
+
+        // the missing calendar is removed before the others are viewed
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        CalendarRangeLoadedEvent loaded =
+            (CalendarRangeLoadedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Arrays.asList(DEFAULT_CALENDAR_NAME, CHRISTMAS_CALENDAR_NAME), loaded.calendarNames);
+        assertEquals(Arrays.asList(TypicalCalendars.DEFAULT_CALENDAR, TypicalCalendars.CHRISTMAS_CALENDAR),
+            loaded.calendars);
+    }
+
     @Test
     public void handleLoadCalendarEvent_exceptionThrown_eventRaised() {
         // Create a StorageManager while injecting a stub that  throws an exception when the create method is called
@@ -164,7 +286,7 @@ public class StorageManagerTest {
             new JsonUserPrefsStorage(Paths.get("dummy")),
             new IcsCalendarStorageExceptionThrowingStub(Paths.get("dummy")),
             new EmailDirStorage(Paths.get("dummy")),
-            new ProfilePictureDirStorage((Paths.get("dummy")), Paths.get("dummy")));
+            new ProfilePictureDirStorage(Paths.get("dummy")));
         storage.handleLoadCalendarEvent(new LoadCalendarEvent(DEFAULT_CALENDAR_NAME));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof CalendarNotFoundEvent);
     }
@@ -177,7 +299,7 @@ public class StorageManagerTest {
             new JsonUserPrefsStorage(Paths.get("dummy")),
             new IcsCalendarStorageExceptionThrowingStub(Paths.get("dummy")),
             new EmailDirStorage(Paths.get("dummy")),
-            new ProfilePictureDirStorage((Paths.get("dummy")), Paths.get("dummy")));
+            new ProfilePictureDirStorage(Paths.get("dummy")));
         storage.handleAllDayEventAddedEvent(new AllDayEventAddedEvent(DEFAULT_YEAR, DEFAULT_MONTH,
             VALID_CALENDAR_DATE_1, VALID_CALENDAR_TITLE_OCAMP, TypicalCalendars.DEFAULT_CALENDAR));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
@@ -191,7 +313,7 @@ public class StorageManagerTest {
             new JsonUserPrefsStorage(Paths.get("dummy")),
             new IcsCalendarStorageExceptionThrowingStub(Paths.get("dummy")),
             new EmailDirStorage(Paths.get("dummy")),
-            new ProfilePictureDirStorage((Paths.get("dummy")), Paths.get("dummy")));
+            new ProfilePictureDirStorage(Paths.get("dummy")));
         storage.handleCalendarEventAddedEvent(new CalendarEventAddedEvent(DEFAULT_YEAR, DEFAULT_MONTH,
             VALID_CALENDAR_DATE_1, VALID_SHOUR, VALID_SMIN, VALID_CALENDAR_DATE_2, VALID_EHOUR,
             VALID_EMIN, VALID_CALENDAR_TITLE_OCAMP, TypicalCalendars.DEFAULT_CALENDAR));
@@ -206,7 +328,7 @@ public class StorageManagerTest {
             new JsonUserPrefsStorage(Paths.get("dummy")),
             new IcsCalendarStorageExceptionThrowingStub(Paths.get("dummy")),
             new EmailDirStorage(Paths.get("dummy")),
-            new ProfilePictureDirStorage((Paths.get("dummy")), Paths.get("dummy")));
+            new ProfilePictureDirStorage(Paths.get("dummy")));
         storage.handleCalendarEventDeletedEvent(new CalendarEventDeletedEvent(DEFAULT_YEAR, DEFAULT_MONTH,
             VALID_CALENDAR_DATE_1, VALID_CALENDAR_DATE_2, VALID_CALENDAR_TITLE_OCAMP,
             TypicalCalendars.DEFAULT_CALENDAR));
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WriteBehindSaverTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+    private final WriteBehindSaver saver = new WriteBehindSaver(60000, failures::add);
+
+    @After
+    public void tearDown() {
+        saver.shutdown();
+    }
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new WriteBehindSaver(-1, failures::add);
+    }
+
+    @Test
+    public void schedule_burstForSameTarget_onlyLatestWritten() {
+        saver.schedule("ab", () -> written.add("ab1"));
+        saver.schedule("ab", () -> written.add("ab2"));
+        saver.schedule("bb", () -> written.add("bb1"));
+        saver.schedule("ab", () -> written.add("ab3"));
+        assertTrue(written.isEmpty());
+
+        saver.flush();
+        assertEquals(Arrays.asList("ab3", "bb1"), written);
+
+        // nothing left to write
+        saver.flush();
+        assertEquals(2, written.size());
+    }
+
+    @Test
+    public void schedule_noDelay_writtenInBackground() throws Exception {
+        WriteBehindSaver immediateSaver = new WriteBehindSaver(0, failures::add);
+        immediateSaver.schedule("ab", () -> written.add("ab"));
+        immediateSaver.shutdown();
+        assertEquals(Collections.singletonList("ab"), written);
+    }
+
+    @Test
+    public void flush_saveFails_failureReported() {
+        IOException failure = new IOException("dummy exception");
+        saver.schedule("ab", () -> {
+            throw failure;
+        });
+        saver.flush();
+        assertEquals(Collections.singletonList(failure), failures);
+    }
+}
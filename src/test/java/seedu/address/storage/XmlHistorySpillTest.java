@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCcas.HOCKEY;
+import static seedu.address.testutil.TypicalCcas.SOFTBALL;
+import static seedu.address.testutil.TypicalCcas.TRACK;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.cca.CcaListDelta;
+import seedu.address.model.person.Person;
+
+public class XmlHistorySpillTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void addressBookSpill_writeThenRead_sameState() throws Exception {
+        Path directory = testFolder.getRoot().toPath().resolve("history");
+        XmlAddressBookHistorySpill spill = new XmlAddressBookHistorySpill(directory);
+        PersistentList<Person> state = PersistentList.of(getTypicalAddressBook().getPersonList());
+
+        spill.write(3, state);
+        assertEquals(state, spill.read(3));
+
+        spill.delete(3);
+        assertFalse(Files.exists(directory.resolve("addressbook-3.xml")));
+    }
+
+    @Test
+    public void budgetBookSpill_writeThenRead_sameDeltas() throws Exception {
+        XmlBudgetBookHistorySpill spill = new XmlBudgetBookHistorySpill(testFolder.getRoot().toPath());
+        List<CcaListDelta> deltas = Arrays.asList(
+            new CcaListDelta(0, Collections.emptyList(), Arrays.asList(HOCKEY, SOFTBALL)),
+            new CcaListDelta(1, Collections.singletonList(SOFTBALL), Collections.singletonList(TRACK)));
+
+        spill.write(0, deltas);
+        assertEquals(deltas, spill.read(0));
+    }
+
+    @Test
+    public void clear_filesOfBothSpills_onlyOwnFilesDeleted() throws Exception {
+        Path directory = testFolder.getRoot().toPath();
+        XmlAddressBookHistorySpill addressBookSpill = new XmlAddressBookHistorySpill(directory);
+        XmlBudgetBookHistorySpill budgetBookSpill = new XmlBudgetBookHistorySpill(directory);
+        addressBookSpill.write(0, PersistentList.of(getTypicalAddressBook().getPersonList()));
+        addressBookSpill.write(1, PersistentList.of(getTypicalAddressBook().getPersonList()));
+        budgetBookSpill.write(0, Collections.emptyList());
+
+        addressBookSpill.clear();
+        assertFalse(Files.exists(directory.resolve("addressbook-0.xml")));
+        assertFalse(Files.exists(directory.resolve("addressbook-1.xml")));
+        assertTrue(Files.exists(directory.resolve("ccabook-0.xml")));
+
+        budgetBookSpill.clear();
+        assertFalse(Files.exists(directory.resolve("ccabook-0.xml")));
+
+        // missing directory -> nothing to clear
+        new XmlAddressBookHistorySpill(directory.resolve("missing")).clear();
+    }
+
+    @Test
+    public void budgetBookSpill_readMissingEntry_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        new XmlBudgetBookHistorySpill(testFolder.getRoot().toPath()).read(42);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+
+import seedu.address.model.HistorySpill;
+
+/**
+ * A {@code HistorySpill} that accepts history entries but can never read them back.
+ */
+public class UnreadableHistorySpill<T> implements HistorySpill<T> {
+
+    @Override
+    public void write(long id, T entry) {
+    }
+
+    @Override
+    public T read(long id) throws IOException {
+        throw new IOException("Undo history file " + id + " cannot be read.");
+    }
+
+    @Override
+    public void delete(long id) {
+    }
+
+    @Override
+    public void clear() {
+    }
+}
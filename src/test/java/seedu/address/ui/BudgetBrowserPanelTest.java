@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import guitests.guihandles.BudgetBrowserPanelHandle;
 import seedu.address.MainApp;
+import seedu.address.model.BudgetBook;
 
 //@@author ericyjw
 public class BudgetBrowserPanelTest extends GuiUnitTest {
@@ -19,7 +20,7 @@ public class BudgetBrowserPanelTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        guiRobot.interact(() -> budgetBrowserPanel = new BudgetBrowserPanel());
+        guiRobot.interact(() -> budgetBrowserPanel = new BudgetBrowserPanel(new BudgetPageRenderer(new BudgetBook())));
         uiPartRule.setUiPart(budgetBrowserPanel);
 
         budgetBrowserPanelHandle = new BudgetBrowserPanelHandle(budgetBrowserPanel.getRoot());
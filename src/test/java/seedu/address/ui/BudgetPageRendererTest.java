@@ -0,0 +1,64 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalCcas.TRACK;
+import static seedu.address.testutil.TypicalCcas.getTypicalBudgetBook;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.BudgetBookChangedEvent;
+import seedu.address.model.BudgetBook;
+import seedu.address.model.transaction.Entry;
+import seedu.address.testutil.CcaBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class BudgetPageRendererTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private BudgetBook budgetBook = getTypicalBudgetBook();
+    private BudgetPageRenderer renderer = new BudgetPageRenderer(budgetBook);
+
+    @Test
+    public void render_chosenCca_onlyChosenCcaShown() {
+        String page = renderer.render(BASKETBALL.getCcaName());
+        assertTrue(page.contains(BASKETBALL.getCcaName()));
+        assertTrue(page.contains(BASKETBALL.getHeadName()));
+        assertFalse(page.contains(TRACK.getHeadName()));
+
+        page = renderer.render(TRACK.getCcaName());
+        assertTrue(page.contains(TRACK.getHeadName()));
+        assertFalse(page.contains(BASKETBALL.getHeadName()));
+    }
+
+    @Test
+    public void render_ccaWithTransactions_transactionsShown() {
+        String page = renderer.render(BASKETBALL.getCcaName());
+        for (Entry entry : BASKETBALL.getEntries()) {
+            assertTrue(page.contains(entry.getRemarkValue()));
+        }
+    }
+
+    @Test
+    public void render_sameCcaTwice_pageReused() {
+        assertSame(renderer.render(BASKETBALL.getCcaName()), renderer.render(BASKETBALL.getCcaName()));
+    }
+
+    @Test
+    public void render_budgetBookChanged_pageRenderedAgain() {
+        String page = renderer.render(BASKETBALL.getCcaName());
+        budgetBook.updateCca(BASKETBALL, new CcaBuilder(BASKETBALL).withHead("Zachary Tan").build());
+        EventsCenter.getInstance().post(new BudgetBookChangedEvent(budgetBook));
+
+        String changedPage = renderer.render(BASKETBALL.getCcaName());
+        assertNotSame(page, changedPage);
+        assertTrue(changedPage.contains("Zachary Tan"));
+    }
+}
@@ -34,6 +34,7 @@ import guitests.guihandles.MainWindowHandle;
 import guitests.guihandles.PersonListPanelHandle;
 import guitests.guihandles.ResultDisplayHandle;
 import guitests.guihandles.StatusBarFooterHandle;
+import guitests.guihandles.exceptions.NodeNotFoundException;
 import jfxtras.icalendarfx.VCalendar;
 import seedu.address.MainApp;
 import seedu.address.TestApp;
@@ -123,7 +124,7 @@ public abstract class AddressBookSystemTest {
     }
 
     public CalendarPanelHandle getCalendarPanel() {
-        return mainWindowHandle.getCalendarPanel();
+        return mainWindowHandle.getCalendarPanel().orElseThrow(NodeNotFoundException::new);
     }
 
     public StatusBarFooterHandle getStatusBarFooter() {
@@ -213,7 +214,7 @@ public abstract class AddressBookSystemTest {
     private void rememberStates() {
         StatusBarFooterHandle statusBarFooterHandle = getStatusBarFooter();
         //getBrowserPanel().rememberUrl();
-        getCalendarPanel().rememberCalendar();
+        mainWindowHandle.getCalendarPanel().ifPresent(CalendarPanelHandle::rememberCalendar);
         statusBarFooterHandle.rememberSaveLocation();
         statusBarFooterHandle.rememberSyncStatus();
         getPersonListPanel().rememberSelectedPersonCard();
@@ -225,7 +226,7 @@ public abstract class AddressBookSystemTest {
      * @see CalendarPanelHandle#isCalendarChanged()
      */
     protected void assertCalendarUnchanged() {
-        assertFalse(getCalendarPanel().isCalendarChanged());
+        mainWindowHandle.getCalendarPanel().ifPresent(calendarPanel -> assertFalse(calendarPanel.isCalendarChanged()));
     }
 
     /**